@@ -0,0 +1,100 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of encoding contract call parameters and decoding contract call results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContractFunctionBenchmark {
+    private static final String ADDRESS = "1122334455667788990011223344556677889900";
+
+    ContractFunctionParameters parameters;
+    ContractFunctionResult result;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        parameters = newParameters();
+        result = new ContractFunctionResult(com.hedera.hashgraph.sdk.proto.ContractFunctionResult.newBuilder()
+            .setContractID(new ContractId(1001).toProtobuf())
+            .setContractCallResult(newParameters().toBytes(null))
+            .build());
+    }
+
+    private static ContractFunctionParameters newParameters() {
+        return new ContractFunctionParameters()
+            .addString("hello, world")
+            .addUint256(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(64))
+            .addInt64(-42)
+            .addBool(true)
+            .addAddress(ADDRESS)
+            .addBytes(new byte[100]);
+    }
+
+    @Benchmark
+    public ByteString parametersToBytes() {
+        return parameters.toBytes("transfer");
+    }
+
+    @Benchmark
+    public ByteString buildAndEncodeParameters() {
+        return newParameters().toBytes("transfer");
+    }
+
+    @Benchmark
+    public String resultGetString() {
+        return result.getString(0);
+    }
+
+    @Benchmark
+    public BigInteger resultGetUint256() {
+        return result.getUint256(1);
+    }
+
+    @Benchmark
+    public long resultGetInt64() {
+        return result.getInt64(2);
+    }
+
+    @Benchmark
+    public String resultGetAddress() {
+        return result.getAddress(4);
+    }
+
+    @Benchmark
+    public byte[] resultGetBytes() {
+        return result.getBytes(5);
+    }
+}
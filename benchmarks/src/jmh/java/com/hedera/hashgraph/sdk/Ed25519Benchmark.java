@@ -0,0 +1,79 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of Ed25519 signing and verification with a single long lived key, which is how an operator key
+ * is used when signing every transaction a {@link Client} sends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Ed25519Benchmark {
+    private static final byte[] MESSAGE = "hello, world".getBytes(StandardCharsets.UTF_8);
+
+    PrivateKey privateKey;
+    PublicKey publicKey;
+    byte[] signature;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        privateKey = PrivateKey.generateED25519();
+        publicKey = privateKey.getPublicKey();
+        signature = privateKey.sign(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] sign01Thread() {
+        return privateKey.sign(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] sign04Threads() {
+        return privateKey.sign(MESSAGE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean verify01Thread() {
+        return publicKey.verify(MESSAGE, signature);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean verify04Threads() {
+        return publicKey.verify(MESSAGE, signature);
+    }
+}
@@ -0,0 +1,102 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.mock.LatencyDistribution;
+import com.hedera.hashgraph.sdk.mock.MockNetwork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.threeten.bp.Duration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Throughput of {@link Executable#execute(Client)} against a simulated in-process network, so the cost of the
+ * SDK's own request path is measured without any real network in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecuteBenchmark {
+    /**
+     * The probability of each node answering {@code BUSY}, to include the retry path.
+     */
+    @Param({"0", "0.1"})
+    double busyProbability;
+
+    MockNetwork network;
+    Client client;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        network = MockNetwork.withNodes(7);
+
+        for (var node : network.getNodes()) {
+            node.setLatency(LatencyDistribution.logNormal(Duration.ofMillis(1), 0.5))
+                .setBusyProbability(busyProbability);
+        }
+
+        client = network.createClient()
+            .setMinBackoff(Duration.ZERO)
+            .setMaxBackoff(Duration.ZERO)
+            .setNodeMinBackoff(Duration.ZERO)
+            .setNodeMaxBackoff(Duration.ZERO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws TimeoutException, InterruptedException {
+        network.close();
+    }
+
+    private TransactionResponse transfer() throws PrecheckStatusException, TimeoutException {
+        return new TransferTransaction()
+            .addHbarTransfer(network.getOperatorAccountId(), Hbar.fromTinybars(-1))
+            .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(1))
+            .execute(client);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public TransactionResponse executeTransfer01Thread() throws PrecheckStatusException, TimeoutException {
+        return transfer();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public TransactionResponse executeTransfer16Threads() throws PrecheckStatusException, TimeoutException {
+        return transfer();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public TransactionReceipt executeTransferAndGetReceipt16Threads() throws PrecheckStatusException, TimeoutException, ReceiptStatusException {
+        return transfer().getReceipt(client);
+    }
+}
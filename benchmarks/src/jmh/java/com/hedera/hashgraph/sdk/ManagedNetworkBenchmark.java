@@ -0,0 +1,131 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of node selection on a mainnet sized network as the number of concurrent callers grows.
+ *
+ * Every request executed by a {@link Client} goes through {@link ManagedNetwork#getNode(Object)} once per node
+ * account ID and through {@link ManagedNetwork#getNumberOfMostHealthyNodes(int)} once when the node account IDs
+ * are not set explicitly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ManagedNetworkBenchmark {
+    private static final AccountId NODE_ACCOUNT_ID = new AccountId(3);
+
+    ExecutorService executor;
+    Network network;
+    int nodesPerRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Client.createExecutor();
+        network = Network.forMainnet(executor);
+        nodesPerRequest = network.getNumberOfNodesForRequest();
+
+        // Give the nodes distinct health so the weighted picker has something to do
+        var i = 0;
+        for (var node : network.nodes) {
+            node.recordSuccess(TimeUnit.MILLISECONDS.toNanos(20 + (i++ % 10) * 10));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Node getNode01Thread() {
+        return network.getNode(null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Node getNode04Threads() {
+        return network.getNode(null);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Node getNode16Threads() {
+        return network.getNode(null);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Node getNode64Threads() {
+        return network.getNode(null);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Node getNodeForKey01Thread() {
+        return network.getNode(NODE_ACCOUNT_ID);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Node getNodeForKey64Threads() {
+        return network.getNode(NODE_ACCOUNT_ID);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Node> getNumberOfMostHealthyNodes01Thread() throws InterruptedException {
+        return network.getNumberOfMostHealthyNodes(nodesPerRequest);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Node> getNumberOfMostHealthyNodes04Threads() throws InterruptedException {
+        return network.getNumberOfMostHealthyNodes(nodesPerRequest);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public List<Node> getNumberOfMostHealthyNodes16Threads() throws InterruptedException {
+        return network.getNumberOfMostHealthyNodes(nodesPerRequest);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public List<Node> getNumberOfMostHealthyNodes64Threads() throws InterruptedException {
+        return network.getNumberOfMostHealthyNodes(nodesPerRequest);
+    }
+}
@@ -0,0 +1,130 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Latency of the steps every transaction goes through before it is sent: freezing, signing and serializing.
+ * {@link TransactionFromBytesBenchmark} covers the way back.
+ * <p>
+ * Signatures are only computed when a transaction is serialized, and a transaction can only be signed and
+ * serialized once, so {@link #signToBytes} and its unsigned baseline {@link #toBytes} each work through a batch of
+ * {@value #BATCH_SIZE} transactions frozen before the measurement; their score is the time for the whole batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionBenchmark {
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "30"})
+    int nodeCount;
+
+    Client client;
+    List<AccountId> nodeAccountIds;
+    PrivateKey key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        key = PrivateKey.generateED25519();
+        client = Client.forNetwork(Collections.emptyMap()).setOperator(new AccountId(1001), key);
+
+        nodeAccountIds = new ArrayList<>(nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws TimeoutException {
+        client.close();
+    }
+
+    private TransferTransaction newTransaction() {
+        return new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .addHbarTransfer(new AccountId(1001), new Hbar(1).negated())
+            .addHbarTransfer(new AccountId(1002), new Hbar(1));
+    }
+
+    /**
+     * Frozen, unsigned transactions, rebuilt before every measured batch.
+     */
+    @State(Scope.Thread)
+    public static class Batch {
+        TransferTransaction[] frozen;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setup(TransactionBenchmark benchmark) {
+            frozen = new TransferTransaction[BATCH_SIZE];
+            for (var i = 0; i < BATCH_SIZE; i++) {
+                frozen[i] = benchmark.newTransaction().freezeWith(benchmark.client);
+            }
+
+            next = 0;
+        }
+
+        TransferTransaction next() {
+            return frozen[next++];
+        }
+    }
+
+    @Benchmark
+    public TransferTransaction freezeWith() {
+        return newTransaction().freezeWith(client);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(batchSize = BATCH_SIZE)
+    @Measurement(batchSize = BATCH_SIZE)
+    public byte[] toBytes(Batch batch) {
+        return batch.next().toBytes();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(batchSize = BATCH_SIZE)
+    @Measurement(batchSize = BATCH_SIZE)
+    public byte[] signToBytes(Batch batch) {
+        return batch.next().sign(key).toBytes();
+    }
+}
@@ -0,0 +1,89 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link Transaction#fromBytes(byte[])} for signed transactions built for one node and for a full set
+ * of nodes, which is what a signing service receives back from its signers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionFromBytesBenchmark {
+    @Param({"1", "30"})
+    int nodeCount;
+
+    byte[] transferBytes;
+    byte[] topicMessageBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var nodeAccountIds = new ArrayList<AccountId>(nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        var key = PrivateKey.generateED25519();
+        var transactionId = TransactionId.generate(new AccountId(1001));
+
+        transferBytes = new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(transactionId)
+            .addHbarTransfer(new AccountId(1001), new Hbar(1).negated())
+            .addHbarTransfer(new AccountId(1002), new Hbar(1))
+            .freeze()
+            .sign(key)
+            .toBytes();
+
+        // Four chunks, so there are four transaction IDs per node
+        topicMessageBytes = new TopicMessageSubmitTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(transactionId)
+            .setTopicId(new TopicId(1003))
+            .setMessage(new byte[1024 * 4])
+            .freeze()
+            .sign(key)
+            .toBytes();
+    }
+
+    @Benchmark
+    public Transaction<?> transferFromBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(transferBytes);
+    }
+
+    @Benchmark
+    public Transaction<?> chunkedTopicMessageFromBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(topicMessageBytes);
+    }
+}
@@ -0,0 +1,104 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import org.threeten.bp.Duration;
+
+import java.util.Random;
+
+/**
+ * A source of simulated delays, such as the time a node takes to answer a request or the time a transaction
+ * takes to reach consensus.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    /**
+     * Draw the next delay.
+     *
+     * @param random                    the source of randomness to draw from
+     * @return                          the delay in nanoseconds, never negative
+     */
+    long nextNanos(Random random);
+
+    /**
+     * No delay at all.
+     *
+     * @return                          the distribution
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * The same delay every time.
+     *
+     * @param latency                   the delay
+     * @return                          the distribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        var nanos = requireNonNegative(latency);
+        return random -> nanos;
+    }
+
+    /**
+     * A delay drawn uniformly between two bounds.
+     *
+     * @param min                       the shortest delay
+     * @param max                       the longest delay
+     * @return                          the distribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        var minNanos = requireNonNegative(min);
+        var maxNanos = requireNonNegative(max);
+
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("max must be greater than or equal to min");
+        }
+
+        return random -> minNanos + (long) (random.nextDouble() * (maxNanos - minNanos));
+    }
+
+    /**
+     * A long-tailed delay, which is closer to real network latency than a uniform one: most requests take about
+     * the median, and a few take many times longer.
+     *
+     * @param median                    the median delay
+     * @param sigma                     the standard deviation of the delay's logarithm; 0.5 gives a p99 about
+     *                                  three times the median
+     * @return                          the distribution
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        var medianNanos = requireNonNegative(median);
+
+        if (sigma < 0) {
+            throw new IllegalArgumentException("sigma must be non-negative");
+        }
+
+        return random -> (long) (medianNanos * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private static long requireNonNegative(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("latency must be non-negative");
+        }
+
+        return duration.toNanos();
+    }
+}
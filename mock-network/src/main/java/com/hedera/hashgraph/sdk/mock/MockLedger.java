@@ -0,0 +1,190 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The state shared by every node of a simulated network: which transactions were accepted, and their receipts
+ * once they reach consensus.
+ */
+final class MockLedger {
+    private final ScheduledExecutorService scheduler;
+    private final MockMirrorNode mirrorNode;
+    private final Map<TransactionID, Entry> transactions = new ConcurrentHashMap<>();
+    private final AtomicLong lastConsensusNanos = new AtomicLong();
+    private volatile LatencyDistribution consensusDelay = LatencyDistribution.none();
+
+    MockLedger(ScheduledExecutorService scheduler, MockMirrorNode mirrorNode) {
+        this.scheduler = scheduler;
+        this.mirrorNode = mirrorNode;
+    }
+
+    void setConsensusDelay(LatencyDistribution consensusDelay) {
+        this.consensusDelay = consensusDelay;
+    }
+
+    int getTransactionCount() {
+        return transactions.size();
+    }
+
+    /**
+     * Accept a transaction submitted to a node, as long as it passes the checks a node would make before
+     * forwarding it to consensus.
+     *
+     * @param nodeAccountId             the node the transaction was submitted to
+     * @param transaction               the transaction
+     * @return                          the node's response
+     * @throws InvalidProtocolBufferException       when the transaction cannot be parsed
+     */
+    TransactionResponse submit(AccountID nodeAccountId, Transaction transaction) throws InvalidProtocolBufferException {
+        var bodyBytes = transaction.getSignedTransactionBytes().isEmpty() ?
+            transaction.getBodyBytes() :
+            SignedTransaction.parseFrom(transaction.getSignedTransactionBytes()).getBodyBytes();
+        var body = TransactionBody.parseFrom(bodyBytes);
+
+        if (!body.getNodeAccountID().equals(nodeAccountId)) {
+            return precheck(ResponseCodeEnum.INVALID_NODE_ACCOUNT);
+        }
+
+        if (!body.hasTransactionID()) {
+            return precheck(ResponseCodeEnum.INVALID_TRANSACTION_ID);
+        }
+
+        var entry = new Entry();
+
+        if (transactions.putIfAbsent(body.getTransactionID(), entry) != null) {
+            return precheck(ResponseCodeEnum.DUPLICATE_TRANSACTION);
+        }
+
+        scheduler.schedule(
+            () -> reachConsensus(body, entry),
+            consensusDelay.nextNanos(ThreadLocalRandom.current()),
+            TimeUnit.NANOSECONDS
+        );
+
+        return precheck(ResponseCodeEnum.OK);
+    }
+
+    /**
+     * Answer a query. Only receipt queries are supported.
+     *
+     * @param query                     the query
+     * @param precheckCode              the precheck code to answer with, when it is not {@code OK}
+     * @return                          the response, or {@code null} if the query is not supported
+     */
+    @Nullable
+    Response answer(Query query, ResponseCodeEnum precheckCode) {
+        if (!query.hasTransactionGetReceipt()) {
+            return null;
+        }
+
+        var response = TransactionGetReceiptResponse.newBuilder();
+
+        if (precheckCode != ResponseCodeEnum.OK) {
+            response.setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheckCode));
+        } else {
+            var entry = transactions.get(query.getTransactionGetReceipt().getTransactionID());
+
+            if (entry == null) {
+                response.setHeader(ResponseHeader.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.RECEIPT_NOT_FOUND));
+            } else {
+                var receipt = entry.receipt;
+
+                response
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                    .setReceipt(receipt != null ?
+                        receipt :
+                        TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.UNKNOWN).build());
+            }
+        }
+
+        return Response.newBuilder().setTransactionGetReceipt(response).build();
+    }
+
+    private void reachConsensus(TransactionBody body, Entry entry) {
+        var consensusTimestamp = nextConsensusTimestamp();
+        var receipt = TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS);
+
+        if (body.hasConsensusSubmitMessage()) {
+            var submit = body.getConsensusSubmitMessage();
+            var response = ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(consensusTimestamp)
+                .setMessage(submit.getMessage());
+
+            if (submit.hasChunkInfo()) {
+                response.setChunkInfo(submit.getChunkInfo());
+            }
+
+            var message = mirrorNode.publish(submit.getTopicID(), response);
+
+            receipt
+                .setTopicSequenceNumber(message.getSequenceNumber())
+                .setTopicRunningHash(message.getRunningHash())
+                .setTopicRunningHashVersion(message.getRunningHashVersion());
+        }
+
+        entry.receipt = receipt.build();
+    }
+
+    private Timestamp nextConsensusTimestamp() {
+        // Consensus timestamps are unique and increasing, even when two transactions finish in the same instant
+        var nanos = lastConsensusNanos.updateAndGet(
+            last -> Math.max(last + 1, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()))
+        );
+
+        return Timestamp.newBuilder()
+            .setSeconds(nanos / 1_000_000_000)
+            .setNanos((int) (nanos % 1_000_000_000))
+            .build();
+    }
+
+    private static TransactionResponse precheck(ResponseCodeEnum code) {
+        return TransactionResponse.newBuilder().setNodeTransactionPrecheckCode(code).build();
+    }
+
+    private static final class Entry {
+        @Nullable
+        volatile TransactionReceipt receipt = null;
+    }
+}
@@ -0,0 +1,199 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A simulated mirror node which streams the messages that reached consensus on the simulated network's topics.
+ */
+final class MockMirrorNode implements AutoCloseable {
+    private final String name = InProcessServerBuilder.generateName();
+    private final Map<TopicID, Topic> topics = new ConcurrentHashMap<>();
+    private final Server server;
+
+    MockMirrorNode() {
+        try {
+            server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                    @Override
+                    public void subscribeTopic(
+                        ConsensusTopicQuery request,
+                        StreamObserver<ConsensusTopicResponse> responseObserver
+                    ) {
+                        subscribe(request, (ServerCallStreamObserver<ConsensusTopicResponse>) responseObserver);
+                    }
+                })
+                .build()
+                .start();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    String getAddress() {
+        return "in-process:" + name;
+    }
+
+    /**
+     * Record a message that reached consensus and send it to the topic's subscribers.
+     *
+     * @param topicId                   the topic
+     * @param response                  the message, without its sequence number or running hash
+     * @return                          the message as recorded, with its sequence number and running hash
+     */
+    ConsensusTopicResponse publish(TopicID topicId, ConsensusTopicResponse.Builder response) {
+        return topics.computeIfAbsent(topicId, id -> new Topic()).publish(response);
+    }
+
+    long getMessageCount(TopicID topicId) {
+        var topic = topics.get(topicId);
+        return topic != null ? topic.getMessageCount() : 0;
+    }
+
+    private void subscribe(ConsensusTopicQuery query, ServerCallStreamObserver<ConsensusTopicResponse> observer) {
+        var topic = topics.computeIfAbsent(query.getTopicID(), id -> new Topic());
+        var subscriber = new Subscriber(query, observer);
+
+        observer.setOnCancelHandler(() -> topic.unsubscribe(subscriber));
+        topic.subscribe(subscriber);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow();
+        server.awaitTermination();
+    }
+
+    private static final class Topic {
+        private final List<ConsensusTopicResponse> messages = new ArrayList<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private byte[] runningHash = new byte[48];
+
+        synchronized ConsensusTopicResponse publish(ConsensusTopicResponse.Builder builder) {
+            // Chained like the network's running hash, though not with the same inputs
+            try {
+                var digest = MessageDigest.getInstance("SHA-384");
+                digest.update(runningHash);
+                digest.update(builder.getMessage().asReadOnlyByteBuffer());
+                runningHash = digest.digest();
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+
+            var message = builder
+                .setSequenceNumber(messages.size() + 1)
+                .setRunningHash(ByteString.copyFrom(runningHash))
+                .setRunningHashVersion(3)
+                .build();
+            messages.add(message);
+
+            // Deliver while holding the lock so every subscriber sees messages in sequence order
+            subscribers.removeIf(subscriber -> !subscriber.offer(message));
+
+            return message;
+        }
+
+        synchronized void subscribe(Subscriber subscriber) {
+            for (var message : messages) {
+                if (!subscriber.offer(message)) {
+                    return;
+                }
+            }
+
+            subscribers.add(subscriber);
+        }
+
+        synchronized void unsubscribe(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        synchronized long getMessageCount() {
+            return messages.size();
+        }
+    }
+
+    private static final class Subscriber {
+        private final ConsensusTopicQuery query;
+        private final ServerCallStreamObserver<ConsensusTopicResponse> observer;
+        private long sent = 0;
+
+        Subscriber(ConsensusTopicQuery query, ServerCallStreamObserver<ConsensusTopicResponse> observer) {
+            this.query = query;
+            this.observer = observer;
+        }
+
+        /**
+         * Send a message if it falls inside the subscription's window.
+         *
+         * @param message               the message
+         * @return                      whether the subscription is still open
+         */
+        boolean offer(ConsensusTopicResponse message) {
+            if (observer.isCancelled()) {
+                return false;
+            }
+
+            var timestamp = message.getConsensusTimestamp();
+
+            if (query.hasConsensusStartTime() && compare(timestamp, query.getConsensusStartTime()) < 0) {
+                return true;
+            }
+
+            if (query.hasConsensusEndTime() && compare(timestamp, query.getConsensusEndTime()) >= 0) {
+                observer.onCompleted();
+                return false;
+            }
+
+            observer.onNext(message);
+            sent += 1;
+
+            if (query.getLimit() != 0 && sent >= query.getLimit()) {
+                observer.onCompleted();
+                return false;
+            }
+
+            return true;
+        }
+
+        private static int compare(Timestamp a, Timestamp b) {
+            var bySeconds = Long.compare(a.getSeconds(), b.getSeconds());
+            return bySeconds != 0 ? bySeconds : Integer.compare(a.getNanos(), b.getNanos());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A simulated Hedera network running in the current process, for testing and load-testing code that uses the
+ * SDK without a live network.
+ * <p>
+ * Each node is an in-process gRPC server that understands the Hedera protocol well enough to be driven by a
+ * {@link Client}: it checks that a transaction was sent to the right node, rejects duplicates, and answers
+ * receipt queries with {@code UNKNOWN} until the transaction reaches consensus and with {@code SUCCESS} after.
+ * Topic messages that reach consensus are streamed by a simulated mirror node.
+ * <p>
+ * Latency, consensus delay and injected errors are configurable per node, which makes it possible to measure
+ * client throughput, retry behaviour and node failover:
+ * <pre>{@code
+ * try (var network = MockNetwork.withNodes(7)) {
+ *     network.setConsensusDelay(LatencyDistribution.uniform(Duration.ofSeconds(2), Duration.ofSeconds(4)));
+ *     network.getNodes().forEach(node -> node.setLatency(LatencyDistribution.logNormal(Duration.ofMillis(50), 0.5)));
+ *     network.getNodes().get(0).setBusyProbability(0.2);
+ *
+ *     var client = network.createClient();
+ *     // ...
+ * }
+ * }</pre>
+ * No signatures are verified and every transaction succeeds once it reaches consensus; only receipt queries are
+ * answered.
+ */
+public final class MockNetwork implements AutoCloseable {
+    private static final AccountId OPERATOR_ACCOUNT_ID = new AccountId(2);
+
+    private final ScheduledExecutorService scheduler;
+    private final MockMirrorNode mirrorNode;
+    private final MockLedger ledger;
+    private final List<MockNode> nodes;
+    private final PrivateKey operatorKey = PrivateKey.generateED25519();
+    private final List<Client> clients = new ArrayList<>();
+
+    private MockNetwork(int nodeCount) {
+        var threadCount = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            var thread = new Thread(runnable, "mock-network-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        mirrorNode = new MockMirrorNode();
+        ledger = new MockLedger(scheduler, mirrorNode);
+
+        var nodes = new ArrayList<MockNode>(nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodes.add(new MockNode(new AccountId(3 + i), ledger, scheduler));
+        }
+        this.nodes = Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Start a simulated network whose nodes have the account IDs {@code 0.0.3} and up.
+     *
+     * @param nodeCount                 the number of nodes
+     * @return                          the running network
+     */
+    public static MockNetwork withNodes(int nodeCount) {
+        if (nodeCount <= 0) {
+            throw new IllegalArgumentException("nodeCount must be greater than zero");
+        }
+
+        return new MockNetwork(nodeCount);
+    }
+
+    /**
+     * Extract the nodes of the network.
+     *
+     * @return                          the nodes, in account ID order
+     */
+    public List<MockNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Extract the network's address book, in the form {@link Client#forNetwork(Map)} takes.
+     *
+     * @return                          the node addresses and their account IDs
+     */
+    public Map<String, AccountId> getNetwork() {
+        var network = new HashMap<String, AccountId>(nodes.size());
+
+        for (var node : nodes) {
+            network.put(node.getAddress(), node.getAccountId());
+        }
+
+        return network;
+    }
+
+    /**
+     * Extract the address of the simulated mirror node, in the form {@link Client#setMirrorNetwork(List)} takes.
+     *
+     * @return                          the mirror node address
+     */
+    public String getMirrorNodeAddress() {
+        return mirrorNode.getAddress();
+    }
+
+    /**
+     * Extract the account ID of the operator of clients created by {@link #createClient()}.
+     *
+     * @return                          the operator account ID
+     */
+    public AccountId getOperatorAccountId() {
+        return OPERATOR_ACCOUNT_ID;
+    }
+
+    /**
+     * Extract the key of the operator of clients created by {@link #createClient()}.
+     *
+     * @return                          the operator key
+     */
+    public PrivateKey getOperatorKey() {
+        return operatorKey;
+    }
+
+    /**
+     * Assign the distribution of the time between a node accepting a transaction and the transaction reaching
+     * consensus, which is how long receipt queries report {@code UNKNOWN}.
+     *
+     * @param consensusDelay            the consensus delay distribution
+     * @return {@code this}
+     */
+    public MockNetwork setConsensusDelay(LatencyDistribution consensusDelay) {
+        ledger.setConsensusDelay(consensusDelay);
+        return this;
+    }
+
+    /**
+     * Extract the number of distinct transactions the network has accepted.
+     *
+     * @return                          the number of transactions
+     */
+    public int getTransactionCount() {
+        return ledger.getTransactionCount();
+    }
+
+    /**
+     * Extract the number of messages that reached consensus on a topic.
+     *
+     * @param topicId                   the topic
+     * @return                          the number of messages
+     */
+    public long getTopicMessageCount(TopicId topicId) {
+        return mirrorNode.getMessageCount(TopicID.newBuilder()
+            .setShardNum(topicId.shard)
+            .setRealmNum(topicId.realm)
+            .setTopicNum(topicId.num)
+            .build());
+    }
+
+    /**
+     * Create a client connected to every node and to the mirror node, with an operator set.
+     * <p>
+     * The client is closed with the network.
+     *
+     * @return                          the client
+     * @throws InterruptedException     when the thread is interrupted while setting the mirror network
+     */
+    public synchronized Client createClient() throws InterruptedException {
+        var client = Client.forNetwork(getNetwork())
+            .setMirrorNetwork(Collections.singletonList(getMirrorNodeAddress()))
+            .setOperator(OPERATOR_ACCOUNT_ID, operatorKey);
+
+        clients.add(client);
+
+        return client;
+    }
+
+    @Override
+    public synchronized void close() throws TimeoutException, InterruptedException {
+        for (var client : clients) {
+            client.close();
+        }
+
+        for (var node : nodes) {
+            node.close();
+        }
+
+        mirrorNode.close();
+
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
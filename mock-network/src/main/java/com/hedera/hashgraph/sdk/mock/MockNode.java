@@ -0,0 +1,291 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FreezeServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.NetworkServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ScheduleServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.SmartContractServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One consensus node of a {@link MockNetwork}.
+ * <p>
+ * A node answers every transaction and query after a delay drawn from its latency distribution. Its behaviour
+ * can be changed at any time, including while a load test is running, to simulate a node becoming busy or going
+ * down.
+ */
+public final class MockNode implements AutoCloseable {
+    private static final List<ServiceDescriptor> SERVICES = Arrays.asList(
+        ConsensusServiceGrpc.getServiceDescriptor(),
+        CryptoServiceGrpc.getServiceDescriptor(),
+        FileServiceGrpc.getServiceDescriptor(),
+        FreezeServiceGrpc.getServiceDescriptor(),
+        NetworkServiceGrpc.getServiceDescriptor(),
+        ScheduleServiceGrpc.getServiceDescriptor(),
+        SmartContractServiceGrpc.getServiceDescriptor(),
+        TokenServiceGrpc.getServiceDescriptor()
+    );
+
+    private final AccountId accountId;
+    private final AccountID accountIdProto;
+    private final String name = InProcessServerBuilder.generateName();
+    private final MockLedger ledger;
+    private final ScheduledExecutorService scheduler;
+    private final Server server;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double busyProbability = 0;
+    private volatile double platformTransactionNotCreatedProbability = 0;
+    private volatile boolean down = false;
+
+    private final AtomicLong transactionCount = new AtomicLong();
+    private final AtomicLong queryCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+
+    MockNode(AccountId accountId, MockLedger ledger, ScheduledExecutorService scheduler) {
+        this.accountId = accountId;
+        this.accountIdProto = AccountID.newBuilder()
+            .setShardNum(accountId.shard)
+            .setRealmNum(accountId.realm)
+            .setAccountNum(accountId.num)
+            .build();
+        this.ledger = ledger;
+        this.scheduler = scheduler;
+
+        var builder = InProcessServerBuilder.forName(name).directExecutor();
+
+        for (var service : SERVICES) {
+            var definition = ServerServiceDefinition.builder(service);
+
+            for (var method : service.getMethods()) {
+                @SuppressWarnings("unchecked")
+                var unaryMethod = (MethodDescriptor<Object, Object>) method;
+                definition.addMethod(ServerMethodDefinition.create(unaryMethod, ServerCalls.asyncUnaryCall(this::handle)));
+            }
+
+            builder.addService(definition.build());
+        }
+
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Extract the node's account ID.
+     *
+     * @return                          the account ID
+     */
+    public AccountId getAccountId() {
+        return accountId;
+    }
+
+    /**
+     * Extract the address to pass to {@link com.hedera.hashgraph.sdk.Client#forNetwork(java.util.Map)}.
+     *
+     * @return                          the in-process address
+     */
+    public String getAddress() {
+        return "in-process:" + name;
+    }
+
+    /**
+     * Assign the distribution of the time the node takes to answer each request.
+     *
+     * @param latency                   the latency distribution
+     * @return {@code this}
+     */
+    public MockNode setLatency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Assign the probability that the node answers a transaction or receipt query with {@code BUSY}.
+     *
+     * @param busyProbability           the probability, between 0 and 1
+     * @return {@code this}
+     */
+    public MockNode setBusyProbability(double busyProbability) {
+        this.busyProbability = requireProbability(busyProbability);
+        return this;
+    }
+
+    /**
+     * Assign the probability that the node answers a transaction with {@code PLATFORM_TRANSACTION_NOT_CREATED}.
+     *
+     * @param platformTransactionNotCreatedProbability the probability, between 0 and 1
+     * @return {@code this}
+     */
+    public MockNode setPlatformTransactionNotCreatedProbability(double platformTransactionNotCreatedProbability) {
+        this.platformTransactionNotCreatedProbability = requireProbability(platformTransactionNotCreatedProbability);
+        return this;
+    }
+
+    /**
+     * Take the node down or bring it back up. A node which is down fails every request with {@code UNAVAILABLE},
+     * after its usual latency.
+     *
+     * @param down                      whether the node is down
+     * @return {@code this}
+     */
+    public MockNode setDown(boolean down) {
+        this.down = down;
+        return this;
+    }
+
+    /**
+     * Extract the number of transactions submitted to the node, including ones that failed.
+     *
+     * @return                          the number of transactions
+     */
+    public long getTransactionCount() {
+        return transactionCount.get();
+    }
+
+    /**
+     * Extract the number of queries sent to the node, including ones that failed.
+     *
+     * @return                          the number of queries
+     */
+    public long getQueryCount() {
+        return queryCount.get();
+    }
+
+    /**
+     * Extract the number of requests the node failed on purpose, because it was down or because of an injected
+     * {@code BUSY} or {@code PLATFORM_TRANSACTION_NOT_CREATED}.
+     *
+     * @return                          the number of failed requests
+     */
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    private void handle(Object request, StreamObserver<Object> responseObserver) {
+        if (request instanceof Transaction) {
+            transactionCount.incrementAndGet();
+        } else {
+            queryCount.incrementAndGet();
+        }
+
+        // Delay on the shared scheduler rather than sleeping, so thousands of requests can be in flight at once
+        scheduler.schedule(
+            () -> respond(request, responseObserver),
+            latency.nextNanos(ThreadLocalRandom.current()),
+            TimeUnit.NANOSECONDS
+        );
+    }
+
+    private void respond(Object request, StreamObserver<Object> responseObserver) {
+        if (down) {
+            injectedErrorCount.incrementAndGet();
+            responseObserver.onError(Status.UNAVAILABLE.withDescription("node is down").asRuntimeException());
+            return;
+        }
+
+        var precheckCode = drawPrecheckCode(request instanceof Transaction);
+        if (precheckCode != ResponseCodeEnum.OK) {
+            injectedErrorCount.incrementAndGet();
+        }
+
+        Object response;
+        try {
+            if (request instanceof Transaction) {
+                response = precheckCode != ResponseCodeEnum.OK ?
+                    TransactionResponse.newBuilder().setNodeTransactionPrecheckCode(precheckCode).build() :
+                    ledger.submit(accountIdProto, (Transaction) request);
+            } else {
+                response = ledger.answer((Query) request, precheckCode);
+            }
+        } catch (InvalidProtocolBufferException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+
+        if (response == null) {
+            responseObserver.onError(Status.UNIMPLEMENTED
+                .withDescription("the mock network only answers transaction receipt queries")
+                .asRuntimeException());
+            return;
+        }
+
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private ResponseCodeEnum drawPrecheckCode(boolean isTransaction) {
+        var draw = ThreadLocalRandom.current().nextDouble();
+
+        if (draw < busyProbability) {
+            return ResponseCodeEnum.BUSY;
+        }
+
+        if (isTransaction && draw < busyProbability + platformTransactionNotCreatedProbability) {
+            return ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
+        }
+
+        return ResponseCodeEnum.OK;
+    }
+
+    private static double requireProbability(double probability) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be between 0 and 1");
+        }
+
+        return probability;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow();
+        server.awaitTermination();
+    }
+}
@@ -0,0 +1,166 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk.mock;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.MaxAttemptsExceededException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessage;
+import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.TransactionReceiptQuery;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MockNetworkTest {
+    @Test
+    void transactionsSucceedOnceTheyReachConsensus() throws Exception {
+        try (var network = MockNetwork.withNodes(3)) {
+            network.setConsensusDelay(LatencyDistribution.fixed(Duration.ofMillis(100)));
+            network.getNodes().forEach(node -> node.setLatency(LatencyDistribution.uniform(Duration.ZERO, Duration.ofMillis(5))));
+
+            var client = network.createClient();
+
+            var receipt = new TransferTransaction()
+                .addHbarTransfer(network.getOperatorAccountId(), new Hbar(1).negated())
+                .addHbarTransfer(new AccountId(1001), new Hbar(1))
+                .execute(client)
+                .getReceipt(client);
+
+            assertThat(receipt.status).isEqualTo(Status.SUCCESS);
+            assertThat(network.getTransactionCount()).isEqualTo(1);
+            assertThat(network.getNodes().stream().mapToLong(MockNode::getQueryCount).sum()).isGreaterThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void busyNodesAreRetried() throws Exception {
+        try (var network = MockNetwork.withNodes(3)) {
+            var busyNode = network.getNodes().get(0).setBusyProbability(1);
+            var client = network.createClient()
+                .setMinBackoff(Duration.ZERO)
+                .setMaxBackoff(Duration.ZERO)
+                .setNodeMinBackoff(Duration.ZERO)
+                .setNodeMaxBackoff(Duration.ZERO);
+
+            assertThatExceptionOfType(MaxAttemptsExceededException.class).isThrownBy(() -> new TransferTransaction()
+                .setNodeAccountIds(List.of(busyNode.getAccountId()))
+                .setMaxAttempts(2)
+                .addHbarTransfer(network.getOperatorAccountId(), new Hbar(1).negated())
+                .addHbarTransfer(new AccountId(1001), new Hbar(1))
+                .execute(client));
+
+            assertThat(busyNode.getTransactionCount()).isEqualTo(2);
+            assertThat(busyNode.getInjectedErrorCount()).isEqualTo(2);
+            assertThat(network.getTransactionCount()).isZero();
+        }
+    }
+
+    @Test
+    void slowNodesAreHedged() throws Exception {
+        try (var network = MockNetwork.withNodes(2)) {
+            var slowNode = network.getNodes().get(0);
+            var fastNode = network.getNodes().get(1);
+            var nodeAccountIds = List.of(slowNode.getAccountId(), fastNode.getAccountId());
+            var client = network.createClient().setHedgeDelayPercentile(90);
+
+            var transactionId = new TransferTransaction()
+                .setNodeAccountIds(List.of(fastNode.getAccountId()))
+                .addHbarTransfer(network.getOperatorAccountId(), new Hbar(1).negated())
+                .addHbarTransfer(new AccountId(1001), new Hbar(1))
+                .execute(client)
+                .transactionId;
+
+            // Enough fast answers to pick a hedge delay from
+            for (int i = 0; i < 30; i++) {
+                new TransactionReceiptQuery()
+                    .setTransactionId(transactionId)
+                    .setNodeAccountIds(nodeAccountIds)
+                    .execute(client);
+            }
+
+            slowNode.setLatency(LatencyDistribution.fixed(Duration.ofSeconds(10)));
+            var fastQueries = fastNode.getQueryCount();
+            var start = System.nanoTime();
+
+            var receipt = new TransactionReceiptQuery()
+                .setTransactionId(transactionId)
+                .setNodeAccountIds(nodeAccountIds)
+                .execute(client);
+
+            assertThat(receipt.status).isEqualTo(Status.SUCCESS);
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+            assertThat(fastNode.getQueryCount()).isGreaterThan(fastQueries);
+        }
+    }
+
+    @Test
+    void topicMessagesAreStreamedByTheMirrorNode() throws Exception {
+        try (var network = MockNetwork.withNodes(3)) {
+            var client = network.createClient();
+            var topicId = new TopicId(1000);
+            var received = new CopyOnWriteArrayList<TopicMessage>();
+            var latch = new CountDownLatch(2);
+
+            var receipt = new TopicMessageSubmitTransaction()
+                .setTopicId(topicId)
+                .setMessage("before subscribing")
+                .execute(client)
+                .getReceipt(client);
+
+            assertThat(receipt.topicSequenceNumber).isEqualTo(1);
+
+            var handle = new TopicMessageQuery()
+                .setTopicId(topicId)
+                .setStartTime(Instant.EPOCH)
+                .subscribe(client, message -> {
+                    received.add(message);
+                    latch.countDown();
+                });
+
+            new TopicMessageSubmitTransaction()
+                .setTopicId(topicId)
+                .setMessage("after subscribing")
+                .execute(client)
+                .getReceipt(client);
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            handle.unsubscribe();
+
+            assertThat(received).extracting(message -> new String(message.contents, StandardCharsets.UTF_8))
+                .containsExactly("before subscribing", "after subscribing");
+            assertThat(received).extracting(message -> message.sequenceNumber).containsExactly(1L, 2L);
+            assertThat(network.getTopicMessageCount(topicId)).isEqualTo(2);
+        }
+    }
+}
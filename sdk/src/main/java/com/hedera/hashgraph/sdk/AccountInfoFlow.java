@@ -19,32 +19,138 @@
  */
 package com.hedera.hashgraph.sdk;
 
+import com.google.errorprone.annotations.Var;
 import java8.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Account Info Flow object.
+ * <p>
+ * Account keys are remembered for {@link Client#setAccountKeyCacheTtl(org.threeten.bp.Duration)}, so verifying
+ * many signatures from the same accounts doesn't pay for an {@link AccountInfoQuery} each time.
  */
 public class AccountInfoFlow {
 
-    private static PublicKey getAccountPublicKey(
-        Client client,
-        AccountId accountId
-    ) throws PrecheckStatusException, TimeoutException {
-        return requirePublicKey(accountId, new AccountInfoQuery().setAccountId(accountId).execute(client).key);
+    private static Key getAccountKey(Client client, AccountId accountId) throws PrecheckStatusException, TimeoutException {
+        if (!client.accountKeyCache.isEnabled()) {
+            return new AccountInfoQuery().setAccountId(accountId).execute(client).key;
+        }
+
+        return await(getAccountKeyAsync(client, accountId));
     }
 
-    private static CompletableFuture<PublicKey> getAccountPublicKeyAsync(Client client, AccountId accountId) {
-        return new AccountInfoQuery().setAccountId(accountId).executeAsync(client).thenApply(accountInfo -> {
-            return requirePublicKey(accountId, accountInfo.key);
-        });
+    private static CompletableFuture<Key> getAccountKeyAsync(Client client, AccountId accountId) {
+        Supplier<CompletableFuture<Key>> query = () -> new AccountInfoQuery()
+            .setAccountId(accountId)
+            .executeAsync(client)
+            .thenApply(accountInfo -> accountInfo.key);
+
+        if (!client.accountKeyCache.isEnabled()) {
+            return query.get();
+        }
+
+        return client.accountKeyCache.get(accountId, query);
+    }
+
+    /**
+     * Wait for a future, rethrowing the checked exceptions of a query.
+     *
+     * @param future                    the future
+     * @return                          the result of the future
+     * @throws PrecheckStatusException  when the query fails pre-check
+     * @throws TimeoutException         when the query times out
+     */
+    private static <T> T await(CompletableFuture<T> future) throws PrecheckStatusException, TimeoutException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof PrecheckStatusException) {
+                throw (PrecheckStatusException) cause;
+            } else if (cause instanceof TimeoutException) {
+                throw (TimeoutException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static int getRequiredKeys(KeyList keyList) {
+        var threshold = keyList.getThreshold();
+        return threshold != null ? threshold : keyList.size();
     }
 
-    private static PublicKey requirePublicKey(AccountId accountId, Key key) {
+    /**
+     * Is the key satisfied by the signatures of the message.
+     * <p>
+     * A {@link KeyList} is satisfied when each of its keys is, or as many of them as its threshold. Keys which
+     * can't sign, such as a {@link ContractId}, are never satisfied.
+     *
+     * @param key                       the key
+     * @param message                   the message
+     * @param signatures                the signatures
+     * @return                          is the key satisfied
+     */
+    static boolean verify(Key key, byte[] message, List<byte[]> signatures) {
         if (key instanceof PublicKey) {
-            return (PublicKey) key;
+            for (var signature : signatures) {
+                if (((PublicKey) key).verify(message, signature)) {
+                    return true;
+                }
+            }
+
+            return false;
+        } else if (key instanceof KeyList) {
+            var keyList = (KeyList) key;
+            var threshold = getRequiredKeys(keyList);
+            @Var var satisfied = 0;
+
+            for (var child : keyList) {
+                if (verify(child, message, signatures)) {
+                    satisfied++;
+                }
+            }
+
+            return !keyList.isEmpty() && satisfied >= threshold;
         }
-        throw new UnsupportedOperationException("Account " + accountId + " has a KeyList key, which is not supported");
+
+        return false;
+    }
+
+    /**
+     * Is the key satisfied by the signatures of the transaction.
+     *
+     * @param key                       the key
+     * @param transaction               the signed transaction
+     * @return                          is the key satisfied
+     * @see #verify(Key, byte[], List)
+     */
+    static boolean verifyTransaction(Key key, Transaction<?> transaction) {
+        return new TransactionSignatureVerifier().verify(key, transaction);
+    }
+
+    /**
+     * Forget the remembered key of an account, for example after its key was changed by another client.
+     *
+     * @param client                    the client
+     * @param accountId                 the account id
+     */
+    public static void invalidateAccountKey(Client client, AccountId accountId) {
+        client.accountKeyCache.invalidate(accountId);
     }
 
     /**
@@ -64,7 +170,7 @@ public class AccountInfoFlow {
         byte[] message,
         byte[] signature
     ) throws PrecheckStatusException, TimeoutException {
-        return getAccountPublicKey(client, accountId).verify(message, signature);
+        return verify(getAccountKey(client, accountId), message, Collections.singletonList(signature));
     }
 
     /**
@@ -82,7 +188,7 @@ public class AccountInfoFlow {
         AccountId accountId,
         Transaction<?> transaction
     ) throws PrecheckStatusException, TimeoutException {
-        return getAccountPublicKey(client, accountId).verifyTransaction(transaction);
+        return verifyTransaction(getAccountKey(client, accountId), transaction);
     }
 
     /**
@@ -100,7 +206,7 @@ public class AccountInfoFlow {
         byte[] message,
         byte[] signature
     ) {
-        return getAccountPublicKeyAsync(client, accountId).thenApply(pubKey -> pubKey.verify(message, signature));
+        return getAccountKeyAsync(client, accountId).thenApply(key -> verify(key, message, Collections.singletonList(signature)));
     }
 
     /**
@@ -116,6 +222,81 @@ public class AccountInfoFlow {
         AccountId accountId,
         Transaction<?> transaction
     ) {
-        return getAccountPublicKeyAsync(client, accountId).thenApply(pubKey -> pubKey.verifyTransaction(transaction));
+        return getAccountKeyAsync(client, accountId).thenApply(key -> verifyTransaction(key, transaction));
+    }
+
+    /**
+     * Verify many signatures at once.
+     * <p>
+     * The key of each distinct account is looked up once, and the signatures are verified in parallel on the
+     * client's executor. The signatures of an account which doesn't exist or was deleted are all invalid; the other
+     * accounts are still verified. Any other failure to look up a key, such as a timeout, fails the whole call
+     * rather than reporting valid signatures as invalid.
+     *
+     * @param client                    the client
+     * @param signatures                the signatures to verify
+     * @return                          whether each signature is valid, in the same order
+     * @throws PrecheckStatusException  when looking up a key fails pre-check, other than for a missing account
+     * @throws TimeoutException         when looking up a key times out
+     */
+    public static List<Boolean> verifySignatures(
+        Client client,
+        List<AccountSignature> signatures
+    ) throws PrecheckStatusException, TimeoutException {
+        return await(verifySignaturesAsync(client, signatures));
+    }
+
+    /**
+     * Asynchronously verify many signatures at once.
+     *
+     * @param client                    the client
+     * @param signatures                the signatures to verify
+     * @return                          whether each signature is valid, in the same order
+     * @see #verifySignatures(Client, List)
+     */
+    public static CompletableFuture<List<Boolean>> verifySignaturesAsync(
+        Client client,
+        List<AccountSignature> signatures
+    ) {
+        var keys = new HashMap<AccountId, CompletableFuture<Key>>();
+        var results = new ArrayList<CompletableFuture<Boolean>>(signatures.size());
+
+        for (var signature : signatures) {
+            var key = keys.computeIfAbsent(signature.accountId, accountId -> getAccountKeyAsync(client, accountId));
+
+            results.add(key
+                .thenApplyAsync(k -> verify(k, signature.message, signature.signatures), client.executor)
+                .exceptionally(AccountInfoFlow::invalidIfAccountIsMissing));
+        }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            var valid = new ArrayList<Boolean>(results.size());
+
+            for (var result : results) {
+                valid.add(result.join());
+            }
+
+            return valid;
+        });
+    }
+
+    /**
+     * Treat the signatures of an account which doesn't exist or was deleted as invalid, and rethrow any other error.
+     *
+     * @param error                     why the signature couldn't be verified
+     * @return                          {@code false} when the account is missing
+     */
+    private static Boolean invalidIfAccountIsMissing(Throwable error) {
+        var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause instanceof PrecheckStatusException) {
+            var status = ((PrecheckStatusException) cause).status;
+
+            if (status == Status.INVALID_ACCOUNT_ID || status == Status.ACCOUNT_DELETED) {
+                return false;
+            }
+        }
+
+        throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
     }
 }
@@ -0,0 +1,120 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.threeten.bp.Duration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the keys of accounts so {@link AccountInfoFlow} doesn't pay for an {@link AccountInfoQuery} on every
+ * verification.
+ * <p>
+ * The least recently used account is dropped once {@link #MAX_ENTRIES} are remembered. Concurrent lookups of the
+ * same account share one query.
+ */
+final class AccountKeyCache {
+    /**
+     * Number of accounts remembered.
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    private final LinkedHashMap<AccountId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<AccountId, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private volatile Duration ttl = Duration.ZERO;
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    boolean isEnabled() {
+        return !ttl.isZero();
+    }
+
+    /**
+     * Extract the key of an account, querying for it if it isn't remembered or has expired.
+     *
+     * @param accountId                 the account id
+     * @param query                     starts the query for the key
+     * @return                          the key of the account
+     */
+    synchronized CompletableFuture<Key> get(AccountId accountId, Supplier<CompletableFuture<Key>> query) {
+        var now = System.nanoTime();
+        var entry = entries.get(accountId);
+
+        if (entry != null && now - entry.expiresAt < 0) {
+            return entry.key;
+        }
+
+        var newEntry = new Entry(query.get(), now + ttl.toNanos());
+        entries.put(accountId, newEntry);
+
+        // don't remember failures
+        newEntry.key.whenComplete((key, error) -> {
+            if (error != null) {
+                remove(accountId, newEntry);
+            }
+        });
+
+        return newEntry.key;
+    }
+
+    private synchronized void remove(AccountId accountId, Entry entry) {
+        entries.remove(accountId, entry);
+    }
+
+    /**
+     * Forget the key of an account, usually because it was changed.
+     *
+     * @param accountId                 the account id
+     */
+    synchronized void invalidate(AccountId accountId) {
+        entries.remove(accountId);
+    }
+
+    /**
+     * Forget the key of every account.
+     */
+    synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        final CompletableFuture<Key> key;
+        final long expiresAt;
+
+        Entry(CompletableFuture<Key> key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A message with the signatures which claim it was signed by an account, to be checked against the account's key
+ * with {@link AccountInfoFlow#verifySignatures(Client, List)}.
+ */
+public final class AccountSignature {
+    /**
+     * The account which claims to have signed the message
+     */
+    public final AccountId accountId;
+
+    /**
+     * The message which was signed
+     */
+    public final byte[] message;
+
+    /**
+     * The signatures of the message, one for each key that signed it
+     */
+    public final List<byte[]> signatures;
+
+    /**
+     * Constructor.
+     *
+     * @param accountId                 the account id
+     * @param message                   the message
+     * @param signature                 the signature
+     */
+    public AccountSignature(AccountId accountId, byte[] message, byte[] signature) {
+        this(accountId, message, Collections.singletonList(Objects.requireNonNull(signature)));
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * An account with a {@link KeyList} key needs a signature from each key, or from as many keys as its threshold.
+     *
+     * @param accountId                 the account id
+     * @param message                   the message
+     * @param signatures                the signatures
+     */
+    public AccountSignature(AccountId accountId, byte[] message, List<byte[]> signatures) {
+        this.accountId = Objects.requireNonNull(accountId);
+        this.message = Objects.requireNonNull(message);
+        this.signatures = Collections.unmodifiableList(signatures);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("accountId", accountId)
+            .add("signatures", signatures.size())
+            .toString();
+    }
+}
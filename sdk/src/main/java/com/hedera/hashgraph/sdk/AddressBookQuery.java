@@ -170,7 +170,7 @@ public class AddressBookQuery {
                     LOGGER.error("Error attempting to get address book at FileId {}", fileId, error);
                     throw error;
                 }
-                warnAndDelay(attempt, error);
+                delay(warnAndGetDelay(attempt, error));
             }
         }
     }
@@ -225,8 +225,9 @@ public class AddressBookQuery {
                         returnFuture.completeExceptionally(error);
                         return;
                     }
-                    warnAndDelay(attempt, error);
-                    executeAsync(client, deadline, returnFuture, attempt + 1);
+                    // Waiting on the shared timer keeps this gRPC callback thread free
+                    Delayer.delayFor(warnAndGetDelay(attempt, error), client.executor)
+                        .thenRun(() -> executeAsync(client, deadline, returnFuture, attempt + 1));
                 }
 
                 @Override
@@ -278,11 +279,15 @@ public class AddressBookQuery {
         return false;
     }
 
-    private void warnAndDelay(int attempt, Throwable error) {
+    private long warnAndGetDelay(int attempt, Throwable error) {
         var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
         LOGGER.warn("Error fetching address book at FileId {} during attempt #{}. Waiting {} ms before next attempt: {}",
             fileId, attempt, delay, error.getMessage());
 
+        return delay;
+    }
+
+    private static void delay(long delay) {
         try {
             Thread.sleep(delay);
         } catch (InterruptedException e) {
@@ -0,0 +1,338 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Submits large numbers of transactions through a single client.
+ * <p>
+ * Transactions are signed in parallel on the client's executor and then spread over the nodes they were frozen for,
+ * favouring healthy, fast nodes with the fewest requests in flight. At most {@code maxInFlightPerNode} transactions
+ * are in flight to any one node; the rest wait in the order they finished signing. Submission is fully asynchronous,
+ * so no thread is held while a transaction is in flight. A transaction none of whose nodes are in the client's network
+ * any more fails with an {@link IllegalStateException}.
+ * <p>
+ * Create one with {@link Client#createBulkTransactionSubmitter(int)}.
+ */
+public final class BulkTransactionSubmitter {
+    /**
+     * Score multiplier for nodes which are backing off, so they are only used when no healthy node has capacity.
+     */
+    private static final double UNHEALTHY_PENALTY = 1000.0;
+
+    /**
+     * Returned by {@link #selectNode(Transaction)} when every node of the transaction is full.
+     */
+    private static final int NO_CAPACITY = -1;
+
+    /**
+     * Returned by {@link #selectNode(Transaction)} when none of the nodes of the transaction is in the network.
+     */
+    private static final int NOT_IN_NETWORK = -2;
+
+    private final Client client;
+    private final int maxInFlightPerNode;
+    private final long createdAtNanos = System.nanoTime();
+
+    /**
+     * Signed transactions waiting for a node with capacity, guarded by {@code this}.
+     */
+    private final Queue<PendingTransaction> queue = new ArrayDeque<>();
+
+    private final Map<AccountId, NodeLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client to submit through
+     * @param maxInFlightPerNode        the maximum number of transactions in flight to one node
+     */
+    BulkTransactionSubmitter(Client client, int maxInFlightPerNode) {
+        this.client = client;
+        this.maxInFlightPerNode = maxInFlightPerNode;
+    }
+
+    /**
+     * Submit a transaction.
+     * <p>
+     * The transaction is frozen with the client and signed by the operator if required, exactly as
+     * {@link Transaction#executeAsync(Client)} would do.
+     *
+     * @param transaction               the transaction to submit
+     * @return                          future for the response of the transaction
+     */
+    public CompletableFuture<TransactionResponse> submit(Transaction<?> transaction) {
+        var pending = new PendingTransaction(transaction);
+
+        // Signing is the expensive part of preparing a transaction, do it on the executor so transactions
+        // are signed in parallel
+        CompletableFuture.runAsync(() -> {
+            transaction.onExecute(client);
+            transaction.buildAllTransactions();
+        }, client.executor).whenComplete((ignored, error) -> {
+            if (error != null) {
+                pending.future.completeExceptionally(error);
+                return;
+            }
+
+            synchronized (this) {
+                queue.add(pending);
+            }
+
+            dispatch();
+        });
+
+        return pending.future;
+    }
+
+    /**
+     * Submit many transactions.
+     *
+     * @param transactions              the transactions to submit
+     * @return                          futures for the responses, in the same order as the transactions
+     */
+    public List<CompletableFuture<TransactionResponse>> submitAll(Iterable<? extends Transaction<?>> transactions) {
+        var futures = new ArrayList<CompletableFuture<TransactionResponse>>();
+
+        for (var transaction : transactions) {
+            futures.add(submit(transaction));
+        }
+
+        return futures;
+    }
+
+    /**
+     * Extract the number of signed transactions waiting for a node with capacity.
+     *
+     * @return                          the number of queued transactions
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Extract the number of transactions currently in flight to each node.
+     *
+     * @return                          map of node account id to in flight transactions
+     */
+    public Map<AccountId, Integer> getInFlightPerNode() {
+        var inFlight = new HashMap<AccountId, Integer>(loads.size());
+
+        for (var entry : loads.entrySet()) {
+            inFlight.put(entry.getKey(), entry.getValue().inFlight.get());
+        }
+
+        return inFlight;
+    }
+
+    /**
+     * Extract the number of transactions each node has completed, successfully or not.
+     *
+     * @return                          map of node account id to completed transactions
+     */
+    public Map<AccountId, Long> getCompletedPerNode() {
+        var completed = new HashMap<AccountId, Long>(loads.size());
+
+        for (var entry : loads.entrySet()) {
+            completed.put(entry.getKey(), entry.getValue().completed.get());
+        }
+
+        return completed;
+    }
+
+    /**
+     * Extract the average number of transactions each node has completed per second since this submitter was
+     * created.
+     *
+     * @return                          map of node account id to transactions per second
+     */
+    public Map<AccountId, Double> getThroughputPerNode() {
+        var elapsedSeconds = Math.max(System.nanoTime() - createdAtNanos, 1L) / 1_000_000_000.0;
+        var throughput = new HashMap<AccountId, Double>(loads.size());
+
+        for (var entry : loads.entrySet()) {
+            throughput.put(entry.getKey(), entry.getValue().completed.get() / elapsedSeconds);
+        }
+
+        return throughput;
+    }
+
+    /**
+     * Send queued transactions to nodes with capacity, in queue order.
+     */
+    private void dispatch() {
+        List<PendingTransaction> ready;
+        List<AccountId> readyNodes;
+        List<PendingTransaction> unroutable;
+
+        synchronized (this) {
+            if (queue.isEmpty()) {
+                return;
+            }
+
+            ready = new ArrayList<>();
+            readyNodes = new ArrayList<>();
+            unroutable = new ArrayList<>();
+
+            while (!queue.isEmpty()) {
+                var pending = queue.peek();
+                var nodeIndex = selectNode(pending.transaction);
+
+                if (nodeIndex == NOT_IN_NETWORK) {
+                    // The nodes were removed from the network, so waiting would block the queue forever
+                    queue.remove();
+                    unroutable.add(pending);
+                    continue;
+                }
+
+                // Only the head is considered so that transactions are sent in queue order
+                if (nodeIndex == NO_CAPACITY) {
+                    break;
+                }
+
+                var nodeId = pending.transaction.nodeAccountIds.get(nodeIndex);
+
+                queue.remove();
+                pending.transaction.nodeAccountIds.setIndex(nodeIndex);
+                loadOf(nodeId).inFlight.incrementAndGet();
+                ready.add(pending);
+                readyNodes.add(nodeId);
+            }
+        }
+
+        for (var pending : unroutable) {
+            pending.future.completeExceptionally(new IllegalStateException(
+                "none of the nodes " + pending.transaction.nodeAccountIds.getList() + " of the transaction are in the client's network"));
+        }
+
+        for (var i = 0; i < ready.size(); i++) {
+            send(ready.get(i), readyNodes.get(i));
+        }
+    }
+
+    private void send(PendingTransaction pending, AccountId nodeId) {
+        CompletableFuture<TransactionResponse> response;
+
+        try {
+            response = pending.transaction.executeAsync(client);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        response.whenComplete((transactionResponse, error) -> {
+            var load = loadOf(nodeId);
+            load.inFlight.decrementAndGet();
+            load.completed.incrementAndGet();
+
+            if (error != null) {
+                pending.future.completeExceptionally(error);
+            } else {
+                pending.future.complete(transactionResponse);
+            }
+
+            dispatch();
+        });
+    }
+
+    /**
+     * Pick the node the transaction should be sent to.
+     *
+     * @param transaction               the transaction
+     * @return                          the index into the transaction's node account ids, {@link #NO_CAPACITY}
+     *                                  when every node is full, or {@link #NOT_IN_NETWORK} when none of the nodes
+     *                                  is in the network
+     */
+    private int selectNode(Transaction<?> transaction) {
+        @Var var best = NOT_IN_NETWORK;
+        @Var var bestScore = Double.MAX_VALUE;
+
+        for (var i = 0; i < transaction.nodeAccountIds.size(); i++) {
+            var nodeId = transaction.nodeAccountIds.get(i);
+
+            @Nullable var nodes = client.network.network.get(nodeId);
+            if (nodes == null || nodes.isEmpty()) {
+                continue;
+            }
+
+            var inFlight = loadOf(nodeId).inFlight.get();
+
+            if (inFlight >= maxInFlightPerNode) {
+                if (best == NOT_IN_NETWORK) {
+                    best = NO_CAPACITY;
+                }
+
+                continue;
+            }
+
+            var node = client.network.getNode(nodeId);
+            @Var var score = (inFlight + 1) / node.getSelectionWeight();
+
+            if (!node.isHealthy()) {
+                score *= UNHEALTHY_PENALTY;
+            }
+
+            if (best < 0 || score < bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+
+        return best;
+    }
+
+    private NodeLoad loadOf(AccountId nodeId) {
+        @Nullable var load = loads.get(nodeId);
+
+        return load != null ? load : loads.computeIfAbsent(nodeId, id -> new NodeLoad());
+    }
+
+    /**
+     * A transaction waiting to be sent.
+     */
+    private static final class PendingTransaction {
+        final Transaction<?> transaction;
+        final CompletableFuture<TransactionResponse> future = new CompletableFuture<>();
+
+        PendingTransaction(Transaction<?> transaction) {
+            this.transaction = transaction;
+        }
+    }
+
+    /**
+     * Load and throughput counters of one node.
+     */
+    private static final class NodeLoad {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicLong completed = new AtomicLong();
+    }
+}
@@ -31,6 +31,7 @@ import java8.util.concurrent.CompletionStage;
 import java8.util.function.Function;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -51,6 +53,19 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
      * its frozen.
      */
     private int maxChunks = 20;
+    /**
+     * Maximum number of chunks which may be awaiting consensus at once
+     * during {@link #executeAll(Client)}.
+     */
+    private int maxInFlightChunks = 1;
+    /**
+     * Receipts of the chunks which are awaiting consensus during {@link #executeAll(Client)}, and the node which
+     * accepted them.
+     */
+    @Nullable
+    private ArrayDeque<CompletableFuture<TransactionReceipt>> pendingReceipts = null;
+    @Nullable
+    private AccountId pendingNodeId = null;
 
     /**
      * Constructor.
@@ -175,6 +190,38 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return (T) this;
     }
 
+    /**
+     * Retrieve the maximum number of chunks which may be awaiting consensus at once.
+     *
+     * @return                          the number of chunks
+     */
+    public int getMaxInFlightChunks() {
+        return maxInFlightChunks;
+    }
+
+    /**
+     * Assign the maximum number of chunks which may be awaiting consensus at once.
+     * <p>
+     * With the default of 1 every chunk waits for the receipt of the previous chunk before being submitted, which
+     * costs one consensus round trip per chunk. With a larger window chunks are still submitted in order, and to the
+     * same node while it stays healthy so that they reach consensus in order, but up to {@code maxInFlightChunks}
+     * receipts are awaited at once. Before a chunk is submitted to a different node, the receipts of every pending
+     * chunk are awaited.
+     *
+     * @param maxInFlightChunks         the number of chunks
+     * @return {@code this}
+     */
+    public T setMaxInFlightChunks(int maxInFlightChunks) {
+        if (maxInFlightChunks <= 0) {
+            throw new IllegalArgumentException("maxInFlightChunks must be greater than zero");
+        }
+
+        this.maxInFlightChunks = maxInFlightChunks;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
     @Override
     public byte[] getTransactionHash() {
         if (outerTransactions.size() > nodeAccountIds.size()) {
@@ -287,26 +334,126 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return executeAll(client).get(0);
     }
 
+    /**
+     * Make the next chunk prefer the node which accepted the previous chunk.
+     * <p>
+     * Chunks which are awaiting consensus at the same time must reach consensus in the order they were submitted,
+     * which is only guaranteed when they were submitted to the same node.
+     *
+     * @param nodeId                    the node which accepted the previous chunk
+     */
+    private void preferNode(AccountId nodeId) {
+        for (var i = 0; i < nodeAccountIds.size(); i++) {
+            if (nodeId.equals(nodeAccountIds.get(i))) {
+                nodeAccountIds.setIndex(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wait for the receipts of the pending chunks before a chunk is submitted to a different node than the one
+     * which accepted them; otherwise it could reach consensus before them.
+     *
+     * @param nodeId                    the node the chunk is about to be submitted to
+     * @return                          future which completes once the chunk may be submitted
+     */
+    @Override
+    CompletableFuture<Void> beforeSend(AccountId nodeId) {
+        var pending = pendingReceipts;
+
+        if (pending == null || pending.isEmpty() || nodeId.equals(pendingNodeId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var drained = CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+        pending.clear();
+
+        return drained;
+    }
+
+    @Override
+    boolean isHedgeable() {
+        // a hedge could be accepted by a different node than the pending chunks
+        var pending = pendingReceipts;
+
+        return (pending == null || pending.isEmpty()) && super.isHedgeable();
+    }
+
+    /**
+     * Wait for a chunk receipt which was requested asynchronously.
+     *
+     * @param receipt                   the pending receipt
+     * @throws PrecheckStatusException  when the receipt query fails pre-check
+     * @throws TimeoutException         when the receipt query times out
+     */
+    private static void awaitReceipt(CompletableFuture<TransactionReceipt> receipt) throws PrecheckStatusException, TimeoutException {
+        try {
+            receipt.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof PrecheckStatusException) {
+                throw (PrecheckStatusException) cause;
+            } else if (cause instanceof TimeoutException) {
+                throw (TimeoutException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
     @Override
     public List<TransactionResponse> executeAll(Client client) throws PrecheckStatusException, TimeoutException {
         freezeAndSign(client);
 
         var responses = new ArrayList<TransactionResponse>(transactionIds.size());
+        var pending = new ArrayDeque<CompletableFuture<TransactionReceipt>>(maxInFlightChunks);
 
-        for (var i = 0; i < transactionIds.size(); i++) {
-            var response = super.execute(client);
+        pendingReceipts = pending;
+        pendingNodeId = null;
 
-            if (shouldGetReceipt()) {
-                new TransactionReceiptQuery()
-                    .setNodeAccountIds(Collections.singletonList(response.nodeId))
-                    .setTransactionId(response.transactionId)
-                    .execute(client);
+        try {
+            for (var i = 0; i < transactionIds.size(); i++) {
+                if (maxInFlightChunks > 1 && !responses.isEmpty()) {
+                    preferNode(responses.get(responses.size() - 1).nodeId);
+                }
+
+                var response = super.execute(client);
+
+                if (shouldGetReceipt()) {
+                    if (maxInFlightChunks == 1) {
+                        new TransactionReceiptQuery()
+                            .setNodeAccountIds(Collections.singletonList(response.nodeId))
+                            .setTransactionId(response.transactionId)
+                            .execute(client);
+                    } else {
+                        pending.add(response.getReceiptAsync(client));
+                        pendingNodeId = response.nodeId;
+
+                        if (pending.size() >= maxInFlightChunks) {
+                            awaitReceipt(pending.remove());
+                        }
+                    }
+                }
+
+                responses.add(response);
             }
 
-            responses.add(response);
-        }
+            while (!pending.isEmpty()) {
+                awaitReceipt(pending.remove());
+            }
 
-        return responses;
+            return responses;
+        } finally {
+            pendingReceipts = null;
+            pendingNodeId = null;
+        }
     }
 
     @Override
@@ -314,17 +461,35 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     public CompletableFuture<List<TransactionResponse>> executeAllAsync(Client client) {
         freezeAndSign(client);
 
+        // Only touched from the stages of the chain below, which run one after another
+        var pending = new ArrayDeque<CompletableFuture<TransactionReceipt>>(maxInFlightChunks);
+
+        pendingReceipts = pending;
+        pendingNodeId = null;
+
         @Var
         CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> future =
             CompletableFuture.supplyAsync(() -> new ArrayList<>(transactionIds.size()));
 
         for (var i = 0; i < transactionIds.size(); i++) {
             future = future.thenCompose(list -> {
+                if (maxInFlightChunks > 1 && !list.isEmpty()) {
+                    preferNode(list.get(list.size() - 1).nodeId);
+                }
+
                 var responseFuture = super.executeAsync(client);
 
                 Function<TransactionResponse, ? extends CompletionStage<TransactionResponse>> receiptFuture =
-                    (TransactionResponse response) -> response.getReceiptAsync(client)
-                        .thenApply(receipt -> response);
+                    (TransactionResponse response) -> {
+                        pending.add(response.getReceiptAsync(client));
+                        pendingNodeId = response.nodeId;
+
+                        if (pending.size() >= maxInFlightChunks) {
+                            return pending.remove().thenApply(receipt -> response);
+                        }
+
+                        return CompletableFuture.completedFuture(response);
+                    };
 
                 Function<TransactionResponse, List<TransactionResponse>> addToList =
                     (response) -> {
@@ -340,7 +505,11 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
             });
         }
 
-        return future;
+        return future.thenCompose(list -> CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> list)).whenComplete((list, error) -> {
+                pendingReceipts = null;
+                pendingNodeId = null;
+            });
     }
 
     @Override
@@ -59,6 +59,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
     static final Duration DEFAULT_MIN_NODE_BACKOFF = Duration.ofSeconds(8L);
     static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30L);
     static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(2L);
+    static final int DEFAULT_MAX_CONCURRENT_SUBSCRIPTION_RECONNECTS = 16;
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -73,6 +74,14 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
     Network network;
     MirrorNetwork mirrorNetwork;
 
+    final SubscriptionReconnectScheduler subscriptionReconnects;
+
+    final ReceiptPoller receiptPoller;
+
+    final QueryCostCache queryCostCache = new QueryCostCache();
+
+    final AccountKeyCache accountKeyCache = new AccountKeyCache();
+
     @Nullable
     private Operator operator;
 
@@ -80,11 +89,15 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
     private Duration closeTimeout = DEFAULT_CLOSE_TIMEOUT;
 
     private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private double hedgeDelayPercentile = 0;
 
     private volatile Duration maxBackoff = DEFAULT_MAX_BACKOFF;
 
     private volatile Duration minBackoff = DEFAULT_MIN_BACKOFF;
 
+    @Nullable
+    private volatile RequestThrottle requestThrottle = null;
+
     private boolean autoValidateChecksums = false;
 
     private boolean defaultRegenerateTransactionId = true;
@@ -100,6 +113,8 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         this.executor = executor;
         this.network = network;
         this.mirrorNetwork = mirrorNetwork;
+        this.subscriptionReconnects = new SubscriptionReconnectScheduler(executor, DEFAULT_MAX_CONCURRENT_SUBSCRIPTION_RECONNECTS);
+        this.receiptPoller = new ReceiptPoller(this);
     }
 
     /**
@@ -125,7 +140,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return                          {@code this}
      * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    public synchronized Client setMirrorNetwork(List<String> network) throws InterruptedException {
+    public Client setMirrorNetwork(List<String> network) throws InterruptedException {
         try {
             this.mirrorNetwork.setNetwork(network);
         } catch (TimeoutException e) {
@@ -158,7 +173,27 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forNetwork(Map<String, AccountId> networkMap) {
-        var executor = createExecutor();
+        return forNetwork(networkMap, createExecutor());
+    }
+
+    /**
+     * Construct a client given a set of nodes, running its callbacks and gRPC channels on the given executor.
+     *
+     * <p>By default a client uses a fixed pool with one daemon thread per processor. The executor passed here is
+     * owned by the caller: the client does not shut it down when closed.
+     *
+     * <p>On JDK 21 and later, passing {@code Executors.newVirtualThreadPerTaskExecutor()} runs every callback on a
+     * virtual thread. Blocking {@code execute} calls never sleep or wait while holding a monitor, so they can also be
+     * made from virtual threads without pinning their carrier threads, and a large number of concurrent blocking
+     * calls does not need a platform thread each.
+     *
+     * @param networkMap                the map of node IDs to node addresses that make up the network
+     * @param executor                  the executor
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forNetwork(Map<String, AccountId> networkMap, ExecutorService executor) {
+        Objects.requireNonNull(executor);
+
         var network = Network.forNetwork(executor, networkMap);
         var mirrorNetwork = MirrorNetwork.forNetwork(executor, new ArrayList<>());
 
@@ -172,13 +207,24 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return                          the configured client
      */
     public static Client forName(String name) {
+        return forName(name, createExecutor());
+    }
+
+    /**
+     * Set up the client for the selected network, running its callbacks and gRPC channels on the given executor.
+     *
+     * @param name                      the selected network
+     * @param executor                  the executor, see {@link #forNetwork(Map, ExecutorService)}
+     * @return                          the configured client
+     */
+    public static Client forName(String name, ExecutorService executor) {
         switch (name) {
             case "mainnet":
-                return Client.forMainnet();
+                return Client.forMainnet(executor);
             case "testnet":
-                return Client.forTestnet();
+                return Client.forTestnet(executor);
             case "previewnet":
-                return Client.forPreviewnet();
+                return Client.forPreviewnet(executor);
             default:
                 throw new IllegalArgumentException("Name must be one-of `mainnet`, `testnet`, or `previewnet`");
         }
@@ -192,7 +238,19 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forMainnet() {
-        var executor = createExecutor();
+        return forMainnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Mainnet access, running its callbacks and gRPC channels on the
+     * given executor.
+     *
+     * @param executor                  the executor, see {@link #forNetwork(Map, ExecutorService)}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forMainnet(ExecutorService executor) {
+        Objects.requireNonNull(executor);
+
         var network = Network.forMainnet(executor);
         var mirrorNetwork = MirrorNetwork.forMainnet(executor);
 
@@ -206,7 +264,19 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forTestnet() {
-        var executor = createExecutor();
+        return forTestnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Testnet access, running its callbacks and gRPC channels on the
+     * given executor.
+     *
+     * @param executor                  the executor, see {@link #forNetwork(Map, ExecutorService)}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forTestnet(ExecutorService executor) {
+        Objects.requireNonNull(executor);
+
         var network = Network.forTestnet(executor);
         var mirrorNetwork = MirrorNetwork.forTestnet(executor);
 
@@ -220,7 +290,19 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forPreviewnet() {
-        var executor = createExecutor();
+        return forPreviewnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Previewnet access, running its callbacks and gRPC channels on the
+     * given executor.
+     *
+     * @param executor                  the executor, see {@link #forNetwork(Map, ExecutorService)}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forPreviewnet(ExecutorService executor) {
+        Objects.requireNonNull(executor);
+
         var network = Network.forPreviewnet(executor);
         var mirrorNetwork = MirrorNetwork.forPreviewnet(executor);
 
@@ -347,7 +429,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @param network a map of node account ID to node URL.
      * @return {@code this} for fluent API usage.
      */
-    public synchronized Client setNetwork(Map<String, AccountId> network) throws InterruptedException, TimeoutException {
+    public Client setNetwork(Map<String, AccountId> network) throws InterruptedException, TimeoutException {
         this.network.setNetwork(network);
         return this;
     }
@@ -423,7 +505,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
 
     @Override
     @FunctionalExecutable(type = "Void", onClient = true, inputType = "AccountId")
-    public synchronized CompletableFuture<Void> pingAsync(AccountId nodeAccountId) {
+    public CompletableFuture<Void> pingAsync(AccountId nodeAccountId) {
         return new AccountBalanceQuery()
             .setAccountId(nodeAccountId)
             .setNodeAccountIds(Collections.singletonList(nodeAccountId))
@@ -435,7 +517,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
     }
 
     @Override
-    public synchronized Void pingAll() {
+    public Void pingAll() {
         for (var nodeAccountId : network.getNetwork().values()) {
             ping(nodeAccountId);
         }
@@ -445,7 +527,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
 
     @Override
     @FunctionalExecutable(type = "Void", onClient = true)
-    public synchronized CompletableFuture<Void> pingAllAsync() {
+    public CompletableFuture<Void> pingAllAsync() {
         var network = this.network.getNetwork();
         var list = new ArrayList<CompletableFuture<Void>>(network.size());
 
@@ -576,6 +658,267 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * Extract the latency percentile after which requests are hedged, or 0 if hedging is disabled.
+     *
+     * @return                          the hedge delay percentile
+     */
+    public synchronized double getHedgeDelayPercentile() {
+        return hedgeDelayPercentile;
+    }
+
+    /**
+     * Set the latency percentile after which requests executed with this client are hedged.
+     * <p>
+     * When a request has not been answered within this percentile of the recent latencies of the same kind of
+     * request, the same request is also sent to the next node and whichever answers first is used. Transactions
+     * send the body already signed for that node, which is safe because the network only executes one
+     * transaction per transaction ID. Queries which require a payment are never hedged.
+     * <p>
+     * Set to 0, the default, to disable hedging.
+     *
+     * @param hedgeDelayPercentile      the percentile, between 0 and 100
+     * @return {@code this}
+     */
+    public synchronized Client setHedgeDelayPercentile(double hedgeDelayPercentile) {
+        if (hedgeDelayPercentile < 0 || hedgeDelayPercentile > 100) {
+            throw new IllegalArgumentException("hedgeDelayPercentile must be between 0 and 100");
+        }
+        this.hedgeDelayPercentile = hedgeDelayPercentile;
+        return this;
+    }
+
+    /**
+     * Create a submitter for sending large numbers of transactions through this client, with at most
+     * {@code maxInFlightPerNode} transactions in flight to any one node.
+     *
+     * @param maxInFlightPerNode the maximum number of transactions in flight to one node
+     * @return the new submitter
+     */
+    public BulkTransactionSubmitter createBulkTransactionSubmitter(int maxInFlightPerNode) {
+        if (maxInFlightPerNode <= 0) {
+            throw new IllegalArgumentException("maxInFlightPerNode must be greater than zero");
+        }
+        return new BulkTransactionSubmitter(this, maxInFlightPerNode);
+    }
+
+    /**
+     * Get the maximum number of mirror node subscriptions which may be reconnecting at once.
+     *
+     * @return the maximum number of concurrent subscription reconnects
+     */
+    public int getMaxConcurrentSubscriptionReconnects() {
+        return subscriptionReconnects.getMaxConcurrent();
+    }
+
+    /**
+     * Set the maximum number of mirror node subscriptions which may be reconnecting at once. Subscriptions which fail
+     * while this many are already reconnecting wait their turn, so a mirror node outage does not reconnect every
+     * subscription at the same moment.
+     *
+     * @param maxConcurrentSubscriptionReconnects the maximum number of concurrent subscription reconnects
+     * @return {@code this}
+     */
+    public Client setMaxConcurrentSubscriptionReconnects(int maxConcurrentSubscriptionReconnects) {
+        if (maxConcurrentSubscriptionReconnects <= 0) {
+            throw new IllegalArgumentException("maxConcurrentSubscriptionReconnects must be greater than zero");
+        }
+        subscriptionReconnects.setMaxConcurrent(maxConcurrentSubscriptionReconnects);
+        return this;
+    }
+
+    /**
+     * Extract the metrics that requests made through this client report to.
+     *
+     * @return                          the metrics, {@link ClientMetrics#NOOP} unless set
+     */
+    public ClientMetrics getMetrics() {
+        return network.getMetrics();
+    }
+
+    /**
+     * Assign the metrics that requests made through this client report to, such as per-node latencies, precheck
+     * statuses and node health changes.
+     *
+     * @param metrics                   the metrics
+     * @return {@code this}
+     */
+    public Client setMetrics(ClientMetrics metrics) {
+        network.setMetrics(Objects.requireNonNull(metrics));
+        return this;
+    }
+
+    /**
+     * Extract the number of requests that may currently be in flight to each node.
+     * <p>
+     * Each node's limit adapts to how it responds: it grows while responses are quick and shrinks when the node
+     * answers {@code BUSY}, misses deadlines or slows down. Requests over the limit wait until one in flight
+     * completes.
+     *
+     * @return                          the concurrency limit of each node
+     */
+    public Map<AccountId, Integer> getConcurrencyLimits() {
+        return network.getConcurrencyLimits();
+    }
+
+    /**
+     * Are requests to each node limited by the node's adaptive concurrency limit?
+     *
+     * @return                          whether the concurrency limit is enabled
+     */
+    public boolean isConcurrencyLimitEnabled() {
+        return network.isConcurrencyLimitEnabled();
+    }
+
+    /**
+     * Enable or disable the adaptive concurrency limit of each node, which is disabled by default.
+     * <p>
+     * With the limit disabled every request is sent as soon as it is made, however many are already in flight
+     * to the node.
+     *
+     * @param concurrencyLimitEnabled   whether the concurrency limit is enabled
+     * @return {@code this}
+     */
+    public Client setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        network.setConcurrencyLimitEnabled(concurrencyLimitEnabled);
+        return this;
+    }
+
+    /**
+     * Extract the throttle which paces requests made through this client.
+     *
+     * @return                          the throttle, or {@code null} if requests are not paced
+     */
+    @Nullable
+    public RequestThrottle getRequestThrottle() {
+        return requestThrottle;
+    }
+
+    /**
+     * Assign a throttle which paces requests made through this client so they stay under the network's
+     * throttles, rather than being rejected with {@code BUSY} and retried.
+     * <p>
+     * The throttle is usually created from the contents of {@link FileId#THROTTLE_DEFINITIONS}.
+     *
+     * @param requestThrottle           the throttle, or {@code null} to stop pacing requests
+     * @return {@code this}
+     */
+    public Client setRequestThrottle(@Nullable RequestThrottle requestThrottle) {
+        this.requestThrottle = requestThrottle;
+        return this;
+    }
+
+    /**
+     * Extract how long the cost of a paid query is remembered.
+     *
+     * @return                          the time to live, {@link Duration#ZERO} if costs are not remembered
+     */
+    public Duration getQueryCostCacheTtl() {
+        return queryCostCache.getTtl();
+    }
+
+    /**
+     * Set how long the cost of a paid query is remembered.
+     * <p>
+     * Without an explicit {@link Query#setQueryPayment(Hbar)}, a paid query first asks the node what it costs.
+     * While the cost of an identical query is remembered, or can be estimated from the fee schedules and exchange
+     * rates given to {@link #setFeeSchedules(FeeSchedules)} and {@link #setExchangeRates(ExchangeRates)} once an
+     * identical query has been answered, the payment is attached directly and the query takes one round trip
+     * instead of two. If the node answers
+     * {@code INSUFFICIENT_TX_FEE}, the query is retried once with the cost the node asked for.
+     * <p>
+     * Set to {@link Duration#ZERO}, the default, to always ask the node.
+     *
+     * @param ttl                       the time to live
+     * @return {@code this}
+     */
+    public Client setQueryCostCacheTtl(Duration ttl) {
+        Objects.requireNonNull(ttl);
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        queryCostCache.setTtl(ttl);
+        return this;
+    }
+
+    /**
+     * Extract the fee schedules used to estimate the cost of paid queries.
+     *
+     * @return                          the fee schedules, or {@code null} if not set
+     */
+    @Nullable
+    public FeeSchedules getFeeSchedules() {
+        return queryCostCache.getFeeSchedules();
+    }
+
+    /**
+     * Assign the fee schedules used to estimate the cost of paid queries, usually the contents of
+     * {@link FileId#FEE_SCHEDULE}. Every remembered query cost is forgotten.
+     *
+     * @param feeSchedules              the fee schedules, or {@code null} to stop estimating
+     * @return {@code this}
+     * @see #setQueryCostCacheTtl(Duration)
+     */
+    public Client setFeeSchedules(@Nullable FeeSchedules feeSchedules) {
+        queryCostCache.setFeeSchedules(feeSchedules);
+        return this;
+    }
+
+    /**
+     * Extract the exchange rates used to estimate the cost of paid queries.
+     *
+     * @return                          the exchange rates, or {@code null} if not set
+     */
+    @Nullable
+    public ExchangeRates getExchangeRates() {
+        return queryCostCache.getExchangeRates();
+    }
+
+    /**
+     * Assign the exchange rates used to estimate the cost of paid queries, usually the contents of
+     * {@link FileId#EXCHANGE_RATES}. Every remembered query cost is forgotten.
+     *
+     * @param exchangeRates             the exchange rates, or {@code null} to stop estimating
+     * @return {@code this}
+     * @see #setQueryCostCacheTtl(Duration)
+     */
+    public Client setExchangeRates(@Nullable ExchangeRates exchangeRates) {
+        queryCostCache.setExchangeRates(exchangeRates);
+        return this;
+    }
+
+    /**
+     * Extract how long {@link AccountInfoFlow} remembers the key of an account.
+     *
+     * @return                          the time to live, {@link Duration#ZERO} if keys are not remembered
+     */
+    public Duration getAccountKeyCacheTtl() {
+        return accountKeyCache.getTtl();
+    }
+
+    /**
+     * Set how long {@link AccountInfoFlow} remembers the key of an account, so verifying signatures from the same
+     * account doesn't run an {@link AccountInfoQuery} each time. Up to {@value AccountKeyCache#MAX_ENTRIES} of the
+     * most recently used accounts are remembered.
+     * <p>
+     * A key changed by someone else is only noticed once it expires or is forgotten with
+     * {@link AccountInfoFlow#invalidateAccountKey(Client, AccountId)}.
+     * <p>
+     * Set to {@link Duration#ZERO}, the default, to always query the key.
+     *
+     * @param ttl                       the time to live
+     * @return {@code this}
+     */
+    public Client setAccountKeyCacheTtl(Duration ttl) {
+        Objects.requireNonNull(ttl);
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        accountKeyCache.setTtl(ttl);
+        accountKeyCache.invalidateAll();
+        return this;
+    }
+
     /**
      * The maximum amount of time to wait between retries
      *
@@ -982,7 +1325,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * needed.
      */
     @Override
-    public synchronized void close() throws TimeoutException {
+    public void close() throws TimeoutException {
         try {
             network.close();
             mirrorNetwork.close();
@@ -1000,7 +1343,7 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      *
      * @param timeout The Duration to be set
      */
-    public synchronized void close(Duration timeout) throws TimeoutException {
+    public void close(Duration timeout) throws TimeoutException {
         try {
             network.close(timeout);
             mirrorNetwork.close(timeout);
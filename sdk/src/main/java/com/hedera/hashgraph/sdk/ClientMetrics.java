@@ -0,0 +1,133 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives measurements of the requests a {@link Client} makes and of the health of the nodes it talks to.
+ * <p>
+ * Implement the methods of interest and pass the implementation to {@link Client#setMetrics(ClientMetrics)} to
+ * feed a metrics library such as Micrometer or Prometheus. Every method does nothing by default.
+ * <p>
+ * Methods are called synchronously on the thread that made the observation, often a gRPC or SDK executor thread,
+ * and from many threads at once. Implementations must be thread safe and must not block; recording into a
+ * pre-registered counter or histogram is fine. Request types are passed as classes rather than names, so they can
+ * be used as map keys without allocating.
+ */
+public interface ClientMetrics {
+    /**
+     * Metrics which discard every measurement. This is the default.
+     */
+    ClientMetrics NOOP = new ClientMetrics() {
+    };
+
+    /**
+     * A transaction or query started executing. The number of requests in flight is the number of started requests
+     * minus the number of completed ones.
+     *
+     * @param requestType               the class of the transaction or query, e.g. {@code TransferTransaction}
+     */
+    default void onRequestStarted(Class<?> requestType) {
+    }
+
+    /**
+     * A transaction or query finished executing, after all of its attempts.
+     *
+     * @param requestType               the class of the transaction or query
+     * @param latencyNanos              the time since the request started, in nanoseconds
+     * @param error                     the error the request failed with, or {@code null} if it succeeded
+     */
+    default void onRequestCompleted(Class<?> requestType, long latencyNanos, @Nullable Throwable error) {
+    }
+
+    /**
+     * A node answered one attempt of a request.
+     *
+     * @param requestType               the class of the transaction or query
+     * @param nodeAccountId             the node which answered
+     * @param attempt                   the attempt number, starting at 1
+     * @param latencyNanos              the time the node took to answer, in nanoseconds
+     * @param status                    the precheck status the node answered with
+     */
+    default void onAttemptCompleted(
+        Class<?> requestType,
+        AccountId nodeAccountId,
+        int attempt,
+        long latencyNanos,
+        Status status
+    ) {
+    }
+
+    /**
+     * One attempt of a request failed before a node answered it, for example because the node was unreachable.
+     *
+     * @param requestType               the class of the transaction or query
+     * @param nodeAccountId             the node the attempt was sent to
+     * @param attempt                   the attempt number, starting at 1
+     * @param latencyNanos              the time until the failure, in nanoseconds
+     * @param error                     the transport error
+     */
+    default void onAttemptFailed(
+        Class<?> requestType,
+        AccountId nodeAccountId,
+        int attempt,
+        long latencyNanos,
+        Throwable error
+    ) {
+    }
+
+    /**
+     * A node was marked unhealthy and will not be picked for new requests until it is readmitted.
+     *
+     * @param nodeAccountId             the node
+     * @param badGrpcStatusCount        the number of times the node has been marked unhealthy
+     */
+    default void onNodeUnhealthy(AccountId nodeAccountId, long badGrpcStatusCount) {
+    }
+
+    /**
+     * A node which was marked unhealthy was readmitted into the pool of nodes picked for new requests.
+     *
+     * @param nodeAccountId             the node
+     */
+    default void onNodeReadmitted(AccountId nodeAccountId) {
+    }
+
+    /**
+     * A gRPC channel to a node became ready for the first time, or failed to within the connection timeout.
+     *
+     * @param nodeAccountId             the node
+     * @param connected                 whether the channel connected
+     */
+    default void onChannelConnect(AccountId nodeAccountId, boolean connected) {
+    }
+
+    /**
+     * Polling for a transaction receipt finished.
+     *
+     * @param nodeAccountId             the node the receipt was polled from
+     * @param latencyNanos              the time since polling started, in nanoseconds
+     * @param polls                     the number of receipt queries sent
+     * @param error                     the error polling failed with, or {@code null} if the receipt was found
+     */
+    default void onReceiptPolled(AccountId nodeAccountId, long latencyNanos, int polls, @Nullable Throwable error) {
+    }
+}
@@ -0,0 +1,244 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An adaptive limit on the number of requests in flight to one node.
+ * <p>
+ * The limit follows additive increase, multiplicative decrease: every successful response while the limit is in
+ * use raises it by {@code 1 / limit}, so it grows by about one per round trip, and a {@code BUSY} response, a
+ * deadline failure or a response much slower than the recent average multiplies it by
+ * {@link #BACKOFF_RATIO}. Like TCP, the limit is decreased at most once per round trip: only a request sent after
+ * the last decrease can decrease it again, so a burst of slow responses to requests which were in flight together
+ * counts as one congestion signal. Requests over the limit wait in a queue until a request in flight completes.
+ * <p>
+ * The average latency is kept separately for every gRPC method, as a receipt query and a contract call to the
+ * same node take very different times.
+ */
+final class ConcurrencyLimiter {
+    /**
+     * The limit before any responses have been seen.
+     */
+    static final int INITIAL_LIMIT = 20;
+
+    static final int MIN_LIMIT = 1;
+
+    static final int MAX_LIMIT = 1000;
+
+    /**
+     * The factor the limit is multiplied by when the node is overloaded.
+     */
+    static final double BACKOFF_RATIO = 0.9;
+
+    /**
+     * A response slower than this multiple of the average latency counts as overload.
+     */
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * Smoothing factor of the average latency.
+     */
+    private static final double LATENCY_EWMA_ALPHA = 0.05;
+
+    /**
+     * Number of responses needed before the average latency is trusted.
+     */
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private final Map<String, Latency> latencies = new HashMap<>();
+
+    private double limit = INITIAL_LIMIT;
+    private int inFlight = 0;
+
+    /**
+     * When the limit was last decreased, by {@link System#nanoTime()}; only meaningful once {@code decreased} is set.
+     */
+    private long lastDecreaseNanos = 0;
+    private boolean decreased = false;
+
+    /**
+     * Take a place for a request, waiting in the queue if the limit has been reached.
+     * <p>
+     * Cancelling the returned future while it is waiting gives up the place in the queue. Once it completes the
+     * caller holds a place and must give it back with exactly one of {@link #onSuccess(String, long)},
+     * {@link #onDropped(long)} or {@link #onIgnored()}.
+     *
+     * @return                          a future which completes once the request may be sent
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < getLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            var waiter = new CompletableFuture<Void>();
+            waiters.add(waiter);
+            waiter.whenComplete((ignored, error) -> {
+                if (waiter.isCancelled()) {
+                    removeWaiter(waiter);
+                }
+            });
+            return waiter;
+        }
+    }
+
+    private synchronized void removeWaiter(CompletableFuture<Void> waiter) {
+        waiters.remove(waiter);
+    }
+
+    /**
+     * Give back a place after a response, raising the limit unless the response was unusually slow.
+     *
+     * @param methodName                the full gRPC method name of the request
+     * @param latencyNanos              the request latency in nanoseconds
+     */
+    void onSuccess(String methodName, long latencyNanos) {
+        synchronized (this) {
+            var latency = latencies.computeIfAbsent(methodName, name -> new Latency());
+            var congested = latency.samples >= WARMUP_SAMPLES && latencyNanos > LATENCY_TOLERANCE * latency.ewmaNanos;
+
+            if (congested) {
+                decreaseLimit(latencyNanos);
+            } else if (inFlight * 2 >= limit) {
+                // Only grow while the limit is actually in use, otherwise it would grow without bound
+                limit = Math.min(MAX_LIMIT, limit + 1.0 / limit);
+            }
+
+            latency.add(latencyNanos);
+            inFlight--;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Give back a place after the node rejected the request as overloaded or did not answer in time.
+     *
+     * @param latencyNanos              the request latency in nanoseconds
+     */
+    void onDropped(long latencyNanos) {
+        synchronized (this) {
+            decreaseLimit(latencyNanos);
+            inFlight--;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * Give back a place after a failure which says nothing about the load on the node.
+     */
+    void onIgnored() {
+        synchronized (this) {
+            inFlight--;
+        }
+
+        dispatch();
+    }
+
+    private void decreaseLimit(long latencyNanos) {
+        var now = System.nanoTime();
+
+        // A request sent before the last decrease was already in flight when the limit reacted to congestion
+        if (decreased && (now - latencyNanos) - lastDecreaseNanos < 0) {
+            return;
+        }
+
+        limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        lastDecreaseNanos = now;
+        decreased = true;
+    }
+
+    /**
+     * Hand free places to waiting requests. Waiters are completed outside the lock because completing one
+     * sends its request.
+     */
+    private void dispatch() {
+        while (true) {
+            CompletableFuture<Void> waiter;
+
+            synchronized (this) {
+                if (waiters.isEmpty() || inFlight >= getLimit()) {
+                    return;
+                }
+
+                waiter = waiters.removeFirst();
+                inFlight++;
+            }
+
+            if (!waiter.complete(null)) {
+                // Cancelled while it was waiting
+                synchronized (this) {
+                    inFlight--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Extract the current limit.
+     *
+     * @return                          the number of requests which may be in flight
+     */
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Extract the number of requests in flight.
+     *
+     * @return                          the number of requests in flight
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Extract the number of requests waiting for a place.
+     *
+     * @return                          the number of queued requests
+     */
+    synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * The average latency of one gRPC method.
+     */
+    private static final class Latency {
+        private double ewmaNanos = 0;
+        private long samples = 0;
+
+        void add(long latencyNanos) {
+            ewmaNanos = samples == 0 ? latencyNanos : ewmaNanos + LATENCY_EWMA_ALPHA * (latencyNanos - ewmaNanos);
+            samples++;
+        }
+    }
+}
@@ -158,6 +158,19 @@ public final class ContractCallQuery extends Query<ContractFunctionResult, Contr
         return this;
     }
 
+    /**
+     * Sets the function to call, and the arguments to pass to the function, encoded with a
+     * precompiled {@link ContractFunctionTemplate}.
+     *
+     * @param template The compiled function call
+     * @param values   The arguments, one per parameter of the template
+     * @return {@code this}
+     */
+    public ContractCallQuery setFunction(ContractFunctionTemplate template, Object... values) {
+        Objects.requireNonNull(template);
+        return setFunctionParameters(template.encode(values));
+    }
+
     /**
      * @deprecated with no replacement
      */
@@ -193,6 +193,21 @@ public final class ContractExecuteTransaction extends Transaction<ContractExecut
         return setFunctionParameters(params.toBytes(name));
     }
 
+    /**
+     * Sets the function to call, and the arguments to pass to the function, encoded with a
+     * precompiled {@link ContractFunctionTemplate}.
+     *
+     * @param template The compiled function call
+     * @param values   The arguments, one per parameter of the template
+     * @return {@code this}
+     */
+    public ContractExecuteTransaction setFunction(ContractFunctionTemplate template, Object... values) {
+        Objects.requireNonNull(template);
+        requireNotFrozen();
+        this.functionParameters = template.encode(values);
+        return this;
+    }
+
     /**
      * Initialize from the transaction body.
      */
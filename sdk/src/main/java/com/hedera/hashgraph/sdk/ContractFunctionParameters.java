@@ -21,6 +21,7 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import java8.util.J8Arrays;
 import java8.util.stream.Collectors;
 import java8.util.stream.IntStream;
@@ -194,12 +195,25 @@ public final class ContractFunctionParameters {
         return leftPad32(ByteString.copyFrom(input), negative);
     }
 
+    /**
+     * Write a non-negative value as a 32-byte big-endian word; the leading bytes are assumed to be zero already.
+     *
+     * @param output                    the buffer to write to
+     * @param offset                    the offset of the word in {@code output}
+     * @param val                       the value
+     */
+    static void writeUint256(byte[] output, int offset, long val) {
+        for (var i = 0; i < 8; i++) {
+            output[offset + 31 - i] = (byte) (val >> (i * 8));
+        }
+    }
+
     static ByteString rightPad32(ByteString input) {
         int rem = 32 - input.size() % 32;
         return rem == 32 ? input : input.concat(padding.substring(0, rem));
     }
 
-    private static byte[] decodeAddress(@Var String address) {
+    static byte[] decodeAddress(@Var String address) {
         address = address.startsWith("0x") ? address.substring(2) : address;
 
         if (address.length() != ADDRESS_LEN_HEX) {
@@ -2585,41 +2599,52 @@ public final class ContractFunctionParameters {
      * @return the Solidity encoding of the call parameters in the order they were added.
      */
     ByteString toBytes(@Nullable String funcName) {
-        // offset for dynamic-length data, immediately after value arguments
-        @Var var dynamicOffset = args.size() * 32;
+        @Var var size = args.size() * 32;
+        var signature = funcName != null ? new StringBuilder(funcName).append('(') : null;
 
-        var paramsBytes = new ArrayList<ByteString>(args.size() + 1);
+        // determine the size of the dynamic data and the function signature
+        for (var i = 0; i < args.size(); i++) {
+            var arg = args.get(i);
 
-        var dynamicArgs = new ArrayList<ByteString>();
+            if (signature != null) {
+                if (i > 0) {
+                    signature.append(',');
+                }
 
-        ContractFunctionSelector functionSelector = funcName != null
-            ? new ContractFunctionSelector(funcName) : null;
+                signature.append(arg.type);
+            }
 
-        // iterate the arguments and determine whether they are dynamic or not
-        for (Argument arg : args) {
-            if (functionSelector != null) {
-                functionSelector.addParamType(arg.type);
+            if (arg.isDynamic) {
+                size += arg.value.size();
             }
+        }
+
+        var selector = signature != null
+            ? ContractFunctionSelector.forSignature(signature.append(')').toString()) : new byte[0];
+
+        var output = new byte[selector.length + size];
+        System.arraycopy(selector, 0, output, 0, selector.length);
+
+        // offset for dynamic-length data, immediately after value arguments
+        @Var var dynamicOffset = args.size() * 32;
+
+        for (var i = 0; i < args.size(); i++) {
+            var arg = args.get(i);
+            var position = selector.length + i * 32;
 
             if (arg.isDynamic) {
                 // dynamic arguments supply their offset in value position and append their data at
                 // that offset
-                paramsBytes.add(int256(dynamicOffset, 256));
-                dynamicArgs.add(arg.value);
+                writeUint256(output, position, dynamicOffset);
+                arg.value.copyTo(output, selector.length + dynamicOffset);
                 dynamicOffset += arg.value.size();
             } else {
                 // value arguments are dropped in the current arg position
-                paramsBytes.add(arg.value);
+                arg.value.copyTo(output, position);
             }
         }
 
-        if (functionSelector != null) {
-            paramsBytes.add(0, ByteString.copyFrom(functionSelector.finish()));
-        }
-
-        paramsBytes.addAll(dynamicArgs);
-
-        return ByteString.copyFrom(paramsBytes);
+        return UnsafeByteOperations.unsafeWrap(output);
     }
 
     private final static class Argument {
@@ -23,6 +23,9 @@ import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -31,6 +34,20 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
  * Builder class for Solidity function selectors.
  */
 public final class ContractFunctionSelector {
+    /**
+     * The maximum number of selectors remembered by {@link #forSignature(String)}.
+     */
+    static final int MAX_CACHED_SELECTORS = 1024;
+
+    // selectors of recently encoded function signatures, least recently used first
+    private static final Map<String, byte[]> selectorCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > MAX_CACHED_SELECTORS;
+            }
+        });
+
     @Nullable
     private Keccak.Digest256 digest;
 
@@ -332,4 +349,27 @@ public final class ContractFunctionSelector {
 
         return finished;
     }
+
+    /**
+     * Get the selector of a canonical function signature such as {@code transfer(address,uint256)}.
+     * <p>
+     * Selectors of recently used signatures are remembered, so the Keccak-256 hash is only
+     * computed the first time a signature is seen. The returned array is shared and must not be
+     * modified.
+     *
+     * @param signature                 the function name and its comma-separated parameter types
+     * @return                          the selector bytes
+     */
+    static byte[] forSignature(String signature) {
+        var cached = selectorCache.get(signature);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var selector = Arrays.copyOf(new Keccak.Digest256().digest(signature.getBytes(US_ASCII)), 4);
+        selectorCache.put(signature, selector);
+
+        return selector;
+    }
 }
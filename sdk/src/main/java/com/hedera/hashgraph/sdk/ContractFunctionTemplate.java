@@ -0,0 +1,508 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A Solidity function call compiled once and encoded many times.
+ * <p>
+ * The function selector and the layout of the parameters are computed when the template is
+ * created; {@link #encode(Object...)} only writes the argument values into a single buffer of
+ * exactly the right size. The encoding is the same as that of {@link ContractFunctionParameters}.
+ * <p>
+ * A template is immutable and may be shared between threads.
+ * <pre>{@code
+ * var transfer = new ContractFunctionTemplate("transfer", "address", "uint256");
+ *
+ * new ContractExecuteTransaction()
+ *     .setContractId(contractId)
+ *     .setGas(100_000)
+ *     .setFunction(transfer, recipientAddress, amount);
+ * }</pre>
+ * Parameter types are written as in Solidity: {@code bool}, {@code address}, {@code function},
+ * {@code string}, {@code bytes}, {@code bytes1} to {@code bytes32}, {@code int8} to {@code int256}
+ * and {@code uint8} to {@code uint256} in steps of 8, and a dynamic array {@code T[]} of any of those.
+ * Argument values are given as:
+ * <ul>
+ *     <li>{@code bool}: a {@link Boolean}</li>
+ *     <li>{@code address}: a hex-encoded {@link String} or a {@value ContractFunctionParameters#ADDRESS_LEN}-byte
+ *     array</li>
+ *     <li>{@code function}: a 24-byte array of the address followed by the selector</li>
+ *     <li>{@code string}: a {@link String}</li>
+ *     <li>{@code bytes} and {@code bytesN}: a byte array</li>
+ *     <li>{@code intN} and {@code uintN}: a {@link Long}, {@link Integer}, {@link Short}, {@link Byte} or
+ *     {@link BigInteger}</li>
+ *     <li>{@code T[]}: a {@link List} or an array, primitive or not, of values of {@code T}</li>
+ * </ul>
+ */
+public final class ContractFunctionTemplate {
+    private final String signature;
+
+    private final byte[] selector;
+
+    private final ParamType[] params;
+
+    /**
+     * Compile a call to a function with the given name and parameter types.
+     *
+     * @param funcName                  the name of the function
+     * @param paramTypes                the Solidity types of the parameters
+     * @throws IllegalArgumentException if a parameter type is not supported
+     */
+    public ContractFunctionTemplate(String funcName, String... paramTypes) {
+        Objects.requireNonNull(funcName);
+
+        params = new ParamType[paramTypes.length];
+
+        var builder = new StringBuilder(funcName).append('(');
+
+        for (var i = 0; i < paramTypes.length; i++) {
+            params[i] = ParamType.parse(paramTypes[i]);
+
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(params[i].name);
+        }
+
+        signature = builder.append(')').toString();
+        selector = ContractFunctionSelector.forSignature(signature);
+    }
+
+    /**
+     * Extract the canonical signature of the function, e.g. {@code transfer(address,uint256)}.
+     *
+     * @return                          the function signature
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Extract the function selector.
+     *
+     * @return                          the {@value ContractFunctionParameters#SELECTOR_LEN}-byte selector
+     */
+    public byte[] getSelector() {
+        return Arrays.copyOf(selector, selector.length);
+    }
+
+    /**
+     * Encode a call of the function with the given arguments, one per parameter.
+     *
+     * @param values                    the argument values
+     * @return                          the selector followed by the encoded arguments
+     * @throws IllegalArgumentException if the number of values or the type of a value does not
+     *                                  match the parameters, or a value is out of range
+     */
+    public byte[] encode(Object... values) {
+        if (values.length != params.length) {
+            throw new IllegalArgumentException(
+                signature + " takes " + params.length + " arguments, got " + values.length);
+        }
+
+        // strings and arrays are converted up front so the size of the call is known
+        var prepared = new Object[values.length];
+        @Var var size = selector.length + params.length * 32;
+
+        for (var i = 0; i < params.length; i++) {
+            prepared[i] = params[i].prepare(values[i]);
+
+            if (params[i].isDynamic()) {
+                size += params[i].tailSize(prepared[i]);
+            }
+        }
+
+        var output = new byte[size];
+        System.arraycopy(selector, 0, output, 0, selector.length);
+
+        // dynamic data is appended after the value arguments
+        @Var var tail = selector.length + params.length * 32;
+
+        for (var i = 0; i < params.length; i++) {
+            var position = selector.length + i * 32;
+
+            if (params[i].isDynamic()) {
+                // offsets are relative to the start of the arguments, not the selector
+                ContractFunctionParameters.writeUint256(output, position, tail - selector.length);
+                tail = params[i].writeTail(output, tail, prepared[i]);
+            } else {
+                params[i].writeValue(output, position, prepared[i]);
+            }
+        }
+
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return signature;
+    }
+
+    private enum Kind {
+        BOOL,
+        ADDRESS,
+        FUNCTION,
+        STRING,
+        BYTES,
+        FIXED_BYTES,
+        INT,
+        UINT
+    }
+
+    /**
+     * A parsed Solidity parameter type.
+     */
+    private static final class ParamType {
+        private final String name;
+
+        private final Kind kind;
+
+        // the width in bits of an integer, or in bytes of a fixed-size byte array
+        private final int width;
+
+        @Nullable
+        private final ParamType element;
+
+        private ParamType(String name, Kind kind, int width, @Nullable ParamType element) {
+            this.name = name;
+            this.kind = kind;
+            this.width = width;
+            this.element = element;
+        }
+
+        static ParamType parse(String typeName) {
+            if (typeName.endsWith("[]")) {
+                var element = parse(typeName.substring(0, typeName.length() - 2));
+
+                if (element.element != null) {
+                    throw new IllegalArgumentException("nested arrays are not supported: " + typeName);
+                }
+
+                return new ParamType(element.name + "[]", element.kind, element.width, element);
+            }
+
+            switch (typeName) {
+                case "bool":
+                    return new ParamType(typeName, Kind.BOOL, 8, null);
+                case "address":
+                    return new ParamType(typeName, Kind.ADDRESS, 0, null);
+                case "function":
+                    return new ParamType(typeName, Kind.FUNCTION, 0, null);
+                case "string":
+                    return new ParamType(typeName, Kind.STRING, 0, null);
+                case "bytes":
+                    return new ParamType(typeName, Kind.BYTES, 0, null);
+                case "int":
+                    return new ParamType("int256", Kind.INT, 256, null);
+                case "uint":
+                    return new ParamType("uint256", Kind.UINT, 256, null);
+                default:
+                    break;
+            }
+
+            if (typeName.startsWith("bytes")) {
+                var width = parseWidth(typeName, 5);
+
+                if (width < 1 || width > 32) {
+                    throw new IllegalArgumentException("unsupported Solidity type: " + typeName);
+                }
+
+                return new ParamType(typeName, Kind.FIXED_BYTES, width, null);
+            }
+
+            var kind = typeName.startsWith("uint") ? Kind.UINT : typeName.startsWith("int") ? Kind.INT : null;
+
+            if (kind == null) {
+                throw new IllegalArgumentException("unsupported Solidity type: " + typeName);
+            }
+
+            var width = parseWidth(typeName, kind == Kind.UINT ? 4 : 3);
+
+            if (width < 8 || width > 256 || width % 8 != 0) {
+                throw new IllegalArgumentException("unsupported Solidity type: " + typeName);
+            }
+
+            return new ParamType(typeName, kind, width, null);
+        }
+
+        private static int parseWidth(String typeName, int prefixLength) {
+            try {
+                return Integer.parseInt(typeName.substring(prefixLength));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("unsupported Solidity type: " + typeName, e);
+            }
+        }
+
+        boolean isDynamic() {
+            return element != null || kind == Kind.STRING || kind == Kind.BYTES;
+        }
+
+        /**
+         * Convert a value into the form it is written from: strings to their UTF-8 bytes and
+         * arrays to an {@code Object[]} of converted elements.
+         */
+        Object prepare(@Nullable Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("null value for `" + name + "`");
+            }
+
+            if (element != null) {
+                Object[] elements;
+
+                if (value instanceof List) {
+                    elements = ((List<?>) value).toArray();
+                } else if (value.getClass().isArray()) {
+                    elements = new Object[Array.getLength(value)];
+
+                    for (var i = 0; i < elements.length; i++) {
+                        elements[i] = Array.get(value, i);
+                    }
+                } else {
+                    throw new IllegalArgumentException("expected a List or an array for `" + name + "`");
+                }
+
+                for (var i = 0; i < elements.length; i++) {
+                    elements[i] = element.prepare(elements[i]);
+                }
+
+                return elements;
+            }
+
+            if (kind == Kind.STRING) {
+                if (!(value instanceof String)) {
+                    throw new IllegalArgumentException("expected a String for `" + name + "`");
+                }
+
+                return ((String) value).getBytes(UTF_8);
+            }
+
+            return value;
+        }
+
+        /**
+         * The size of the data a dynamic value appends after the value arguments.
+         */
+        int tailSize(Object prepared) {
+            if (element != null) {
+                var elements = (Object[]) prepared;
+                @Var var size = 32 + elements.length * 32;
+
+                if (element.isDynamic()) {
+                    for (var value : elements) {
+                        size += element.tailSize(value);
+                    }
+                }
+
+                return size;
+            }
+
+            return 32 + padded(bytes(prepared).length);
+        }
+
+        /**
+         * Write a dynamic value at {@code offset} and return the offset just past it.
+         */
+        int writeTail(byte[] output, int offset, Object prepared) {
+            if (element != null) {
+                var elements = (Object[]) prepared;
+                ContractFunctionParameters.writeUint256(output, offset, elements.length);
+
+                var start = offset + 32;
+
+                if (!element.isDynamic()) {
+                    for (var i = 0; i < elements.length; i++) {
+                        element.writeValue(output, start + i * 32, elements[i]);
+                    }
+
+                    return start + elements.length * 32;
+                }
+
+                // [offset[0], offset[1], ... offset[len - 1], data[0], data[1], ... data[len - 1]]
+                @Var var tail = start + elements.length * 32;
+
+                for (var i = 0; i < elements.length; i++) {
+                    ContractFunctionParameters.writeUint256(output, start + i * 32, tail - start);
+                    tail = element.writeTail(output, tail, elements[i]);
+                }
+
+                return tail;
+            }
+
+            var value = bytes(prepared);
+            ContractFunctionParameters.writeUint256(output, offset, value.length);
+            System.arraycopy(value, 0, output, offset + 32, value.length);
+
+            return offset + 32 + padded(value.length);
+        }
+
+        /**
+         * Write a value type into the 32-byte word at {@code offset}, which is still zeroed.
+         */
+        void writeValue(byte[] output, int offset, Object value) {
+            switch (kind) {
+                case BOOL:
+                    if (!(value instanceof Boolean)) {
+                        throw new IllegalArgumentException("expected a Boolean for `" + name + "`");
+                    }
+
+                    output[offset + 31] = (byte) ((Boolean) value ? 1 : 0);
+                    break;
+
+                case ADDRESS:
+                    var address = value instanceof String
+                        ? ContractFunctionParameters.decodeAddress((String) value) : bytes(value);
+
+                    if (address.length != ContractFunctionParameters.ADDRESS_LEN) {
+                        throw new IllegalArgumentException("Solidity addresses must be 20 bytes");
+                    }
+
+                    System.arraycopy(address, 0, output, offset + 32 - address.length, address.length);
+                    break;
+
+                case FUNCTION:
+                    var function = bytes(value);
+
+                    if (function.length != ContractFunctionParameters.ADDRESS_LEN + ContractFunctionParameters.SELECTOR_LEN) {
+                        throw new IllegalArgumentException("function references must be 24 bytes");
+                    }
+
+                    System.arraycopy(function, 0, output, offset, function.length);
+                    break;
+
+                case FIXED_BYTES:
+                    var fixed = bytes(value);
+
+                    if (fixed.length > width) {
+                        throw new IllegalArgumentException(
+                            name + " encoding forbids byte array length greater than " + width);
+                    }
+
+                    System.arraycopy(fixed, 0, output, offset, fixed.length);
+                    break;
+
+                default:
+                    writeInteger(output, offset, value);
+                    break;
+            }
+        }
+
+        private void writeInteger(byte[] output, int offset, Object value) {
+            if (value instanceof BigInteger) {
+                var bigInt = (BigInteger) value;
+
+                if (kind == Kind.UINT && bigInt.signum() < 0) {
+                    throw new IllegalArgumentException("negative BigInteger passed to unsigned function");
+                }
+
+                // `bitLength()` leaves out the sign bit, which a signed integer needs room for
+                if (bigInt.bitLength() > (kind == Kind.INT ? width - 1 : width)) {
+                    throw outOfRange(value);
+                }
+
+                var bytes = ContractFunctionParameters.getTruncatedBytes(bigInt, width);
+                System.arraycopy(bytes, 0, output, offset + 32 - bytes.length, bytes.length);
+
+                fillPadding(output, offset, 32 - bytes.length, bigInt.signum() < 0);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                var val = ((Number) value).longValue();
+
+                if (!fits((Number) value)) {
+                    throw outOfRange(value);
+                }
+
+                // as with `ContractFunctionParameters`, at most 64 bits are written and the rest is padding
+                var byteWidth = Math.min(width, 64) / 8;
+
+                for (var i = 0; i < byteWidth; i++) {
+                    output[offset + 31 - i] = (byte) (val >> (i * 8));
+                }
+
+                fillPadding(output, offset, 32 - byteWidth, kind == Kind.INT && val < 0);
+            } else {
+                throw new IllegalArgumentException("expected an integer or BigInteger for `" + name + "`");
+            }
+        }
+
+        /**
+         * Can the value be written at this width? As with {@code ContractFunctionParameters.addUint32(int)} and
+         * the like, a Java integer exactly as wide as an unsigned type is read as unsigned; any other value must be
+         * between zero and the largest value of the type.
+         */
+        private boolean fits(Number value) {
+            var val = value.longValue();
+
+            if (kind == Kind.UINT) {
+                if (bitWidth(value) == width) {
+                    return true;
+                }
+
+                return val >= 0 && (width >= 64 || val < 1L << width);
+            }
+
+            return width >= 64 || (val >= -(1L << (width - 1)) && val < 1L << (width - 1));
+        }
+
+        private static int bitWidth(Number value) {
+            if (value instanceof Byte) {
+                return Byte.SIZE;
+            } else if (value instanceof Short) {
+                return Short.SIZE;
+            } else if (value instanceof Integer) {
+                return Integer.SIZE;
+            } else {
+                return Long.SIZE;
+            }
+        }
+
+        private IllegalArgumentException outOfRange(Object value) {
+            return new IllegalArgumentException(value + " is out of range for `" + name + "`");
+        }
+
+        private static void fillPadding(byte[] output, int offset, int length, boolean negative) {
+            if (negative) {
+                Arrays.fill(output, offset, offset + length, (byte) 0xFF);
+            }
+        }
+
+        private byte[] bytes(Object value) {
+            if (!(value instanceof byte[])) {
+                throw new IllegalArgumentException("expected a byte array for `" + name + "`");
+            }
+
+            return (byte[]) value;
+        }
+
+        private static int padded(int length) {
+            return (length + 31) / 32 * 32;
+        }
+    }
+}
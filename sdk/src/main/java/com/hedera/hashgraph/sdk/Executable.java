@@ -20,6 +20,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.MethodDescriptor;
@@ -37,8 +38,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
@@ -66,6 +70,9 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
     @Nullable
     protected Duration minBackoff = null;
 
+    @Nullable
+    protected Double hedgeDelayPercentile = null;
+
     protected LockableList<AccountId> nodeAccountIds = new LockableList<>();
     protected List<Node> nodes = new ArrayList<>();
 
@@ -177,6 +184,32 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         return (SdkRequestT) this;
     }
 
+    /**
+     * Extract the latency percentile after which this request is hedged, or 0 if hedging is disabled.
+     *
+     * @return                          the hedge delay percentile
+     */
+    public final double getHedgeDelayPercentile() {
+        return hedgeDelayPercentile != null ? hedgeDelayPercentile : 0;
+    }
+
+    /**
+     * Set the latency percentile after which this request is also sent to the next node.
+     * <p>
+     * Overrides {@link Client#setHedgeDelayPercentile(double)} for this request. Set to 0 to disable hedging.
+     *
+     * @param hedgeDelayPercentile      the percentile, between 0 and 100
+     * @return {@code this}
+     */
+    public final SdkRequestT setHedgeDelayPercentile(double hedgeDelayPercentile) {
+        if (hedgeDelayPercentile < 0 || hedgeDelayPercentile > 100) {
+            throw new IllegalArgumentException("hedgeDelayPercentile must be between 0 and 100");
+        }
+        this.hedgeDelayPercentile = hedgeDelayPercentile;
+        // noinspection unchecked
+        return (SdkRequestT) this;
+    }
+
     @Nullable
     public final List<AccountId> getNodeAccountIds() {
         if (!nodeAccountIds.isEmpty()) {
@@ -226,13 +259,34 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         if (minBackoff == null) {
             minBackoff = client.getMinBackoff();
         }
+
+        if (hedgeDelayPercentile == null) {
+            hedgeDelayPercentile = client.getHedgeDelayPercentile();
+        }
     }
 
-    private void delay(long delay) {
+    /**
+     * Wait for the delay on the shared delay timer, but never past the request timeout.
+     *
+     * @param delay                     the delay in milliseconds
+     * @param timeoutTime               the instant the request times out
+     */
+    private void delay(long delay, Instant timeoutTime) {
+        var remaining = timeoutTime.toEpochMilli() - System.currentTimeMillis();
+        var millis = Math.min(delay, remaining);
+
+        if (millis <= 0) {
+            return;
+        }
+
         try {
-            Thread.sleep(delay);
+            // Completing directly on the timer thread avoids a hop through the client executor
+            Delayer.delayFor(millis, Runnable::run).get();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -242,6 +296,22 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
 
     @Override
     public O execute(Client client, Duration timeout) throws TimeoutException, PrecheckStatusException {
+        var metrics = client.network.getMetrics();
+        var startNanos = System.nanoTime();
+
+        metrics.onRequestStarted(getClass());
+
+        try {
+            var result = executeWithRetries(client, timeout);
+            metrics.onRequestCompleted(getClass(), System.nanoTime() - startNanos, null);
+            return result;
+        } catch (TimeoutException | PrecheckStatusException | RuntimeException e) {
+            metrics.onRequestCompleted(getClass(), System.nanoTime() - startNanos, e);
+            throw e;
+        }
+    }
+
+    private O executeWithRetries(Client client, Duration timeout) throws TimeoutException, PrecheckStatusException {
         Throwable lastException = null;
 
         mergeFromClient(client);
@@ -267,17 +337,57 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             // If we get an unhealthy node here, we've cycled through all the "good" nodes that have failed
             // and have no choice but to try a bad one.
             if (!node.isHealthy()) {
-                delay(node.getRemainingTimeForBackoff());
+                delay(node.getRemainingTimeForBackoff(), timeoutTime);
             }
 
+            delay(reserveThrottle(client, grpcRequest), timeoutTime);
+            awaitBeforeSend(node);
+
+            var wasConnected = node.hasConnected();
+
             if (node.channelFailedToConnect()) {
                 logger.trace("Failed to connect channel for node {} for request #{}", node.getAccountId(), attempt);
+                client.network.getMetrics().onChannelConnect(node.getAccountId(), false);
                 lastException = grpcRequest.reactToConnectionFailure();
                 continue;
+            } else if (!wasConnected) {
+                client.network.getMetrics().onChannelConnect(node.getAccountId(), true);
+            }
+
+            var hedged = isHedgingEnabled();
+
+            if (!hedged) {
+                grpcRequest.acquirePermit(timeoutTime);
             }
 
+            CompletableFuture<HedgedAnswer> hedgedCall = null;
+
             try {
-                response = blockingUnaryCall.apply(grpcRequest);
+                if (hedged) {
+                    // Like acquirePermit, a request waiting for a place under the concurrency limit must not
+                    // outlive the request timeout
+                    hedgedCall = sendWithHedging(client, grpcRequest);
+                    var answer = hedgedCall.get(
+                        Math.max(0, timeoutTime.toEpochMilli() - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+
+                    grpcRequest = answer.request;
+                    response = answer.response;
+                    lastException = answer.error;
+                } else {
+                    response = grpcRequest.callBlocking();
+                }
+            } catch (TimeoutException e) {
+                // Cancelling the answer cancels both calls and gives up their places in the queue
+                Objects.requireNonNull(hedgedCall).cancel(false);
+                throw e;
+            } catch (InterruptedException e) {
+                if (hedgedCall != null) {
+                    hedgedCall.cancel(false);
+                } else {
+                    grpcRequest.cancel();
+                }
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
             } catch (Throwable e) {
                 lastException = e;
             }
@@ -298,7 +408,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
                     // Response is not ready yet from server, need to wait.
                     lastException = grpcRequest.mapStatusException();
                     if (attempt < maxAttempts) {
-                        delay(grpcRequest.getDelay());
+                        delay(grpcRequest.getDelay(), timeoutTime);
                     }
                     continue;
                 case RequestError:
@@ -314,6 +424,15 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
     @FunctionalExecutable
     public CompletableFuture<O> executeAsync(Client client) {
         var retval = new CompletableFuture<O>().orTimeout(client.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        var metrics = client.network.getMetrics();
+        var startNanos = System.nanoTime();
+
+        metrics.onRequestStarted(getClass());
+        retval.whenComplete((result, error) -> metrics.onRequestCompleted(
+            getClass(),
+            System.nanoTime() - startNanos,
+            error instanceof CompletionException && error.getCause() != null ? error.getCause() : error
+        ));
 
         mergeFromClient(client);
 
@@ -423,43 +542,70 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return;
         }
 
+        var throttleDelay = reserveThrottle(client, grpcRequest);
+
+        if (throttleDelay > 0) {
+            Delayer.delayFor(throttleDelay, client.executor)
+                .thenRun(() -> sendAsync(client, attempt, grpcRequest, returnFuture));
+        } else {
+            sendAsync(client, attempt, grpcRequest, returnFuture);
+        }
+    }
+
+    private void sendAsync(Client client, int attempt, GrpcRequest grpcRequest, CompletableFuture<O> returnFuture) {
+        var wasConnected = grpcRequest.getNode().hasConnected();
+
         grpcRequest.getNode().channelFailedToConnectAsync().thenAccept(connectionFailed -> {
+            if (connectionFailed || !wasConnected) {
+                client.network.getMetrics().onChannelConnect(grpcRequest.getNode().getAccountId(), !connectionFailed);
+            }
+
             if (connectionFailed) {
                 var connectionException = grpcRequest.reactToConnectionFailure();
                 executeAsyncInternal(client, attempt + 1, connectionException, returnFuture);
                 return;
             }
 
-            toCompletableFuture(ClientCalls.futureUnaryCall(grpcRequest.createCall(), grpcRequest.getRequest())).handle((response, error) -> {
-                if (grpcRequest.shouldRetryExceptionally(error)) {
+            beforeSend(grpcRequest.getNode().getAccountId()).thenCompose(ignored -> {
+                var sent = sendWithHedging(client, grpcRequest);
+
+                // Give up the place in the node's queue, and the call, once the request has timed out
+                returnFuture.whenComplete((result, error) -> sent.cancel(false));
+
+                return sent;
+            }).thenAccept(answer -> {
+                var answeredRequest = answer.request;
+                var response = answer.response;
+                var error = answer.error;
+
+                if (answeredRequest.shouldRetryExceptionally(error)) {
                     // the transaction had a network failure reaching Hedera
                     executeAsyncInternal(client, attempt + 1, error, returnFuture);
-                    return null;
+                    return;
                 }
 
                 if (error != null) {
                     // not a network failure, some other weirdness going on; just fail fast
                     returnFuture.completeExceptionally(new CompletionException(error));
-                    return null;
+                    return;
                 }
 
-                switch (grpcRequest.getStatus(response)) {
+                switch (answeredRequest.getStatus(Objects.requireNonNull(response))) {
                     case ServerError:
-                        executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture);
+                        executeAsyncInternal(client, attempt + 1, answeredRequest.mapStatusException(), returnFuture);
                         break;
                     case Retry:
-                        Delayer.delayFor((attempt < maxAttempts) ? grpcRequest.getDelay() : 0, client.executor).thenRun(() -> {
-                            executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture);
+                        Delayer.delayFor((attempt < maxAttempts) ? answeredRequest.getDelay() : 0, client.executor).thenRun(() -> {
+                            executeAsyncInternal(client, attempt + 1, answeredRequest.mapStatusException(), returnFuture);
                         });
                         break;
                     case RequestError:
-                        returnFuture.completeExceptionally(new CompletionException(grpcRequest.mapStatusException()));
+                        returnFuture.completeExceptionally(new CompletionException(answeredRequest.mapStatusException()));
                         break;
                     case Success:
                     default:
-                        returnFuture.complete(grpcRequest.mapResponse());
+                        returnFuture.complete(answeredRequest.mapResponse());
                 }
-                return null;
             }).exceptionally(error -> {
                 returnFuture.completeExceptionally(error);
                 return null;
@@ -472,6 +618,105 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
 
     abstract ProtoRequestT makeRequest();
 
+    /**
+     * Called before an attempt is sent to a node; the attempt is not sent until the returned future completes.
+     *
+     * @param nodeId                    the node the attempt is about to be sent to
+     * @return                          future which completes once the attempt may be sent
+     */
+    CompletableFuture<Void> beforeSend(AccountId nodeId) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void awaitBeforeSend(Node node) throws PrecheckStatusException, TimeoutException {
+        try {
+            beforeSend(node.getAccountId()).join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof PrecheckStatusException) {
+                throw (PrecheckStatusException) cause;
+            } else if (cause instanceof TimeoutException) {
+                throw (TimeoutException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Extract the request type used to pace the request against the client's throttle.
+     *
+     * @param request                   the request
+     * @return                          the request type, or {@code NONE} if the request is not throttled
+     */
+    RequestType getRequestType(ProtoRequestT request) {
+        return RequestType.NONE;
+    }
+
+    /**
+     * Reserve room for a request in the client's throttle.
+     *
+     * @param client                    the client
+     * @param grpcRequest               the request
+     * @return                          the time in milliseconds to wait before sending the request
+     */
+    private long reserveThrottle(Client client, GrpcRequest grpcRequest) {
+        var throttle = client.getRequestThrottle();
+
+        if (throttle == null) {
+            return 0;
+        }
+
+        var delayNanos = throttle.reserve(
+            grpcRequest.getNode().getAccountId(),
+            client.network.getNodeCount(),
+            getRequestType(grpcRequest.getRequest())
+        );
+
+        return (delayNanos + 999_999) / 1_000_000;
+    }
+
+    /**
+     * Can this request be sent to a second node while the first is still answering?
+     *
+     * @return                          whether this request may be hedged
+     */
+    boolean isHedgeable() {
+        return true;
+    }
+
+    private boolean isHedgingEnabled() {
+        return hedgeDelayPercentile != null && hedgeDelayPercentile > 0 && nodes.size() > 1 && isHedgeable();
+    }
+
+    /**
+     * Send the request and, if hedging is enabled and it has not been answered within the hedge delay, send
+     * the same request to the next node as well.
+     *
+     * @param client                    the client
+     * @param grpcRequest               the request for the first node
+     * @return                          the first answer
+     */
+    private CompletableFuture<HedgedAnswer> sendWithHedging(Client client, GrpcRequest grpcRequest) {
+        if (!isHedgingEnabled()) {
+            return new HedgedCall(client, grpcRequest, false).start(0);
+        }
+
+        var hedgeDelayNanos = client.network
+            .getLatencyWindow(getMethodDescriptor().getFullMethodName())
+            .getPercentileNanos(Objects.requireNonNull(hedgeDelayPercentile));
+
+        // Without enough samples there is no way to tell a slow node from a slow request
+        if (hedgeDelayNanos < 0) {
+            return new HedgedCall(client, grpcRequest, false).start(0);
+        }
+
+        return new HedgedCall(client, grpcRequest, true).start(TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+    }
+
     GrpcRequest getGrpcRequest(int attempt) {
         return new GrpcRequest(null, attempt);
     }
@@ -500,6 +745,22 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
     @Nullable
     abstract TransactionId getTransactionIdInternal();
 
+    /**
+     * Does the failure mean the node is overloaded?
+     *
+     * @param error                     the failure
+     * @return                          whether the node ran out of capacity or did not answer in time
+     */
+    static boolean isOverloadFailure(@Nullable Throwable error) {
+        if (error instanceof StatusRuntimeException) {
+            var status = ((StatusRuntimeException) error).getStatus().getCode();
+
+            return status == Code.DEADLINE_EXCEEDED || status == Code.RESOURCE_EXHAUSTED;
+        }
+
+        return false;
+    }
+
     boolean shouldRetryExceptionally(@Nullable Throwable error) {
         if (error instanceof StatusRuntimeException) {
             var statusException = (StatusRuntimeException) error;
@@ -532,6 +793,168 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         }
     }
 
+    /**
+     * The first answer to a possibly hedged request.
+     */
+    final class HedgedAnswer {
+        final GrpcRequest request;
+        @Nullable
+        final ResponseT response;
+        @Nullable
+        final Throwable error;
+
+        HedgedAnswer(GrpcRequest request, @Nullable ResponseT response, @Nullable Throwable error) {
+            this.request = request;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    /**
+     * A request sent to one node and, after the hedge delay, to a second one.
+     * <p>
+     * The first response from either node wins and the other call is cancelled. A failed call only wins once
+     * the other node has failed too, and it sends the hedge straight away if it was still waiting.
+     * <p>
+     * The hedge is only built once it is due, so an answer that arrives in time leaves the node index alone.
+     */
+    private final class HedgedCall {
+        private final CompletableFuture<HedgedAnswer> answer = new CompletableFuture<>();
+        private final Client client;
+        private final GrpcRequest primary;
+        private final boolean hedgeable;
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+
+        // guarded by this
+        @Nullable
+        private GrpcRequest hedge = null;
+        private boolean settled = false;
+
+        HedgedCall(Client client, GrpcRequest primary, boolean hedgeable) {
+            this.client = client;
+            this.primary = primary;
+            this.hedgeable = hedgeable;
+        }
+
+        CompletableFuture<HedgedAnswer> start(long hedgeDelayMillis) {
+            answer.whenComplete((result, error) -> {
+                if (answer.isCancelled()) {
+                    cancel();
+                }
+            });
+
+            send(primary);
+
+            if (hedgeable) {
+                Delayer.delayFor(hedgeDelayMillis, client.executor).thenRun(this::sendHedge);
+            }
+
+            return answer;
+        }
+
+        /**
+         * Build and send the hedge, unless it was sent already, an answer won, or there is no other healthy
+         * node to send it to.
+         *
+         * @return                          whether the hedge was sent by this call
+         */
+        private boolean sendHedge() {
+            GrpcRequest request;
+
+            synchronized (this) {
+                if (!hedgeable || settled || hedge != null) {
+                    return false;
+                }
+
+                // Look before building, as building the request advances the node index
+                var next = nodes.get(nodeAccountIds.getIndex());
+
+                if (next == primary.getNode() || !next.isHealthy()) {
+                    return false;
+                }
+
+                request = new GrpcRequest(client.network, primary.attempt);
+                hedge = request;
+                outstanding.incrementAndGet();
+            }
+
+            logger.trace("Hedging request #{} to node {} while waiting on node {}",
+                request.attempt, request.getNode().getAccountId(), primary.getNode().getAccountId());
+
+            var throttleDelay = reserveThrottle(client, request);
+
+            if (throttleDelay > 0) {
+                Delayer.delayFor(throttleDelay, client.executor).thenRun(() -> send(request));
+            } else {
+                send(request);
+            }
+
+            return true;
+        }
+
+        private void send(GrpcRequest request) {
+            if (answer.isDone()) {
+                return;
+            }
+
+            try {
+                request.send().whenComplete((response, error) -> onAnswer(request, response, error));
+            } catch (RuntimeException e) {
+                onAnswer(request, null, e);
+            }
+        }
+
+        private void cancel() {
+            GrpcRequest sentHedge;
+
+            synchronized (this) {
+                settled = true;
+                sentHedge = hedge;
+            }
+
+            primary.cancel();
+
+            if (sentHedge != null) {
+                sentHedge.cancel();
+            }
+        }
+
+        @Nullable
+        private synchronized GrpcRequest settle(GrpcRequest request) {
+            if (settled) {
+                return null;
+            }
+
+            settled = true;
+
+            return request == primary ? hedge : primary;
+        }
+
+        private void onAnswer(GrpcRequest request, @Nullable ResponseT response, @Nullable Throwable error) {
+            if (error == null) {
+                var other = settle(request);
+
+                if (answer.complete(new HedgedAnswer(request, response, null)) && other != null) {
+                    other.cancel();
+                }
+                return;
+            }
+
+            // A failed primary sends the hedge now instead of waiting for the delay
+            if (request == primary) {
+                sendHedge();
+            }
+
+            if (outstanding.decrementAndGet() == 0) {
+                settle(request);
+                answer.complete(new HedgedAnswer(request, null, error));
+            } else {
+                // The other node may still answer, so only account for this node's failure
+                request.shouldRetryExceptionally(error);
+            }
+        }
+    }
+
     @VisibleForTesting
     class GrpcRequest {
         @Nullable
@@ -540,11 +963,24 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         private final int attempt;
         //private final ClientCall<ProtoRequestT, ResponseT> call;
         private final ProtoRequestT request;
-        private final long startAt;
         private final long delay;
+        private volatile long startAt;
+
+        @Nullable
+        private volatile ListenableFuture<ResponseT> call;
+
+        @Nullable
+        private volatile CompletableFuture<Void> permit;
+
+        private final AtomicBoolean permitHeld = new AtomicBoolean();
+
+        private final boolean limited;
+
+        private final ClientMetrics metrics;
 
         private ResponseT response;
         private double latency;
+        private long latencyNanos;
         private Status responseStatus;
 
         GrpcRequest(@Nullable Network network, int attempt) {
@@ -553,6 +989,8 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             this.node = getNodeForExecute(attempt);
             this.request = getRequestForExecute();
             this.startAt = System.nanoTime();
+            this.metrics = network != null ? network.getMetrics() : ClientMetrics.NOOP;
+            this.limited = network != null && network.isConcurrencyLimitEnabled();
 
             // Exponential back-off for Delayer: 250ms, 500ms, 1s, 2s, 4s, 8s, ... 8s
             delay = (long) Math.min(Objects.requireNonNull(minBackoff).toMillis() * Math.pow(2, attempt - 1), Objects.requireNonNull(maxBackoff).toMillis());
@@ -581,6 +1019,150 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return request;
         }
 
+        /**
+         * Time the request from now rather than from when it was built.
+         */
+        void startTimer() {
+            startAt = System.nanoTime();
+        }
+
+        /**
+         * Send the request asynchronously, timing it from now.
+         *
+         * @return                          the response
+         */
+        CompletableFuture<ResponseT> send() {
+            var result = new CompletableFuture<ResponseT>();
+            var waiting = limited ? node.getConcurrencyLimiter().acquire() : CompletableFuture.<Void>completedFuture(null);
+            permit = waiting;
+
+            waiting.whenComplete((ignored, waitError) -> {
+                if (waitError != null) {
+                    // Cancelled while waiting for a place
+                    result.completeExceptionally(waitError);
+                    return;
+                }
+
+                permitHeld.set(limited);
+                startTimer();
+
+                try {
+                    var future = ClientCalls.futureUnaryCall(createCall(), request);
+                    call = future;
+
+                    toCompletableFuture(future).whenComplete((response, error) -> {
+                        releasePermit(response, error);
+
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(response);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    releasePermit(null, e);
+                    result.completeExceptionally(e);
+                }
+            });
+
+            return result;
+        }
+
+        /**
+         * Wait for a place under the node's concurrency limit before a blocking call.
+         *
+         * @param timeoutTime               the instant the request times out
+         * @throws TimeoutException         when no place frees up before the request times out
+         */
+        void acquirePermit(Instant timeoutTime) throws TimeoutException {
+            if (!limited) {
+                return;
+            }
+
+            var waiting = node.getConcurrencyLimiter().acquire();
+
+            try {
+                waiting.get(Math.max(0, timeoutTime.toEpochMilli() - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                giveUpPermit(waiting);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            } catch (TimeoutException e) {
+                giveUpPermit(waiting);
+                throw e;
+            }
+
+            permitHeld.set(true);
+        }
+
+        private void giveUpPermit(CompletableFuture<Void> waiting) {
+            // The place may have been handed over just before the wait ended
+            if (!waiting.cancel(false)) {
+                node.getConcurrencyLimiter().onIgnored();
+            }
+        }
+
+        /**
+         * Make the blocking call, once {@link #acquirePermit(Instant)} has returned.
+         *
+         * @return                          the response
+         */
+        ResponseT callBlocking() {
+            startTimer();
+
+            try {
+                var response = blockingUnaryCall.apply(this);
+                releasePermit(response, null);
+                return response;
+            } catch (RuntimeException e) {
+                releasePermit(null, e);
+                throw e;
+            }
+        }
+
+        /**
+         * Give back the place under the node's concurrency limit, telling the limiter whether the node seemed
+         * overloaded.
+         */
+        private void releasePermit(@Nullable ResponseT response, @Nullable Throwable error) {
+            if (!permitHeld.compareAndSet(true, false)) {
+                return;
+            }
+
+            var limiter = node.getConcurrencyLimiter();
+
+            if (response != null) {
+                if (Executable.this.mapResponseStatus(response) == Status.BUSY) {
+                    limiter.onDropped(System.nanoTime() - startAt);
+                } else {
+                    limiter.onSuccess(getMethodDescriptor().getFullMethodName(), System.nanoTime() - startAt);
+                }
+            } else if (isOverloadFailure(error)) {
+                limiter.onDropped(System.nanoTime() - startAt);
+            } else {
+                limiter.onIgnored();
+            }
+        }
+
+        /**
+         * Cancel the request if it was sent and has not been answered, or give up its place in the queue.
+         */
+        void cancel() {
+            var waiting = permit;
+
+            if (waiting != null) {
+                waiting.cancel(false);
+            }
+
+            var future = call;
+
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
         public long getDelay() {
             return delay;
         }
@@ -593,8 +1175,17 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return new IllegalStateException("Failed to connect to node " + node.getAccountId());
         }
 
+        private void recordLatency() {
+            latencyNanos = System.nanoTime() - startAt;
+            latency = (double) latencyNanos / 1000000000.0;
+        }
+
         boolean shouldRetryExceptionally(@Nullable Throwable e) {
-            latency = (double) (System.nanoTime() - startAt) / 1000000000.0;
+            recordLatency();
+
+            if (e != null) {
+                metrics.onAttemptFailed(Executable.this.getClass(), node.getAccountId(), attempt, latencyNanos, e);
+            }
 
             var retry = Executable.this.shouldRetryExceptionally(e);
 
@@ -621,15 +1212,34 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         ExecutionState getStatus(ResponseT response) {
             node.decreaseBackoff();
 
+            // The synchronous path only records the latency on failure
+            if (latencyNanos == 0) {
+                recordLatency();
+            }
+
             this.response = response;
             this.responseStatus = Executable.this.mapResponseStatus(response);
 
+            metrics.onAttemptCompleted(Executable.this.getClass(), node.getAccountId(), attempt, latencyNanos, responseStatus);
+
             logger.trace("Received {} response in {} s from node {} during attempt #{}: {}",
                 responseStatus, latency, node.getAccountId(), attempt, response);
 
             // Delegate interpretation of response status to subclass. Queries will initiate retries
             // differently from transaction submissions.
             var executionState = Executable.this.shouldRetry(responseStatus, response);
+
+            // Feed the observation into the node's health so the network favours fast and reliable nodes
+            if (executionState == ExecutionState.ServerError) {
+                node.recordFailure();
+            } else {
+                node.recordSuccess(latencyNanos);
+            }
+
+            if (executionState == ExecutionState.Success && network != null) {
+                network.getLatencyWindow(Executable.this.getMethodDescriptor().getFullMethodName()).record(latencyNanos);
+            }
+
             if (executionState == ExecutionState.ServerError && attemptedAllNodes) {
                 executionState = ExecutionState.Retry;
                 attemptedAllNodes = false;
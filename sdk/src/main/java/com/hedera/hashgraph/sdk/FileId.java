@@ -42,6 +42,10 @@ public final class FileId implements Comparable<FileId> {
      * The current exchange rate of HBAR to USD.
      */
     public static final FileId EXCHANGE_RATES = new FileId(0, 0, 112);
+    /**
+     * The current throttle definitions for the network.
+     */
+    public static final FileId THROTTLE_DEFINITIONS = new FileId(0, 0, 123);
     /**
      * The shard number
      */
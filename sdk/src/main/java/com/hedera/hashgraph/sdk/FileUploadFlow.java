@@ -0,0 +1,587 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java8.util.concurrent.CompletableFuture;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Upload a large file by streaming its contents into a {@link FileCreateTransaction} followed by as many
+ * {@link FileAppendTransaction}s as needed.
+ * <p>
+ * Only one segment of {@code chunkSize * maxChunks} bytes is held in memory at a time, rather than the whole
+ * contents. The chunks of each segment are pipelined, with up to {@code maxInFlightChunks}
+ * of them awaiting consensus at the same time (see {@link FileAppendTransaction#setMaxInFlightChunks(int)}).
+ * <p>
+ * Once every chunk has been appended, the file is read back with a {@link FileContentsQuery} and its SHA-384
+ * hash is compared to the hash of the streamed contents.
+ */
+// Re-use the WithExecute interface that was generated for Executable
+public class FileUploadFlow implements WithExecute<FileId> {
+    @Nullable
+    private InputStream contentsStream = null;
+    @Nullable
+    private File contentsFile = null;
+    @Nullable
+    private Key keys = null;
+    @Nullable
+    private String fileMemo = null;
+    private int chunkSize = FileAppendTransaction.DEFAULT_CHUNK_SIZE;
+    private int maxChunks = 20;
+    private int maxInFlightChunks = 1;
+    private boolean verifyContents = true;
+    @Nullable
+    private List<AccountId> nodeAccountIds = null;
+
+    public FileUploadFlow() {
+    }
+
+    /**
+     * Assign the stream to read the contents of the file from.
+     * <p>
+     * The stream is read exactly once and is not closed by this flow.
+     *
+     * @param contents                  the stream of contents
+     * @return {@code this}
+     */
+    public FileUploadFlow setContents(InputStream contents) {
+        Objects.requireNonNull(contents);
+        this.contentsStream = contents;
+        this.contentsFile = null;
+        return this;
+    }
+
+    /**
+     * Assign the local file to read the contents of the file from.
+     * <p>
+     * The local file is memory-mapped one segment at a time, and the chunks are sent straight from the mapping.
+     *
+     * @param contents                  the local file
+     * @return {@code this}
+     */
+    public FileUploadFlow setContents(File contents) {
+        Objects.requireNonNull(contents);
+        this.contentsFile = contents;
+        this.contentsStream = null;
+        return this;
+    }
+
+    /**
+     * Extract the keys which must sign any transactions modifying the file.
+     *
+     * @return                          the keys
+     */
+    @Nullable
+    public Key getKeys() {
+        return keys;
+    }
+
+    /**
+     * Assign the keys which must sign any transactions modifying the file.
+     * <p>
+     * Defaults to the operator public key of the client.
+     *
+     * @param keys                      the keys
+     * @return {@code this}
+     * @see FileCreateTransaction#setKeys(Key...)
+     */
+    public FileUploadFlow setKeys(Key... keys) {
+        this.keys = KeyList.of(keys);
+        return this;
+    }
+
+    /**
+     * Extract the memo of the file.
+     *
+     * @return                          the memo of the file
+     */
+    @Nullable
+    public String getFileMemo() {
+        return fileMemo;
+    }
+
+    /**
+     * Assign the memo of the file.
+     *
+     * @param fileMemo                  the memo of the file
+     * @return {@code this}
+     */
+    public FileUploadFlow setFileMemo(String fileMemo) {
+        Objects.requireNonNull(fileMemo);
+        this.fileMemo = fileMemo;
+        return this;
+    }
+
+    /**
+     * Extract the number of bytes sent in each transaction.
+     *
+     * @return                          the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Assign the number of bytes sent in each transaction.
+     *
+     * @param chunkSize                 the chunk size
+     * @return {@code this}
+     */
+    public FileUploadFlow setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Extract the number of chunks which are read into memory and appended as one segment.
+     *
+     * @return                          the number of chunks per segment
+     */
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    /**
+     * Assign the number of chunks which are read into memory and appended as one segment.
+     *
+     * @param maxChunks                 the number of chunks per segment
+     * @return {@code this}
+     */
+    public FileUploadFlow setMaxChunks(int maxChunks) {
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("maxChunks must be greater than zero");
+        }
+
+        this.maxChunks = maxChunks;
+        return this;
+    }
+
+    /**
+     * Extract the number of chunks which may be awaiting consensus at the same time.
+     *
+     * @return                          the number of chunks
+     */
+    public int getMaxInFlightChunks() {
+        return maxInFlightChunks;
+    }
+
+    /**
+     * Assign the number of chunks which may be awaiting consensus at the same time.
+     * <p>
+     * Defaults to {@code 1}, which waits for each chunk's receipt before sending the next one.
+     *
+     * @param maxInFlightChunks         the number of chunks
+     * @return {@code this}
+     * @see FileAppendTransaction#setMaxInFlightChunks(int)
+     */
+    public FileUploadFlow setMaxInFlightChunks(int maxInFlightChunks) {
+        if (maxInFlightChunks <= 0) {
+            throw new IllegalArgumentException("maxInFlightChunks must be greater than zero");
+        }
+
+        this.maxInFlightChunks = maxInFlightChunks;
+        return this;
+    }
+
+    /**
+     * Extract whether the uploaded contents are read back and compared once the upload is done.
+     *
+     * @return                          whether the contents are verified
+     */
+    public boolean getVerifyContents() {
+        return verifyContents;
+    }
+
+    /**
+     * Assign whether the uploaded contents are read back and compared once the upload is done.
+     * <p>
+     * Verifying costs one {@link FileContentsQuery}.
+     *
+     * @param verifyContents            whether the contents are verified
+     * @return {@code this}
+     */
+    public FileUploadFlow setVerifyContents(boolean verifyContents) {
+        this.verifyContents = verifyContents;
+        return this;
+    }
+
+    /**
+     * Extract the list of node account id's.
+     *
+     * @return                          the list of node account id's
+     */
+    @Nullable
+    public List<AccountId> getNodeAccountIds() {
+        return nodeAccountIds;
+    }
+
+    /**
+     * Set the account IDs of the nodes that the transactions and the query will be submitted to.
+     *
+     * @param nodeAccountIds            the list of node account id's
+     * @return {@code this}
+     */
+    public FileUploadFlow setNodeAccountIds(List<AccountId> nodeAccountIds) {
+        Objects.requireNonNull(nodeAccountIds);
+        this.nodeAccountIds = nodeAccountIds;
+        return this;
+    }
+
+    private ContentsReader openReader() throws IOException {
+        if (contentsFile != null) {
+            return new MappedFileReader(new RandomAccessFile(contentsFile, "r").getChannel());
+        } else if (contentsStream != null) {
+            return new StreamReader(contentsStream);
+        }
+
+        throw new IllegalStateException("Cannot execute a file upload flow when contents were not provided");
+    }
+
+    private FileCreateTransaction createFileCreateTransaction(Client client, ByteString contents) {
+        var fileCreateTx = new FileCreateTransaction()
+            .setKeys(keys != null ? keys : Objects.requireNonNull(client.getOperatorPublicKey()))
+            .setContents(contents.toByteArray());
+        if (fileMemo != null) {
+            fileCreateTx.setFileMemo(fileMemo);
+        }
+        if (nodeAccountIds != null) {
+            fileCreateTx.setNodeAccountIds(nodeAccountIds);
+        }
+        return fileCreateTx;
+    }
+
+    private FileAppendTransaction createFileAppendTransaction(FileId fileId, ByteString segment) {
+        var fileAppendTx = new FileAppendTransaction()
+            .setFileId(fileId)
+            .setChunkSize(chunkSize)
+            .setMaxChunks(maxChunks)
+            .setMaxInFlightChunks(maxInFlightChunks)
+            .setContents(segment);
+        if (nodeAccountIds != null) {
+            fileAppendTx.setNodeAccountIds(nodeAccountIds);
+        }
+        return fileAppendTx;
+    }
+
+    private FileContentsQuery createFileContentsQuery(FileId fileId) {
+        var fileContentsQuery = new FileContentsQuery()
+            .setFileId(fileId);
+        if (nodeAccountIds != null) {
+            fileContentsQuery.setNodeAccountIds(nodeAccountIds);
+        }
+        return fileContentsQuery;
+    }
+
+    /**
+     * Compare the contents read back from the network with the hash of the streamed contents.
+     *
+     * @param fileId                    the uploaded file
+     * @param contents                  the contents read back from the network
+     * @param reader                    the reader which streamed the contents
+     * @return                          the uploaded file
+     */
+    static FileId checkContents(FileId fileId, ByteString contents, ContentsReader reader) {
+        if (contents.size() != reader.getSize() || !MessageDigest.isEqual(hash(contents), reader.getHash())) {
+            throw new IllegalStateException(
+                "contents of file " + fileId + " do not match the uploaded data (" +
+                contents.size() + " bytes on the network, " + reader.getSize() + " bytes uploaded)");
+        }
+
+        return fileId;
+    }
+
+    private static byte[] hash(ByteString contents) {
+        var digest = new SHA384Digest();
+
+        for (var part : contents.asReadOnlyByteBufferList()) {
+            ContentsReader.update(digest, part);
+        }
+
+        var hash = new byte[digest.getDigestSize()];
+        digest.doFinal(hash, 0);
+        return hash;
+    }
+
+    /**
+     * Upload the contents and return the ID of the new file.
+     *
+     * @param client                    the client
+     * @return                          the ID of the new file
+     * @throws PrecheckStatusException  when a transaction or the query fails pre-check
+     * @throws TimeoutException         when a transaction or the query times out
+     */
+    public FileId execute(Client client) throws PrecheckStatusException, TimeoutException {
+        try (var reader = openReader()) {
+            var fileId = createFileCreateTransaction(client, reader.next(chunkSize))
+                .execute(client)
+                .getReceipt(client)
+                .fileId;
+            Objects.requireNonNull(fileId);
+
+            while (true) {
+                var segment = reader.next(chunkSize * maxChunks);
+
+                if (segment.isEmpty()) {
+                    break;
+                }
+
+                createFileAppendTransaction(fileId, segment).executeAll(client);
+            }
+
+            if (!verifyContents) {
+                return fileId;
+            }
+
+            return checkContents(fileId, createFileContentsQuery(fileId).execute(client), reader);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (ReceiptStatusException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Append the remaining segments one after another.
+     *
+     * @param client                    the client
+     * @param reader                    the reader of the contents
+     * @param fileId                    the file to append to
+     * @return                          the file once every segment has been appended
+     */
+    private CompletableFuture<FileId> appendAsync(Client client, ContentsReader reader, FileId fileId) {
+        return CompletableFuture.supplyAsync(() -> reader.nextUnchecked(chunkSize * maxChunks), client.executor)
+            .thenCompose(segment -> {
+                if (segment.isEmpty()) {
+                    return CompletableFuture.completedFuture(fileId);
+                }
+
+                return createFileAppendTransaction(fileId, segment)
+                    .executeAllAsync(client)
+                    .thenCompose(ignored -> appendAsync(client, reader, fileId));
+            });
+    }
+
+    @Override
+    public CompletableFuture<FileId> executeAsync(Client client) {
+        ContentsReader reader;
+
+        try {
+            reader = openReader();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new RuntimeException(e));
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return CompletableFuture.supplyAsync(() -> reader.nextUnchecked(chunkSize), client.executor)
+            .thenCompose(contents -> createFileCreateTransaction(client, contents).executeAsync(client))
+            .thenCompose(response -> response.getReceiptAsync(client))
+            .thenCompose(receipt -> appendAsync(client, reader, Objects.requireNonNull(receipt.fileId)))
+            .thenCompose(fileId -> {
+                if (!verifyContents) {
+                    return CompletableFuture.completedFuture(fileId);
+                }
+
+                return createFileContentsQuery(fileId)
+                    .executeAsync(client)
+                    .thenApply(contents -> checkContents(fileId, contents, reader));
+            })
+            .whenComplete((fileId, error) -> reader.closeQuietly());
+    }
+
+    /**
+     * Reads the contents one segment at a time while hashing everything that was read.
+     */
+    abstract static class ContentsReader implements Closeable {
+        private static final int SCRATCH_SIZE = 8192;
+
+        private final SHA384Digest digest = new SHA384Digest();
+        private long size = 0;
+
+        /**
+         * Read the next segment of the contents, only stopping early at the end of the contents.
+         *
+         * @param maxLength             the maximum number of bytes to read
+         * @return                      the segment, which is empty at the end of the contents
+         * @throws IOException          when reading fails
+         */
+        abstract ByteString read(int maxLength) throws IOException;
+
+        /**
+         * Read the next segment of the contents and add it to the hash.
+         *
+         * @param maxLength             the maximum number of bytes to read
+         * @return                      the segment, which is empty at the end of the contents
+         * @throws IOException          when reading fails
+         */
+        ByteString next(int maxLength) throws IOException {
+            var segment = read(maxLength);
+
+            for (var part : segment.asReadOnlyByteBufferList()) {
+                update(digest, part);
+            }
+
+            size += segment.size();
+
+            return segment;
+        }
+
+        static void update(SHA384Digest digest, ByteBuffer part) {
+            if (part.hasArray()) {
+                digest.update(part.array(), part.arrayOffset() + part.position(), part.remaining());
+                return;
+            }
+
+            // Read-only and mapped buffers do not expose an array, so hash them through a small scratch buffer
+            var scratch = new byte[Math.min(SCRATCH_SIZE, part.remaining())];
+
+            while (part.hasRemaining()) {
+                var length = Math.min(scratch.length, part.remaining());
+                part.get(scratch, 0, length);
+                digest.update(scratch, 0, length);
+            }
+        }
+
+        ByteString nextUnchecked(int maxLength) {
+            try {
+                return next(maxLength);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Extract the number of bytes read so far.
+         *
+         * @return                      the number of bytes
+         */
+        long getSize() {
+            return size;
+        }
+
+        /**
+         * Extract the SHA-384 hash of everything read so far.
+         *
+         * @return                      the hash
+         */
+        byte[] getHash() {
+            // copy so the running digest can keep going
+            var copy = new SHA384Digest(digest);
+            var hash = new byte[copy.getDigestSize()];
+            copy.doFinal(hash, 0);
+            return hash;
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // nothing left to read
+            }
+        }
+    }
+
+    /**
+     * Reads the contents from a caller-owned stream.
+     */
+    static final class StreamReader extends ContentsReader {
+        private final InputStream stream;
+
+        StreamReader(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        ByteString read(int maxLength) throws IOException {
+            var buffer = new byte[maxLength];
+            @Var int offset = 0;
+
+            while (offset < buffer.length) {
+                var read = stream.read(buffer, offset, buffer.length - offset);
+
+                if (read < 0) {
+                    break;
+                }
+
+                offset += read;
+            }
+
+            // The buffer is never touched again, so it can back the segment without a copy
+            return UnsafeByteOperations.unsafeWrap(buffer, 0, offset);
+        }
+
+        @Override
+        public void close() {
+            // the stream belongs to the caller
+        }
+    }
+
+    /**
+     * Reads the contents by memory-mapping a local file one segment at a time, handing out the mapping itself.
+     */
+    static final class MappedFileReader extends ContentsReader {
+        private final FileChannel channel;
+        private long position = 0;
+
+        MappedFileReader(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        ByteString read(int maxLength) throws IOException {
+            var length = Math.min(maxLength, channel.size() - position);
+
+            if (length <= 0) {
+                return ByteString.EMPTY;
+            }
+
+            // The mapping stays valid after the channel is closed, and it is read-only so it cannot change
+            var segment = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+
+            return UnsafeByteOperations.unsafeWrap(segment);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
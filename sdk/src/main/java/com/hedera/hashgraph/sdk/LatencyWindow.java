@@ -0,0 +1,77 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A sliding window of the most recent request latencies, used to pick the hedge delay.
+ */
+final class LatencyWindow {
+    /**
+     * Number of latencies kept.
+     */
+    static final int SIZE = 256;
+
+    /**
+     * Number of latencies needed before a percentile is reported.
+     */
+    static final int MIN_SAMPLES = 20;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * Record the latency of a request, replacing the oldest one once the window is full.
+     *
+     * @param latencyNanos              the request latency in nanoseconds
+     */
+    void record(long latencyNanos) {
+        samples.set((int) (count.getAndIncrement() % SIZE), latencyNanos);
+    }
+
+    /**
+     * Extract the latency below which the given percentage of the recorded requests completed.
+     *
+     * @param percentile                the percentile, greater than 0 and at most 100
+     * @return                          the latency in nanoseconds, or -1 if there are too few samples
+     */
+    long getPercentileNanos(double percentile) {
+        var size = (int) Math.min(count.get(), SIZE);
+
+        if (size < MIN_SAMPLES) {
+            return -1;
+        }
+
+        var sorted = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+
+        Arrays.sort(sorted);
+
+        var index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
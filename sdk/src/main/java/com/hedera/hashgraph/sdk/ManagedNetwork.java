@@ -26,14 +26,19 @@ import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Abstracts away most of the similar functionality between {@link Network} and {@link MirrorNetwork}
  *
+ * Node selection is lock-free: {@link #nodes}, {@link #network} and {@link #healthyNodes} always hold immutable
+ * snapshots which are replaced as a whole (copy-on-write) whenever the network changes. Only the methods which
+ * change the shape of the network (setting the network, closing or removing nodes) synchronize on {@code this}.
+ *
  * @param <ManagedNetworkT> - The network that is extending this class. This is used for builder pattern setter methods.
  * @param <KeyT> - The identifying type for the network.
  * @param <ManagedNodeT> - The specific node type for this network.
@@ -43,24 +48,29 @@ abstract class ManagedNetwork<
     KeyT,
     ManagedNodeT extends ManagedNode<ManagedNodeT, KeyT>> {
     protected static final Integer DEFAULT_MAX_NODE_ATTEMPTS = -1;
-    protected static final Random random = new Random();
 
     protected final ExecutorService executor;
 
     /**
      * Map of node identifiers to nodes. Used to quickly fetch node for identifier.
+     *
+     * Immutable snapshot, replaced whenever the nodes change.
      */
-    protected Map<KeyT, List<ManagedNodeT>> network = new ConcurrentHashMap<>();
+    protected volatile Map<KeyT, List<ManagedNodeT>> network = Collections.emptyMap();
 
     /**
      * The list of all nodes.
+     *
+     * Immutable snapshot, replaced whenever the nodes change.
      */
-    protected List<ManagedNodeT> nodes = new ArrayList<>();
+    protected volatile List<ManagedNodeT> nodes = Collections.emptyList();
 
     /**
      * The list of currently healthy nodes.
+     *
+     * Holds an immutable snapshot which is swapped using compare-and-set when nodes are removed or readmitted.
      */
-    protected List<ManagedNodeT> healthyNodes = new ArrayList<>();
+    protected final AtomicReference<List<ManagedNodeT>> healthyNodes = new AtomicReference<>(Collections.emptyList());
 
     /**
      * The current minimum backoff for the nodes in the network. This backoff is used when nodes return a bad
@@ -100,9 +110,10 @@ abstract class ManagedNetwork<
     protected Duration maxNodeReadmitTime = Client.DEFAULT_MAX_NODE_BACKOFF;
 
     /**
-     * The instant that readmission will happen after.
+     * The instant that readmission will happen after. Whichever thread manages to advance this value performs the
+     * readmission, so concurrent callers never readmit the same window twice.
      */
-    protected Instant earliestReadmitTime;
+    protected final AtomicReference<Instant> earliestReadmitTime;
 
     /**
      * The name of the network. This corresponds to ledger ID in entity ID checksum calculations
@@ -112,7 +123,7 @@ abstract class ManagedNetwork<
 
     protected ManagedNetwork(ExecutorService executor) {
         this.executor = executor;
-        earliestReadmitTime = Instant.now().plus(minNodeReadmitTime);
+        earliestReadmitTime = new AtomicReference<>(Instant.now().plus(minNodeReadmitTime));
     }
 
     /**
@@ -271,17 +282,23 @@ abstract class ManagedNetwork<
      */
     synchronized ManagedNetworkT setTransportSecurity(boolean transportSecurity) throws InterruptedException {
         if (this.transportSecurity != transportSecurity) {
-            network.clear();
+            var newNodes = new ArrayList<ManagedNodeT>(nodes.size());
+            var newHealthyNodes = new ArrayList<ManagedNodeT>(nodes.size());
 
-            for (int i = 0; i < nodes.size(); i++) {
-                @Var var node = nodes.get(i);
+            for (var node : nodes) {
                 node.close(closeTimeout);
 
-                node = transportSecurity ? node.toSecure() : node.toInsecure();
+                var newNode = transportSecurity ? node.toSecure() : node.toInsecure();
 
-                nodes.set(i, node);
-                getNodesForKey(node.getKey()).add(node);
+                newNodes.add(newNode);
+                if (newNode.isHealthy()) {
+                    newHealthyNodes.add(newNode);
+                }
             }
+
+            nodes = Collections.unmodifiableList(newNodes);
+            network = createNetworkMap(newNodes);
+            healthyNodes.set(Collections.unmodifiableList(newHealthyNodes));
         }
 
         this.transportSecurity = transportSecurity;
@@ -362,9 +379,7 @@ abstract class ManagedNetwork<
      * @throws InterruptedException - when acquiring the lock
      */
     synchronized ManagedNetworkT setNetwork(Map<String, KeyT> network) throws TimeoutException, InterruptedException {
-        var newNodes = new ArrayList<ManagedNodeT>();
-        var newHealthyNodes = new ArrayList<ManagedNodeT>(newNodes.size());
-        var newNetwork = new HashMap<KeyT, List<ManagedNodeT>>(newNodes.size());
+        var newNodes = new ArrayList<ManagedNodeT>(this.nodes);
         var newNodeKeys = new HashSet<KeyT>();
         var newNodeAddresses = new HashSet<String>();
 
@@ -372,20 +387,18 @@ abstract class ManagedNetwork<
         for (var index : getNodesToRemove(network)) {
             var stopAt = Instant.now().getEpochSecond() + closeTimeout.getSeconds();
             var remainingTime = stopAt - Instant.now().getEpochSecond();
-            var node = nodes.get(index);
+            var node = newNodes.get(index);
 
             // Exit early if we have no time remaining
             if (remainingTime <= 0) {
                 throw new TimeoutException("Failed to properly shutdown all channels");
             }
 
-            removeNodeFromNetwork(node);
             node.close(Duration.ofSeconds(remainingTime));
-            this.nodes.remove(index.intValue());
+            newNodes.remove(index.intValue());
         }
 
-        for (var node : this.nodes) {
-            newNodes.add(node);
+        for (var node : newNodes) {
             newNodeKeys.add(node.getKey());
             newNodeAddresses.add(node.address.toString());
         }
@@ -400,22 +413,10 @@ abstract class ManagedNetwork<
             newNodes.add(node);
         }
 
-        for (var node : newNodes) {
-            if (newNetwork.containsKey(node.getKey())) {
-                newNetwork.get(node.getKey()).add(node);
-            } else {
-                var list = new ArrayList<ManagedNodeT>();
-                list.add(node);
-                newNetwork.put(node.getKey(), list);
-            }
-
-            newHealthyNodes.add(node);
-        }
-
         // Atomically set all the variables
-        nodes = newNodes;
-        this.network = newNetwork;
-        healthyNodes = newHealthyNodes;
+        nodes = Collections.unmodifiableList(newNodes);
+        this.network = createNetworkMap(newNodes);
+        healthyNodes.set(nodes);
 
         // noinspection unchecked
         return (ManagedNetworkT) this;
@@ -423,29 +424,82 @@ abstract class ManagedNetwork<
 
     void increaseBackoff(ManagedNodeT node) {
         node.increaseBackoff();
-        healthyNodes.remove(node);
+        node.recordFailure();
+
+        if (removeHealthyNode(node)) {
+            onNodeUnhealthy(node);
+        }
     }
 
     void decreaseBackoff(ManagedNodeT node) {
         node.decreaseBackoff();
     }
 
-    private void removeNodeFromNetwork(ManagedNodeT node) {
-        var nodesForKey = this.network.get(node.getKey());
-        nodesForKey.remove(node);
-        if (nodesForKey.isEmpty()) {
-            this.network.remove(node.getKey());
+    /**
+     * Remove a node from the healthy snapshot without locking. Retries if another thread swapped the snapshot
+     * in the meantime.
+     *
+     * @param node                      the node to remove
+     * @return                          whether the node was healthy before
+     */
+    private boolean removeHealthyNode(ManagedNodeT node) {
+        while (true) {
+            var current = healthyNodes.get();
+            var index = current.indexOf(node);
+
+            if (index < 0) {
+                return false;
+            }
+
+            var updated = new ArrayList<ManagedNodeT>(current);
+            updated.remove(index);
+
+            if (healthyNodes.compareAndSet(current, Collections.unmodifiableList(updated))) {
+                return true;
+            }
         }
     }
 
-    private List<ManagedNodeT> getNodesForKey(KeyT key) {
-        if (network.containsKey(key)) {
-            return network.get(key);
-        } else {
-            var newList = new ArrayList<ManagedNodeT>();
-            network.put(key, newList);
-            return newList;
+    /**
+     * Called when a healthy node is marked unhealthy.
+     *
+     * @param node                      the node
+     */
+    void onNodeUnhealthy(ManagedNodeT node) {
+    }
+
+    /**
+     * Called when an unhealthy node is readmitted into the healthy nodes.
+     *
+     * @param node                      the node
+     */
+    void onNodeReadmitted(ManagedNodeT node) {
+    }
+
+    /**
+     * Build an immutable map of node identifiers to the nodes for that identifier.
+     *
+     * @param nodes                     the nodes to index
+     * @return                          the new map
+     */
+    private Map<KeyT, List<ManagedNodeT>> createNetworkMap(List<ManagedNodeT> nodes) {
+        var newNetwork = new HashMap<KeyT, List<ManagedNodeT>>(nodes.size());
+
+        for (var node : nodes) {
+            @Var var list = newNetwork.get(node.getKey());
+            if (list == null) {
+                list = new ArrayList<>();
+                newNetwork.put(node.getKey(), list);
+            }
+
+            list.add(node);
+        }
+
+        for (var entry : newNetwork.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
         }
+
+        return Collections.unmodifiableMap(newNetwork);
     }
 
     private boolean addressIsInNodeList(String addressString, List<ManagedNodeT> nodes) {
@@ -464,17 +518,48 @@ abstract class ManagedNetwork<
      * @throws InterruptedException - when shutting down nodes
      */
     protected void removeDeadNodes() throws InterruptedException {
-        if (maxNodeAttempts > 0) {
-            for (int i = nodes.size() - 1; i >= 0; i--) {
-                var node = Objects.requireNonNull(nodes.get(i));
+        if (maxNodeAttempts <= 0 || !hasDeadNodes()) {
+            return;
+        }
+
+        var deadNodes = new ArrayList<ManagedNodeT>();
+
+        synchronized (this) {
+            var newNodes = new ArrayList<ManagedNodeT>(nodes);
+
+            for (int i = newNodes.size() - 1; i >= 0; i--) {
+                var node = Objects.requireNonNull(newNodes.get(i));
 
                 if (node.getBadGrpcStatusCount() >= maxNodeAttempts) {
-                    node.close(closeTimeout);
-                    removeNodeFromNetwork(node);
-                    nodes.remove(i);
+                    deadNodes.add(node);
+                    newNodes.remove(i);
+                    removeHealthyNode(node);
                 }
             }
+
+            nodes = Collections.unmodifiableList(newNodes);
+            network = createNetworkMap(newNodes);
         }
+
+        // Waiting for channels to close while holding the lock would pin a virtual thread to its carrier
+        for (var node : deadNodes) {
+            node.close(closeTimeout);
+        }
+    }
+
+    /**
+     * Lock-free check for nodes which have exceeded the {@link ManagedNetwork#maxNodeAttempts} limit
+     *
+     * @return                          whether any node needs to be removed
+     */
+    private boolean hasDeadNodes() {
+        for (var node : nodes) {
+            if (node.getBadGrpcStatusCount() >= maxNodeAttempts) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -482,69 +567,129 @@ abstract class ManagedNetwork<
      * {@code earliestReadmitTime}. While readmitting nodes the `earliestReadmitTime` will be updated to
      * a new value. This value is either the value of the node with the smallest readmission time from now,
      * or `minNodeReadmitTime` or `maxNodeReadmitTime`.
+     *
+     * This method does not lock. Only the thread which successfully advances `earliestReadmitTime` performs the
+     * readmission, every other caller returns immediately.
      */
-    synchronized void readmitNodes() {
+    void readmitNodes() {
         var now = Instant.now();
+        var currentReadmitTime = earliestReadmitTime.get();
 
-        if (now.toEpochMilli() > earliestReadmitTime.toEpochMilli()) {
-            var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
+        if (now.toEpochMilli() <= currentReadmitTime.toEpochMilli()) {
+            return;
+        }
 
-            for (var node : this.nodes) {
-                if (node.readmitTime.isAfter(now) && node.readmitTime.isBefore(nextEarliestReadmitTime)) {
-                    nextEarliestReadmitTime = node.readmitTime;
-                }
+        var nodes = this.nodes;
+        @Var var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
+
+        for (var node : nodes) {
+            var readmitTime = node.readmitTime;
+            if (readmitTime.isAfter(now) && readmitTime.isBefore(nextEarliestReadmitTime)) {
+                nextEarliestReadmitTime = readmitTime;
             }
+        }
 
+        if (nextEarliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
+            nextEarliestReadmitTime = now.plus(minNodeReadmitTime);
+        }
 
-            this.earliestReadmitTime = nextEarliestReadmitTime;
-            if (this.earliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
-                this.earliestReadmitTime = now.plus(minNodeReadmitTime);
-            }
+        if (!earliestReadmitTime.compareAndSet(currentReadmitTime, nextEarliestReadmitTime)) {
+            // Another thread is already readmitting nodes for this window
+            return;
+        }
 
-            outer: for (var i = 0; i < this.nodes.size(); i++) {
-                // Check if `healthyNodes` already contains this node
-                for (var j = 0; j < this.healthyNodes.size(); j++) {
-                    if (this.nodes.get(i) == this.healthyNodes.get(j)) {
-                        continue outer;
-                    }
-                }
+        while (true) {
+            var current = healthyNodes.get();
+            var healthy = Collections.newSetFromMap(new IdentityHashMap<ManagedNodeT, Boolean>(current.size()));
+            healthy.addAll(current);
 
+            @Var List<ManagedNodeT> updated = null;
+            for (var node : nodes) {
                 // If `healthyNodes` doesn't contain the node, check the `readmitTime` on the node
-                if (this.nodes.get(i).readmitTime.isBefore(now)) {
-                    this.healthyNodes.add(this.nodes.get(i));
+                if (!healthy.contains(node) && node.readmitTime.isBefore(now)) {
+                    if (updated == null) {
+                        updated = new ArrayList<>(current);
+                    }
+
+                    updated.add(node);
                 }
             }
 
+            if (updated == null) {
+                return;
+            }
+
+            if (healthyNodes.compareAndSet(current, Collections.unmodifiableList(updated))) {
+                for (var i = current.size(); i < updated.size(); i++) {
+                    onNodeReadmitted(updated.get(i));
+                }
+
+                return;
+            }
         }
     }
 
     /**
-     * Get a random node by key, or if null get a random healthy node.
+     * Get a random node by key, or if null get a random healthy node. Nodes are picked with a probability
+     * proportional to their {@link ManagedNode#getSelectionWeight()}.
      *
      * @param key                       the desired key
      * @return                          the node
      */
-    synchronized ManagedNodeT getNode(@Nullable KeyT key) {
+    ManagedNodeT getNode(@Nullable KeyT key) {
         // Attempt to readmit nodes each time a node is fetched.
         // Note: Readmitting nodes will only happen periodically so calling it each time should not harm
         // performance.
         readmitNodes();
 
         if (key == null) {
-            if (healthyNodes.isEmpty()) {
+            var healthy = healthyNodes.get();
+            if (healthy.isEmpty()) {
                 throw new IllegalStateException("No healthy node was found");
             }
 
-            return healthyNodes.get(random.nextInt(healthyNodes.size()));
+            return pickWeighted(healthy);
         }
 
-        var list = network.get(key);
-        return list.get(random.nextInt(list.size()));
+        return pickWeighted(network.get(key));
     }
 
     /**
-     * Returns `count` number of the most healthy nodes. Healthy-ness is determined by sort order; leftmost being most
-     * healthy. This will also remove any nodes which have hit or exceeded {@link ManagedNetwork#maxNodeAttempts}.
+     * Pick one node with a probability proportional to its selection weight.
+     *
+     * @param candidates                the non-empty list of nodes to pick from
+     * @return                          the picked node
+     */
+    private ManagedNodeT pickWeighted(List<ManagedNodeT> candidates) {
+        var size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        // Weights are read once; they may change concurrently
+        var weights = new double[size];
+        @Var var totalWeight = 0.0;
+        for (var i = 0; i < size; i++) {
+            weights[i] = candidates.get(i).getSelectionWeight();
+            totalWeight += weights[i];
+        }
+
+        @Var var target = ThreadLocalRandom.current().nextDouble() * totalWeight;
+        for (var i = 0; i < size - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return candidates.get(i);
+            }
+        }
+
+        return candidates.get(size - 1);
+    }
+
+    /**
+     * Returns `count` number of the most healthy nodes. Healthy nodes are sampled without replacement with a
+     * probability proportional to their {@link ManagedNode#getSelectionWeight()}, so faster and more reliable nodes
+     * are more likely to come first. This will also remove any nodes which have hit or exceeded
+     * {@link ManagedNetwork#maxNodeAttempts}.
      *
      * Returns a list of nodes where each node has a unique key.
      *
@@ -552,15 +697,39 @@ abstract class ManagedNetwork<
      * @return                          List of nodes to use
      * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    protected synchronized List<ManagedNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
+    protected List<ManagedNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
         readmitNodes();
         removeDeadNodes();
 
-        var returnNodes = new HashMap<KeyT, ManagedNodeT>(count);
+        var healthy = healthyNodes.get();
+        if (healthy.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        if (count == 1) {
+            return Lists.of(pickWeighted(healthy));
+        }
+
+        // Weighted random sampling without replacement (Efraimidis-Spirakis): every node draws the sort key
+        // `ln(u) / weight` and the nodes with the largest keys win.
+        var random = ThreadLocalRandom.current();
+        var size = healthy.size();
+        var sortKeys = new double[size];
+        var order = new Integer[size];
+        for (var i = 0; i < size; i++) {
+            sortKeys[i] = Math.log(random.nextDouble()) / healthy.get(i).getSelectionWeight();
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Double.compare(sortKeys[b], sortKeys[a]));
 
-        for (var i = 0; i < count; i++ ) {
-            var node = getNode(null);
+        var returnNodes = new LinkedHashMap<KeyT, ManagedNodeT>(count);
+        for (var index : order) {
+            if (returnNodes.size() >= count) {
+                break;
+            }
 
+            var node = healthy.get(index);
             if (!returnNodes.containsKey(node.getKey())) {
                 returnNodes.put(node.getKey(), node);
             }
@@ -612,7 +781,7 @@ abstract class ManagedNetwork<
             }
         }
 
-        nodes.clear();
-        network.clear();
+        nodes = Collections.emptyList();
+        network = Collections.emptyMap();
     }
 }
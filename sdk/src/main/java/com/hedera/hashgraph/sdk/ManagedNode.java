@@ -19,7 +19,6 @@
  */
 package com.hedera.hashgraph.sdk;
 
-import com.google.errorprone.annotations.Var;
 import io.grpc.ChannelCredentials;
 import io.grpc.ConnectivityState;
 import io.grpc.Grpc;
@@ -34,6 +33,7 @@ import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -44,10 +44,20 @@ import java.util.concurrent.TimeUnit;
  * @param <KeyT>                        the key t type
  */
 abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comparable<ManagedNode<N, KeyT>> {
-    private static final int GET_STATE_INTERVAL_MILLIS = 50;
     private static final int GET_STATE_TIMEOUT_MILLIS = 10000;
-    private static final int GET_STATE_MAX_ATTEMPTS = GET_STATE_TIMEOUT_MILLIS / GET_STATE_INTERVAL_MILLIS;
-    private boolean hasConnected = false;
+
+    /**
+     * Smoothing factor for the latency and error rate moving averages. Higher values react faster to change.
+     */
+    private static final double HEALTH_EWMA_ALPHA = 0.2;
+
+    /**
+     * How strongly the error rate reduces the selection weight. A node which fails every request is picked
+     * {@code 1 + HEALTH_ERROR_PENALTY} times less often than an equally fast node which never fails.
+     */
+    private static final double HEALTH_ERROR_PENALTY = 10.0;
+
+    private volatile boolean hasConnected = false;
 
     protected final ExecutorService executor;
 
@@ -71,7 +81,20 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
     /**
      * Timestamp of when this node will be considered healthy again
      */
-    protected Instant readmitTime;
+    protected volatile Instant readmitTime;
+
+    /**
+     * Exponentially weighted moving average of the latency of successful requests in milliseconds.
+     * Zero until the first response has been observed.
+     *
+     * Updates are intentionally not synchronized; losing a concurrent sample only slightly skews the average.
+     */
+    protected volatile double latencyEwmaMillis = 0;
+
+    /**
+     * Exponentially weighted moving average of the failure rate, between 0 (never fails) and 1 (always fails).
+     */
+    protected volatile double errorRateEwma = 0;
 
     /**
      * The current backoff duration. Uses exponential backoff so think 1s, 2s, 4s, 8s, etc until maxBackoff is hit
@@ -128,6 +151,8 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         this.badGrpcStatusCount = node.badGrpcStatusCount;
         this.lastUsed = node.lastUsed;
         this.useCount = node.useCount;
+        this.latencyEwmaMillis = node.latencyEwmaMillis;
+        this.errorRateEwma = node.errorRateEwma;
     }
 
     /**
@@ -266,6 +291,38 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         this.currentBackoff = currentBackoff.compareTo(minBackoff) > 0 ? currentBackoff : minBackoff;
     }
 
+    /**
+     * Record a response received from this node and how long it took.
+     *
+     * @param latencyNanos              the request latency in nanoseconds
+     */
+    void recordSuccess(long latencyNanos) {
+        var latencyMillis = latencyNanos / 1_000_000.0;
+        var current = latencyEwmaMillis;
+
+        latencyEwmaMillis = current == 0 ? latencyMillis : current + HEALTH_EWMA_ALPHA * (latencyMillis - current);
+        errorRateEwma = errorRateEwma * (1 - HEALTH_EWMA_ALPHA);
+    }
+
+    /**
+     * Record a failed request to this node, e.g. a bad gRPC status or a {@code BUSY} response.
+     */
+    void recordFailure() {
+        var current = errorRateEwma;
+        errorRateEwma = current + HEALTH_EWMA_ALPHA * (1 - current);
+    }
+
+    /**
+     * Relative weight used when randomly picking between healthy nodes. Faster nodes with fewer recent failures
+     * have a higher weight. A node which has not been used yet has the highest possible weight so that it is tried
+     * at least once.
+     *
+     * @return                          the selection weight, always greater than zero
+     */
+    double getSelectionWeight() {
+        return 1.0 / ((1.0 + latencyEwmaMillis) * (1.0 + HEALTH_ERROR_PENALTY * errorRateEwma));
+    }
+
     /**
      * Get the amount of time the node has to wait until it's healthy again
      *
@@ -328,47 +385,82 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         return channel;
     }
 
+    /**
+     * Determine if the channel has connected before, in which case connecting does not need to be waited for.
+     *
+     * @return                          has the channel connected
+     */
+    boolean hasConnected() {
+        return hasConnected;
+    }
+
     /**
      * Did we fail to connect?
      *
+     * Waits until the channel is ready, or for at most {@code GET_STATE_TIMEOUT_MILLIS}. The wait is driven by
+     * channel state notifications, so it returns as soon as the connection is established.
+     *
      * @return                          did we fail to connect
      */
     boolean channelFailedToConnect() {
         if (hasConnected) {
             return false;
         }
-        hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
+
         try {
-            for (@Var int i = 0; i < GET_STATE_MAX_ATTEMPTS && !hasConnected; i++) {
-                TimeUnit.MILLISECONDS.sleep(GET_STATE_INTERVAL_MILLIS);
-                hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
-            }
+            return channelFailedToConnectAsync().get();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
-        return !hasConnected;
-    }
-
-    private CompletableFuture<Boolean> channelFailedToConnectAsync(int i, ConnectivityState state) {
-        hasConnected = (state == ConnectivityState.READY);
-        if (i >= GET_STATE_MAX_ATTEMPTS || hasConnected) {
-            return CompletableFuture.completedFuture(!hasConnected);
-        }
-        return Delayer.delayFor(GET_STATE_INTERVAL_MILLIS, executor).thenCompose(ignored -> {
-            return channelFailedToConnectAsync(i + 1, getChannel().getState(true));
-        });
     }
 
     /**
      * Asynchronously determine if the channel failed to connect.
      *
+     * The returned future completes with {@code false} the moment the channel becomes ready, or with {@code true}
+     * when it does not become ready within {@code GET_STATE_TIMEOUT_MILLIS} or is shut down.
+     *
      * @return                          did we fail to connect
      */
     CompletableFuture<Boolean> channelFailedToConnectAsync() {
         if (hasConnected) {
             return CompletableFuture.completedFuture(false);
         }
-        return channelFailedToConnectAsync(0, getChannel().getState(true));
+
+        var future = new CompletableFuture<Boolean>()
+            .completeOnTimeout(true, GET_STATE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        awaitChannelReady(getChannel(), future);
+
+        return future;
+    }
+
+    /**
+     * Complete the future once the channel is ready, re-registering for state changes until it is.
+     *
+     * @param channel                   the channel to observe
+     * @param future                    completed with {@code false} once connected
+     */
+    private void awaitChannelReady(ManagedChannel channel, CompletableFuture<Boolean> future) {
+        if (future.isDone()) {
+            return;
+        }
+
+        // Requesting the state with `true` also kicks off a connection attempt for an idle channel
+        var state = channel.getState(true);
+
+        if (state == ConnectivityState.READY) {
+            hasConnected = true;
+            future.complete(false);
+        } else if (state == ConnectivityState.SHUTDOWN) {
+            future.complete(true);
+        } else {
+            // Invoked immediately if the state already moved on since we read it
+            channel.notifyWhenStateChanged(state, () -> awaitChannelReady(channel, future));
+        }
     }
 
     /**
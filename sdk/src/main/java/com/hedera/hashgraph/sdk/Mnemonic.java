@@ -21,6 +21,7 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.common.base.Joiner;
 import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
@@ -38,8 +39,13 @@ import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -47,10 +53,18 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * BIP-39 24-word mnemonic phrases compatible with the Android and iOS mobile wallets.
  */
 public final class Mnemonic {
-    // by storing our word list in a SoftReference, the GC is free to evict it at its discretion
-    // but the implementation is meant to wait until free space is needed
+    // by storing our word lists in SoftReferences, the GC is free to evict them at its discretion
+    // but the implementation is meant to wait until free space is needed; the two lists are held
+    // separately so alternating between legacy and BIP-39 mnemonics doesn't re-read either file
     @Nullable
-    private static SoftReference<List<String>> wordList;
+    private static volatile SoftReference<WordList> bip39WordList;
+
+    @Nullable
+    private static volatile SoftReference<WordList> legacyWordList;
+
+    private static final Object BIP39_WORD_LIST_LOCK = new Object();
+
+    private static final Object LEGACY_WORD_LIST_LOCK = new Object();
 
     /**
      * The list of words in this mnemonic.
@@ -62,15 +76,11 @@ public final class Mnemonic {
     @Nullable
     private String asString;
 
-    @SuppressWarnings("StaticAssignmentInConstructor")
     private Mnemonic(List<? extends CharSequence> words) {
         if (words.size() == 22) {
             isLegacy = true;
         }
 
-        // Set the wordList to null so we can fetch correct wordlist once we need it.
-        wordList = null;
-
         this.words = Collections.unmodifiableList(words);
     }
 
@@ -89,9 +99,6 @@ public final class Mnemonic {
     public static Mnemonic fromWords(List<? extends CharSequence> words) throws BadMnemonicException {
         Mnemonic mnemonic = new Mnemonic(words);
 
-        // Set the wordList to null so we can fetch correct wordlist once we need it.
-        wordList = null;
-
         if (words.size() != 22) {
             mnemonic.validate();
         }
@@ -141,7 +148,7 @@ public final class Mnemonic {
         }
 
         // checksum for 256 bits is one byte
-        List<String> wordList;
+        WordList wordList;
         ArrayList<String> words;
         byte[] bytes;
         if (entropy.length == 16) {
@@ -197,57 +204,45 @@ public final class Mnemonic {
     }
 
     private static int getWordIndex(CharSequence word, boolean isLegacy) {
-        var wordList = getWordList(isLegacy);
-        @Var
-        var found = -1;
-        for (var i = 0; i < wordList.size(); i++) {
-            if (word.toString().equals(wordList.get(i))) {
-                found = i;
-            }
-        }
-        return found;
+        return getWordList(isLegacy).indexOf(word);
     }
 
-    private static List<String> getWordList(boolean isLegacy) {
-        if (wordList == null || wordList.get() == null) {
-            synchronized (Mnemonic.class) {
-                if (wordList == null || wordList.get() == null) {
-                    List<String> words = readWordList(isLegacy);
-                    wordList = new SoftReference<>(words);
-                    // immediately return the strong reference
-                    return words;
+    private static WordList getWordList(boolean isLegacy) {
+        @Var var reference = isLegacy ? legacyWordList : bip39WordList;
+        @Var var wordList = reference != null ? reference.get() : null;
+
+        if (wordList == null) {
+            synchronized (isLegacy ? LEGACY_WORD_LIST_LOCK : BIP39_WORD_LIST_LOCK) {
+                reference = isLegacy ? legacyWordList : bip39WordList;
+                wordList = reference != null ? reference.get() : null;
+
+                if (wordList == null) {
+                    wordList = new WordList(readWordList(isLegacy ? "legacy-english.txt" : "bip39-english.txt"));
+
+                    if (isLegacy) {
+                        legacyWordList = new SoftReference<>(wordList);
+                    } else {
+                        bip39WordList = new SoftReference<>(wordList);
+                    }
                 }
             }
         }
 
-        return wordList.get();
+        // return the strong reference so the list can't be evicted while it's in use
+        return wordList;
     }
 
-    private static List<String> readWordList(boolean isLegacy) {
-        if (isLegacy) {
-            InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream("legacy-english.txt");
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
-                ArrayList<String> words = new ArrayList<>(4096);
+    private static List<String> readWordList(String resourceName) {
+        InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream(resourceName);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
+            ArrayList<String> words = new ArrayList<>(4096);
 
-                for (String word = reader.readLine(); word != null; word = reader.readLine()) {
-                    words.add(word);
-                }
-                return Collections.unmodifiableList(words);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        } else {
-            InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream("bip39-english.txt");
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
-                ArrayList<String> words = new ArrayList<>(2048);
-
-                for (String word = reader.readLine(); word != null; word = reader.readLine()) {
-                    words.add(word);
-                }
-                return Collections.unmodifiableList(words);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            for (String word = reader.readLine(); word != null; word = reader.readLine()) {
+                words.add(word);
             }
+            return Collections.unmodifiableList(words);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -344,6 +339,73 @@ public final class Mnemonic {
         return toPrivateKey("");
     }
 
+    /**
+     * Recover the private keys of many mnemonic phrases at once.
+     * <p>
+     * Each key is recovered as its own task on the common fork-join pool, so the
+     * 2048-round PBKDF2 of {@link #toPrivateKey(String)} runs on every core.
+     *
+     * @param mnemonics                 the mnemonic phrases
+     * @param passphrase                the passphrase used to protect every mnemonic
+     * @return                          the recovered keys, in the order of {@code mnemonics}
+     * @throws BadMnemonicException     when there are issues with one of the mnemonics
+     * @see #toPrivateKey(String)
+     */
+    public static List<PrivateKey> toPrivateKeys(List<Mnemonic> mnemonics, String passphrase) throws BadMnemonicException {
+        return toPrivateKeys(mnemonics, passphrase, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recover the private keys of many mnemonic phrases at once, each as its own task on
+     * the given executor.
+     *
+     * @param mnemonics                 the mnemonic phrases
+     * @param passphrase                the passphrase used to protect every mnemonic
+     * @param executor                  the executor the keys are recovered on
+     * @return                          the recovered keys, in the order of {@code mnemonics}
+     * @throws BadMnemonicException     when there are issues with one of the mnemonics
+     * @see #toPrivateKey(String)
+     */
+    public static List<PrivateKey> toPrivateKeys(
+        List<Mnemonic> mnemonics,
+        String passphrase,
+        Executor executor
+    ) throws BadMnemonicException {
+        var futures = new ArrayList<CompletableFuture<PrivateKey>>(mnemonics.size());
+
+        for (var mnemonic : mnemonics) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return mnemonic.toPrivateKey(passphrase);
+                } catch (BadMnemonicException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        var keys = new ArrayList<PrivateKey>(futures.size());
+
+        for (var future : futures) {
+            try {
+                keys.add(future.join());
+            } catch (CompletionException e) {
+                var cause = e.getCause();
+
+                if (cause instanceof BadMnemonicException) {
+                    throw (BadMnemonicException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw e;
+            }
+        }
+
+        return keys;
+    }
+
     private void validate() throws BadMnemonicException {
         if (words.size() != 24 && words.size() != 12) {
             throw new BadMnemonicException(this, BadMnemonicReason.BadLength);
@@ -499,7 +561,7 @@ public final class Mnemonic {
         Arrays.fill(concatBits, Boolean.FALSE);
 
         for (int index = 0; index < this.words.size(); index++) {
-            var nds = Collections.binarySearch(getWordList(false), this.words.get(index), null);
+            var nds = getWordIndex(this.words.get(index), false);
 
             for (int i = 0; i < 11; i++) {
                 concatBits[(index * 11) + i] = (nds & (1 << (10 - i))) != 0;
@@ -533,4 +595,30 @@ public final class Mnemonic {
 
         return entropy;
     }
+
+    /**
+     * A word list with an index from each word to its position.
+     */
+    private static final class WordList {
+        private final List<String> words;
+        private final Map<String, Integer> indices;
+
+        WordList(List<String> words) {
+            this.words = words;
+            this.indices = new HashMap<>(words.size() * 2);
+
+            for (var i = 0; i < words.size(); i++) {
+                indices.put(words.get(i), i);
+            }
+        }
+
+        String get(int index) {
+            return words.get(index);
+        }
+
+        int indexOf(CharSequence word) {
+            var index = indices.get(word.toString());
+            return index != null ? index : -1;
+        }
+    }
 }
@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 
@@ -50,6 +51,15 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
 
     private boolean verifyCertificates = true;
 
+    private volatile ClientMetrics metrics = ClientMetrics.NOOP;
+
+    private volatile boolean concurrencyLimitEnabled = false;
+
+    /**
+     * Recent successful request latencies, keyed by gRPC method name.
+     */
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
     private Network(ExecutorService executor, Map<String, AccountId> network) {
         super(executor);
 
@@ -306,6 +316,81 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
         return this;
     }
 
+    /**
+     * Extract the metrics which requests to this network report to.
+     *
+     * @return                          the metrics
+     */
+    ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Assign the metrics which requests to this network report to.
+     *
+     * @param metrics                   the metrics
+     * @return {@code this}
+     */
+    Network setMetrics(ClientMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Are requests to each node limited by the node's adaptive concurrency limit?
+     *
+     * @return                          whether the concurrency limit is enabled
+     */
+    boolean isConcurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    /**
+     * Assign whether requests to each node are limited by the node's adaptive concurrency limit.
+     *
+     * @param concurrencyLimitEnabled   whether the concurrency limit is enabled
+     * @return {@code this}
+     */
+    Network setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+        return this;
+    }
+
+    /**
+     * Extract the current concurrency limit of every node, summed over the node's addresses.
+     *
+     * @return                          the concurrency limits
+     */
+    Map<AccountId, Integer> getConcurrencyLimits() {
+        var limits = new HashMap<AccountId, Integer>();
+
+        for (var node : nodes) {
+            limits.merge(node.getAccountId(), node.getConcurrencyLimiter().getLimit(), Integer::sum);
+        }
+
+        return limits;
+    }
+
+    /**
+     * Extract the recent latencies of successful requests to a gRPC method.
+     *
+     * @param methodName                the full gRPC method name
+     * @return                          the latency window
+     */
+    LatencyWindow getLatencyWindow(String methodName) {
+        return latencies.computeIfAbsent(methodName, name -> new LatencyWindow());
+    }
+
+    @Override
+    void onNodeUnhealthy(Node node) {
+        metrics.onNodeUnhealthy(node.getAccountId(), node.getBadGrpcStatusCount());
+    }
+
+    @Override
+    void onNodeReadmitted(Node node) {
+        metrics.onNodeReadmitted(node.getAccountId());
+    }
+
     @Override
     synchronized Network setLedgerId(@Nullable LedgerId ledgerId) {
         super.setLedgerId(ledgerId);
@@ -344,6 +429,15 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
         }
     }
 
+    /**
+     * Extract the number of nodes in the network.
+     *
+     * @return                          the number of nodes
+     */
+    int getNodeCount() {
+        return network.size();
+    }
+
     /**
      * Extract the of network records.
      *
@@ -369,7 +463,7 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
      *
      * @return {@link java.util.List<com.hedera.hashgraph.sdk.AccountId>}
      */
-    synchronized List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
+    List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
         var nodes = getNumberOfMostHealthyNodes(getNumberOfNodesForRequest());
         var nodeAccountIds = new ArrayList<AccountId>(nodes.size());
 
@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutorService;
 class Node extends ManagedNode<Node, AccountId> {
     private final AccountId accountId;
 
+    private final ConcurrencyLimiter concurrencyLimiter;
+
     @Nullable
     private NodeAddress addressBook;
 
@@ -47,6 +49,7 @@ class Node extends ManagedNode<Node, AccountId> {
         super(address, executor);
 
         this.accountId = accountId;
+        this.concurrencyLimiter = new ConcurrencyLimiter();
     }
 
     /**
@@ -69,6 +72,7 @@ class Node extends ManagedNode<Node, AccountId> {
         super(node, address);
 
         this.accountId = node.accountId;
+        this.concurrencyLimiter = node.concurrencyLimiter;
         this.verifyCertificates = node.verifyCertificates;
         this.addressBook = node.addressBook;
     }
@@ -97,6 +101,15 @@ class Node extends ManagedNode<Node, AccountId> {
         return accountId;
     }
 
+    /**
+     * Extract the limiter of requests in flight to this node.
+     *
+     * @return                          the concurrency limiter
+     */
+    ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * Extract the address book.
      *
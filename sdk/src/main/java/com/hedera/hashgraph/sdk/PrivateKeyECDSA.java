@@ -30,7 +30,7 @@ import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
-import org.bouncycastle.util.Arrays;
+import org.bouncycastle.util.BigIntegers;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -40,9 +40,15 @@ import java.math.BigInteger;
  * Encapsulate the ECDSA private key.
  */
 public class PrivateKeyECDSA extends PrivateKey {
-
     private final BigInteger keyData;
 
+    /**
+     * Immutable, so it is built once and shared by every thread signing with this key. The signer itself is cheap
+     * and is built for each signature, so no thread keeps the key or its k calculator state reachable after the key
+     * is dropped.
+     */
+    private final ECPrivateKeyParameters signingParameters;
+
     /**
      * Constructor.
      *
@@ -51,6 +57,7 @@ public class PrivateKeyECDSA extends PrivateKey {
      */
     PrivateKeyECDSA(BigInteger keyData, @Nullable PublicKey publicKey) {
         this.keyData = keyData;
+        this.signingParameters = new ECPrivateKeyParameters(keyData, ECDSA_SECP256K1_DOMAIN);
         this.publicKey = publicKey;
     }
 
@@ -143,11 +150,12 @@ public class PrivateKeyECDSA extends PrivateKey {
         var hash = Crypto.calcKeccak256(message);
 
         var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-        signer.init(true, new ECPrivateKeyParameters(keyData, ECDSA_SECP256K1_DOMAIN));
+        signer.init(true, signingParameters);
         BigInteger[] bigSig = signer.generateSignature(hash);
 
-        byte[] sigBytes = Arrays.copyOf(bigIntTo32Bytes(bigSig[0]), 64);
-        System.arraycopy(bigIntTo32Bytes(bigSig[1]), 0, sigBytes, 32, 32);
+        byte[] sigBytes = new byte[64];
+        BigIntegers.asUnsignedByteArray(bigSig[0], sigBytes, 0, 32);
+        BigIntegers.asUnsignedByteArray(bigSig[1], sigBytes, 32, 32);
 
         return sigBytes;
     }
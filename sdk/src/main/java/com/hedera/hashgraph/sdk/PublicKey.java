@@ -19,7 +19,6 @@
  */
 package com.hedera.hashgraph.sdk;
 
-import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
@@ -163,6 +162,17 @@ public abstract class PublicKey extends Key {
      */
     public abstract boolean verify(byte[] message, byte[] signature);
 
+    /**
+     * Verify a signature on a message held at the start of larger buffers, so callers can reuse their buffers.
+     *
+     * @param message                   the buffer holding the message
+     * @param messageLength             the length of the message
+     * @param signature                 the buffer holding the signature
+     * @param signatureLength           the length of the signature
+     * @return                          is the signature valid
+     */
+    abstract boolean verify(byte[] message, int messageLength, byte[] signature, int signatureLength);
+
     /**
      * Get the signature from a signature pair protobuf.
      *
@@ -178,35 +188,7 @@ public abstract class PublicKey extends Key {
      * @return                          is it valid
      */
     public boolean verifyTransaction(Transaction<?> transaction) {
-        if (!transaction.isFrozen()) {
-            transaction.freeze();
-        }
-
-        for (var publicKey : transaction.publicKeys) {
-            if (publicKey.equals(this)) {
-                return true;
-            }
-        }
-
-        for (var signedTransaction : transaction.innerSignedTransactions) {
-            @Var var found = false;
-
-            for (var sigPair : signedTransaction.getSigMap().getSigPairList()) {
-                if (sigPair.getPubKeyPrefix().equals(ByteString.copyFrom(toBytesRaw()))) {
-                    found = true;
-
-                    if (!verify(signedTransaction.getBodyBytes().toByteArray(), extractSignatureFromProtobuf(sigPair).toByteArray())) {
-                        return false;
-                    }
-                }
-            }
-
-            if (!found) {
-                return false;
-            }
-        }
-
-        return true;
+        return new TransactionSignatureVerifier().verify(this, transaction);
     }
 
     /**
@@ -25,6 +25,8 @@ import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.bouncycastle.util.BigIntegers;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -35,9 +37,28 @@ import java.util.Arrays;
  * Encapsulate the ECDSA public key.
  */
 public class PublicKeyECDSA extends PublicKey {
+    /**
+     * Verifiers are not thread safe but are cheap to re-initialize, so each thread reuses one.
+     */
+    @SuppressWarnings("AnonymousHasLambdaAlternative")
+    private static final ThreadLocal<ECDSASigner> VERIFIER =
+        new ThreadLocal<ECDSASigner>() {
+            @Override
+            protected ECDSASigner initialValue() {
+                return new ECDSASigner();
+            }
+        };
+
     // Compressed 33 byte form
     private byte[] keyData;
 
+    /**
+     * The decompressed public point, built on first use. Decompressing is expensive, and reusing the same point
+     * instance also lets Bouncy Castle reuse the multiplication tables it precomputes for the point.
+     */
+    @Nullable
+    private volatile ECPublicKeyParameters verifyingParameters = null;
+
     /**
      * Constructor.
      *
@@ -80,25 +101,48 @@ public class PublicKeyECDSA extends PublicKey {
 
     @Override
     ByteString extractSignatureFromProtobuf(SignaturePair pair) {
-        return pair.getECDSA384();
+        return pair.getECDSASecp256K1();
     }
 
     @Override
     public boolean verify(byte[] message, byte[] signature) {
-        var hash = Crypto.calcKeccak256(message);
+        return verify(message, message.length, signature, signature.length);
+    }
+
+    @Override
+    boolean verify(byte[] message, int messageLength, byte[] signature, int signatureLength) {
+        if (signatureLength != 64) {
+            return false;
+        }
+
+        var digest = new Keccak.Digest256();
+        digest.update(message, 0, messageLength);
+        var hash = digest.digest();
 
-        ECDSASigner signer = new ECDSASigner();
-        signer.init(false, new ECPublicKeyParameters(
-            Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData),
-            Key.ECDSA_SECP256K1_DOMAIN
-        ));
+        var signer = VERIFIER.get();
+        signer.init(false, getVerifyingParameters());
 
-        BigInteger r = new BigInteger(1, Arrays.copyOf(signature, 32));
-        BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
+        BigInteger r = BigIntegers.fromUnsignedByteArray(signature, 0, 32);
+        BigInteger s = BigIntegers.fromUnsignedByteArray(signature, 32, 32);
 
         return signer.verifySignature(hash, r, s);
     }
 
+    private ECPublicKeyParameters getVerifyingParameters() {
+        var parameters = verifyingParameters;
+
+        if (parameters == null) {
+            // Racing threads may both decode the point; either result is correct
+            parameters = new ECPublicKeyParameters(
+                Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData),
+                Key.ECDSA_SECP256K1_DOMAIN
+            );
+            verifyingParameters = parameters;
+        }
+
+        return parameters;
+    }
+
     @Override
     com.hedera.hashgraph.sdk.proto.Key toProtobufKey() {
         return com.hedera.hashgraph.sdk.proto.Key.newBuilder()
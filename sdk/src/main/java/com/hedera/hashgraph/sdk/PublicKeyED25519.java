@@ -77,7 +77,13 @@ class PublicKeyED25519 extends PublicKey {
 
     @Override
     public boolean verify(byte[] message, byte[] signature) {
-        return Ed25519.verify(signature, 0, keyData, 0, message, 0, message.length);
+        return verify(message, message.length, signature, signature.length);
+    }
+
+    @Override
+    boolean verify(byte[] message, int messageLength, byte[] signature, int signatureLength) {
+        return signatureLength == Ed25519.SIGNATURE_SIZE &&
+            Ed25519.verify(signature, 0, keyData, 0, message, 0, messageLength);
     }
 
     @Override
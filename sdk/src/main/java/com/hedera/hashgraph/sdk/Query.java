@@ -20,6 +20,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.QueryHeader;
 import com.hedera.hashgraph.sdk.proto.Response;
@@ -64,6 +65,17 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
     @Nullable
     private Hbar chosenQueryPayment = null;
 
+    @Nullable
+    private Hbar chosenMaxQueryPayment = null;
+
+    @Nullable
+    private QueryCostCache costCache = null;
+
+    @Nullable
+    private ByteString costCacheKey = null;
+
+    private boolean costFromCache = false;
+
     /**
      * Constructor.
      */
@@ -169,6 +181,12 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         return true;
     }
 
+    @Override
+    boolean isHedgeable() {
+        // a hedged paid query would pay both nodes
+        return !isPaymentRequired();
+    }
+
     /**
      * Called in {@link #makeRequest} just before the query is built. The intent is for the derived
      * class to assign their data variant to the query.
@@ -216,6 +234,32 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         return operator;
     }
 
+    /**
+     * Look up the cost of this query in the client's query cost cache, which may estimate it from the fee schedules.
+     *
+     * @param client                    the configured client
+     * @return                          the cost, or {@code null} if the node has to be asked
+     */
+    @Nullable
+    private Hbar getCachedCost(Client client) {
+        if (!client.queryCostCache.isEnabled()) {
+            return null;
+        }
+
+        // the query without its header holds its type and every input that affects the cost
+        var keyBuilder = com.hedera.hashgraph.sdk.proto.Query.newBuilder();
+        onMakeRequest(keyBuilder, QueryHeader.getDefaultInstance());
+        var keyRequest = keyBuilder.build();
+
+        costCache = client.queryCostCache;
+        costCacheKey = keyRequest.toByteString();
+
+        var cost = costCache.getCost(costCacheKey, getRequestType(keyRequest));
+        costFromCache = cost != null;
+
+        return cost;
+    }
+
     @Override
     void onExecute(Client client) throws TimeoutException, PrecheckStatusException {
         var grpcCostQuery = new GrpcCostQuery(client);
@@ -225,7 +269,8 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         }
 
         if (grpcCostQuery.getCost() == null) {
-            grpcCostQuery.setCost(getCost(client));
+            var cachedCost = getCachedCost(client);
+            grpcCostQuery.setCost(cachedCost != null ? cachedCost : getCost(client));
 
             if (grpcCostQuery.shouldError()) {
                 throw grpcCostQuery.mapError();
@@ -245,6 +290,18 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
 
         return CompletableFuture.supplyAsync(() -> {
                 if (grpcCostQuery.getCost() == null) {
+                    var cachedCost = getCachedCost(client);
+
+                    if (cachedCost != null) {
+                        grpcCostQuery.setCost(cachedCost);
+
+                        if (grpcCostQuery.shouldError()) {
+                            return CompletableFuture.failedFuture(grpcCostQuery.mapError());
+                        }
+
+                        return CompletableFuture.completedFuture(null);
+                    }
+
                     // No payment was specified so we need to go ask
                     // This is a query in its own right so we use a nested future here
                     return getCostAsync(client).thenCompose(cost -> {
@@ -325,6 +382,47 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         return builder.build();
     }
 
+    @Override
+    RequestType getRequestType(com.hedera.hashgraph.sdk.proto.Query request) {
+        return RequestTypeHelper.fromQueryCase(request.getQueryCase());
+    }
+
+    @Override
+    ExecutionState shouldRetry(Status status, Response response) {
+        var cache = costCache;
+        var key = costCacheKey;
+
+        if (cache != null && key != null && chosenQueryPayment != null) {
+            if (status == Status.OK) {
+                var headerCost = mapResponseHeader(response).getCost();
+
+                // Only remember a cost the node stated, in this answer or in answer to a cost query. An estimate
+                // that was accepted may be more than the query costs.
+                if (headerCost > 0) {
+                    cache.put(key, Hbar.fromTinybars(headerCost), response.getSerializedSize());
+                } else if (!costFromCache) {
+                    cache.put(key, chosenQueryPayment, response.getSerializedSize());
+                } else {
+                    cache.putResponseSize(key, response.getSerializedSize());
+                }
+            } else if (status == Status.INSUFFICIENT_TX_FEE && costFromCache) {
+                // the remembered or estimated cost was too low, pay what the node asked for instead
+                costFromCache = false;
+                cache.invalidate(key);
+
+                var cost = Hbar.fromTinybars(mapResponseHeader(response).getCost());
+
+                if (cost.toTinybars() > 0 && cost.compareTo(Objects.requireNonNull(chosenMaxQueryPayment)) <= 0) {
+                    chosenQueryPayment = cost;
+                    Collections.fill(Objects.requireNonNull(paymentTransactions), null);
+                    return ExecutionState.Retry;
+                }
+            }
+        }
+
+        return super.shouldRetry(status, response);
+    }
+
     @Override
     Status mapResponseStatus(Response response) {
         var preCheckCode = mapResponseHeader(response).getNodeTransactionPrecheckCode();
@@ -395,6 +493,9 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
 
         GrpcCostQuery(Client client) {
             Query.this.initWithNodeIds(client);
+            Query.this.costCache = null;
+            Query.this.costCacheKey = null;
+            Query.this.costFromCache = false;
 
             cost = Query.this.queryPayment;
             notRequired = (Query.this.paymentTransactions != null) || !Query.this.isPaymentRequired();
@@ -433,6 +534,7 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
 
         void finish() {
             Query.this.chosenQueryPayment = cost;
+            Query.this.chosenMaxQueryPayment = maxCost;
             Query.this.paymentOperator = operator;
             Query.this.paymentTransactions = new ArrayList<>(Query.this.nodeAccountIds.size());
 
@@ -0,0 +1,281 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers what queries cost so paid queries can attach their payment without first asking the node for the cost.
+ * <p>
+ * Entries are keyed by the body of the query, which holds its type and every input that affects the size of the
+ * answer. On a miss, the cost is estimated from the fee schedules and exchange rates when the client has them and
+ * the query has been answered before, so the size of its answer is known.
+ */
+final class QueryCostCache {
+    /**
+     * Number of queries remembered before the cache is cleared.
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    /**
+     * Fee schedules are priced in thousandths of a tinycent.
+     */
+    static final long FEE_DIVISOR_FACTOR = 1000;
+
+    /**
+     * Bytes added to the body of a query by its header, which holds a payment signed by the operator's key.
+     */
+    static final int QUERY_HEADER_SIZE = 256;
+
+    private final ConcurrentHashMap<ByteString, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped to invalidate every entry while keeping their response sizes for estimates.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Duration ttl = Duration.ZERO;
+
+    @Nullable
+    private volatile FeeSchedules feeSchedules = null;
+
+    @Nullable
+    private volatile ExchangeRates exchangeRates = null;
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    boolean isEnabled() {
+        return !ttl.isZero();
+    }
+
+    @Nullable
+    FeeSchedules getFeeSchedules() {
+        return feeSchedules;
+    }
+
+    void setFeeSchedules(@Nullable FeeSchedules feeSchedules) {
+        this.feeSchedules = feeSchedules;
+        invalidateAll();
+    }
+
+    @Nullable
+    ExchangeRates getExchangeRates() {
+        return exchangeRates;
+    }
+
+    void setExchangeRates(@Nullable ExchangeRates exchangeRates) {
+        this.exchangeRates = exchangeRates;
+        invalidateAll();
+    }
+
+    /**
+     * Extract the cost of a query, either remembered or estimated.
+     *
+     * @param key                       the body of the query
+     * @param requestType               the type of the query
+     * @return                          the cost, or {@code null} if the node has to be asked
+     */
+    @Nullable
+    Hbar getCost(ByteString key, RequestType requestType) {
+        var entry = entries.get(key);
+
+        if (entry == null) {
+            // an estimate without the size of the answer would be too low for any query with a sizeable answer
+            return null;
+        }
+
+        if (isValid(entry)) {
+            return entry.cost;
+        }
+
+        var estimate = estimate(requestType, key.size() + QUERY_HEADER_SIZE, entry.responseSize);
+
+        return estimate > 0 ? Hbar.fromTinybars(estimate) : null;
+    }
+
+    /**
+     * Remember the cost of a query which was accepted by the node.
+     *
+     * @param key                       the body of the query
+     * @param cost                      the cost the node asked for
+     * @param responseSize              the size of the answer in bytes
+     */
+    void put(ByteString key, Hbar cost, int responseSize) {
+        makeRoomFor(key);
+        entries.put(key, new Entry(cost, responseSize, System.nanoTime() + ttl.toNanos(), generation.get()));
+    }
+
+    /**
+     * Remember only the size of the answer to a query whose exact cost is not known, for later estimates.
+     *
+     * @param key                       the body of the query
+     * @param responseSize              the size of the answer in bytes
+     */
+    void putResponseSize(ByteString key, int responseSize) {
+        makeRoomFor(key);
+        entries.compute(key, (k, entry) -> entry != null && isValid(entry) ?
+            entry : new Entry(Hbar.ZERO, responseSize, System.nanoTime(), -1));
+    }
+
+    private void makeRoomFor(ByteString key) {
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(key)) {
+            entries.clear();
+        }
+    }
+
+    private boolean isValid(Entry entry) {
+        return entry.generation == generation.get() && System.nanoTime() - entry.expiresAt < 0;
+    }
+
+    /**
+     * Forget the cost of a query, usually because the node rejected it as too low.
+     *
+     * @param key                       the body of the query
+     */
+    void invalidate(ByteString key) {
+        var entry = entries.get(key);
+
+        if (entry != null) {
+            // keep the response size for the next estimate
+            entries.put(key, new Entry(entry.cost, entry.responseSize, System.nanoTime(), -1));
+        }
+    }
+
+    /**
+     * Forget the cost of every query, because the fees or the exchange rate changed.
+     */
+    void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Estimate the cost of a query in tinybars from the fee schedules and the exchange rate.
+     *
+     * @param requestType               the type of the query
+     * @param requestSize               the size of the query in bytes
+     * @param responseSize              the size of the answer in bytes
+     * @return                          the estimated cost, or 0 if it can't be estimated
+     */
+    long estimate(RequestType requestType, int requestSize, int responseSize) {
+        var feeData = findFeeData(requestType);
+        var rates = exchangeRates;
+
+        if (feeData == null || rates == null) {
+            return 0;
+        }
+
+        var now = Instant.now();
+        var rate = rates.currentRate.expirationTime.isAfter(now) ? rates.currentRate : rates.nextRate;
+
+        if (rate.cents <= 0) {
+            return 0;
+        }
+
+        var tinycents = componentTinycents(feeData.getNodeData(), requestSize, responseSize) +
+            componentTinycents(feeData.getNetworkData(), requestSize, responseSize) +
+            componentTinycents(feeData.getServiceData(), requestSize, responseSize);
+
+        // round up so an estimate is never short by a fraction of a tinybar
+        return (tinycents * rate.hbars + rate.cents - 1) / rate.cents;
+    }
+
+    @Nullable
+    private FeeData findFeeData(RequestType requestType) {
+        var schedules = feeSchedules;
+
+        if (schedules == null) {
+            return null;
+        }
+
+        var current = schedules.getCurrent();
+        var currentExpiration = current != null ? current.getExpirationTime() : null;
+        var schedule = current != null && (currentExpiration == null || currentExpiration.isAfter(Instant.now())) ?
+            current : schedules.getNext();
+
+        if (schedule == null) {
+            return null;
+        }
+
+        for (var transactionFeeSchedule : schedule.getTransactionFeeSchedules()) {
+            if (transactionFeeSchedule.getRequestType() != requestType) {
+                continue;
+            }
+
+            var feeData = transactionFeeSchedule.getFeeData();
+
+            if (feeData != null) {
+                return feeData;
+            }
+
+            for (var fee : transactionFeeSchedule.getFees()) {
+                if (fee.getType() == FeeDataType.DEFAULT) {
+                    return fee;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Price one component of a query, the way the network prices a query with {@code constant = 1},
+     * {@code bpt} the size of the query and {@code bpr} the size of the answer.
+     */
+    private static long componentTinycents(@Nullable FeeComponents price, int requestSize, int responseSize) {
+        if (price == null) {
+            return 0;
+        }
+
+        var fee = Math.max(price.getMin(),
+            price.getConstant() +
+            price.getTransactionBandwidthByte() * requestSize +
+            price.getResponseMemoryByte() * responseSize);
+
+        var capped = price.getMax() > 0 ? Math.min(fee, price.getMax()) : fee;
+
+        return (capped + FEE_DIVISOR_FACTOR - 1) / FEE_DIVISOR_FACTOR;
+    }
+
+    private static final class Entry {
+        final Hbar cost;
+        final int responseSize;
+        final long expiresAt;
+        final long generation;
+
+        Entry(Hbar cost, int responseSize, long expiresAt, long generation) {
+            this.cost = cost;
+            this.responseSize = responseSize;
+            this.expiresAt = expiresAt;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls transaction receipts for a single client.
+ * <p>
+ * Instead of every pending receipt running its own retry loop, pending receipts are kept on a timer wheel which one
+ * scheduling loop advances. Each tick sends a single receipt query for every receipt which is due, grouped by the
+ * node the transaction was submitted to and limited per node, and reschedules the ones which are not available yet
+ * with exponential backoff. Requests for the same transaction ID from the same node share one poll. Transactions which the network
+ * has no receipt for after they could have reached consensus are dropped instead of being polled until the request
+ * timeout.
+ */
+final class ReceiptPoller {
+    /**
+     * Time between ticks of the wheel.
+     */
+    static final long TICK_MILLIS = 50;
+
+    /**
+     * Number of slots on the wheel. Delays longer than one lap wait for extra laps.
+     */
+    private static final int WHEEL_SIZE = 256;
+
+    /**
+     * Maximum number of receipt queries in flight to one node. Receipts over the limit wait for the next tick.
+     */
+    static final int MAX_IN_FLIGHT_PER_NODE = 64;
+
+    /**
+     * A transaction can not reach consensus later than its maximum valid duration after its valid start, plus some
+     * slack for clock skew between the client and the network. A receipt which is still not found after that will
+     * never be found.
+     */
+    static final Duration TRANSACTION_EXPIRY = Duration.ofSeconds(180 + 30);
+
+    private final Client client;
+    private final Map<PendingKey, PendingReceipt> pending = new ConcurrentHashMap<>();
+    private final Map<AccountId, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final List<Queue<PendingReceipt>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Index of the next slot to be processed. Guarded by {@code wheel}; advanced by the scheduling loop before it
+     * drains the slot, so new receipts are never added to the slot being drained.
+     */
+    private int cursor = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client to poll through
+     */
+    ReceiptPoller(Client client) {
+        this.client = client;
+
+        for (var i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Extract the number of receipts being polled.
+     *
+     * @return                          the number of pending receipts
+     */
+    int getPending() {
+        return pending.size();
+    }
+
+    /**
+     * Wait for the receipt of a transaction.
+     *
+     * @param transactionId             the transaction id
+     * @param nodeId                    the node the transaction was submitted to
+     * @return                          future for the receipt
+     */
+    CompletableFuture<TransactionReceipt> poll(TransactionId transactionId, AccountId nodeId) {
+        var created = new PendingReceipt(transactionId, nodeId,
+            Instant.now().plus(client.getRequestTimeout()));
+        var existing = pending.putIfAbsent(created.key, created);
+
+        if (existing != null) {
+            return existing.future;
+        }
+
+        schedule(created, 0);
+        startIfIdle();
+
+        return created.future;
+    }
+
+    /**
+     * Whether a receipt which was not found means the transaction will never reach consensus.
+     *
+     * @param transactionId             the transaction id
+     * @param cause                     why the poll failed
+     * @param now                       the current time
+     * @return                          whether to stop polling
+     */
+    private static boolean neverReachedConsensus(TransactionId transactionId, Throwable cause, Instant now) {
+        var last = cause.getCause();
+
+        return last instanceof PrecheckStatusException
+            && ((PrecheckStatusException) last).status == Status.RECEIPT_NOT_FOUND
+            && transactionId.validStart != null
+            && now.isAfter(transactionId.validStart.plus(TRANSACTION_EXPIRY));
+    }
+
+    private static TimeoutException expired(TransactionId transactionId) {
+        return new TimeoutException("transaction " + transactionId + " expired without reaching consensus");
+    }
+
+    private void schedule(PendingReceipt receipt, long delayMillis) {
+        var ticks = Math.max(1, (delayMillis + TICK_MILLIS - 1) / TICK_MILLIS);
+
+        receipt.rounds = (int) ((ticks - 1) / WHEEL_SIZE);
+
+        synchronized (wheel) {
+            wheel.get((int) ((cursor + ticks - 1) % WHEEL_SIZE)).add(receipt);
+        }
+    }
+
+    private void startIfIdle() {
+        if (running.compareAndSet(false, true)) {
+            scheduleTick();
+        }
+    }
+
+    private void scheduleTick() {
+        Delayer.delayFor(TICK_MILLIS, client.executor).thenRun(this::tick);
+    }
+
+    private void tick() {
+        try {
+            Queue<PendingReceipt> slot;
+
+            synchronized (wheel) {
+                slot = wheel.get(cursor);
+                cursor = (cursor + 1) % WHEEL_SIZE;
+            }
+
+            var now = Instant.now();
+            var due = new HashMap<AccountId, List<PendingReceipt>>();
+            var notDue = new ArrayList<PendingReceipt>();
+
+            for (var receipt = slot.poll(); receipt != null; receipt = slot.poll()) {
+                if (receipt.rounds > 0) {
+                    receipt.rounds--;
+                    notDue.add(receipt);
+                    continue;
+                }
+
+                if (now.isAfter(receipt.deadline)) {
+                    complete(receipt, null, new TimeoutException(
+                        "timed out waiting for receipt of " + receipt.transactionId + " from node " + receipt.nodeId));
+                    continue;
+                }
+
+                due.computeIfAbsent(receipt.nodeId, id -> new ArrayList<>()).add(receipt);
+            }
+
+            // Receipts waiting for more laps go back into the slot they came from
+            slot.addAll(notDue);
+
+            for (var entry : due.entrySet()) {
+                sendAll(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            if (!pending.isEmpty()) {
+                scheduleTick();
+            } else {
+                running.set(false);
+
+                // A receipt may have been added after the check above but before the loop stopped
+                if (!pending.isEmpty()) {
+                    startIfIdle();
+                }
+            }
+        }
+    }
+
+    private void sendAll(AccountId nodeId, List<PendingReceipt> receipts) {
+        var nodeInFlight = inFlight.computeIfAbsent(nodeId, id -> new AtomicInteger());
+
+        for (var receipt : receipts) {
+            if (receipt.future.isDone()) {
+                pending.remove(receipt.key, receipt);
+                continue;
+            }
+
+            if (nodeInFlight.incrementAndGet() > MAX_IN_FLIGHT_PER_NODE) {
+                nodeInFlight.decrementAndGet();
+                schedule(receipt, TICK_MILLIS);
+                continue;
+            }
+
+            receipt.polls++;
+
+            CompletableFuture<TransactionReceipt> query;
+
+            try {
+                query = new TransactionReceiptQuery()
+                    .setTransactionId(receipt.transactionId)
+                    .setNodeAccountIds(Collections.singletonList(nodeId))
+                    .setMaxAttempts(1)
+                    .executeAsync(client);
+            } catch (RuntimeException e) {
+                nodeInFlight.decrementAndGet();
+                complete(receipt, null, e);
+                continue;
+            }
+
+            query.whenComplete((transactionReceipt, error) -> {
+                nodeInFlight.decrementAndGet();
+
+                if (error == null) {
+                    complete(receipt, transactionReceipt, null);
+                    return;
+                }
+
+                var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+                if (!(cause instanceof MaxAttemptsExceededException)) {
+                    complete(receipt, null, cause);
+                } else if (neverReachedConsensus(receipt.transactionId, cause, Instant.now())) {
+                    complete(receipt, null, expired(receipt.transactionId));
+                } else {
+                    // Not available yet, or the node was busy
+                    receipt.attempt++;
+                    schedule(receipt, getDelay(receipt.attempt));
+                }
+            });
+        }
+    }
+
+    private long getDelay(int attempt) {
+        var minBackoff = client.getMinBackoff().toMillis();
+        var maxBackoff = client.getMaxBackoff().toMillis();
+
+        return (long) Math.min(minBackoff * Math.pow(2, attempt - 1), maxBackoff);
+    }
+
+    private void complete(PendingReceipt receipt, @Nullable TransactionReceipt transactionReceipt, @Nullable Throwable error) {
+        pending.remove(receipt.key, receipt);
+
+        try {
+            client.network.getMetrics().onReceiptPolled(
+                receipt.nodeId,
+                System.nanoTime() - receipt.startNanos,
+                receipt.polls,
+                error
+            );
+        } finally {
+            if (error != null) {
+                receipt.future.completeExceptionally(error);
+            } else {
+                receipt.future.complete(transactionReceipt);
+            }
+        }
+    }
+
+    /**
+     * Identifies a poll: the same transaction is polled separately on each node it is asked about.
+     */
+    private static final class PendingKey {
+        final TransactionId transactionId;
+        final AccountId nodeId;
+
+        PendingKey(TransactionId transactionId, AccountId nodeId) {
+            this.transactionId = transactionId;
+            this.nodeId = nodeId;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof PendingKey)) {
+                return false;
+            }
+
+            var other = (PendingKey) o;
+            return transactionId.equals(other.transactionId) && nodeId.equals(other.nodeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(transactionId, nodeId);
+        }
+    }
+
+    /**
+     * A receipt which is being polled.
+     */
+    private static final class PendingReceipt {
+        final PendingKey key;
+        final TransactionId transactionId;
+        final AccountId nodeId;
+        final Instant deadline;
+        final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        final long startNanos = System.nanoTime();
+
+        /**
+         * Number of receipt queries sent.
+         */
+        int polls = 0;
+
+        /**
+         * Number of polls which found no receipt yet.
+         */
+        int attempt = 0;
+
+        /**
+         * Extra laps of the wheel to wait before polling.
+         */
+        int rounds = 0;
+
+        PendingReceipt(TransactionId transactionId, AccountId nodeId, Instant deadline) {
+            this.key = new PendingKey(transactionId, nodeId);
+            this.transactionId = transactionId;
+            this.nodeId = nodeId;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.HederaFunctionality;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A client-side model of the network's throttles, used to pace requests so they stay under the network's
+ * capacity instead of being rejected with {@code BUSY}.
+ * <p>
+ * Each throttle bucket of the throttle definitions file ({@link FileId#THROTTLE_DEFINITIONS}) becomes a token
+ * bucket which holds {@code burstPeriodMs} worth of requests. A request of a type in a throttle group with a rate
+ * of {@code r} requests per second uses {@code 1 / r} seconds of every bucket it is in, and the buckets refill in
+ * real time. When a bucket is full the request is delayed until it has drained enough, rather than sent and
+ * rejected.
+ * <p>
+ * The throttled rates are for the whole network, which every node enforces an equal share of. Each node therefore
+ * gets its own buckets, refilling at the network's rate divided by the number of nodes.
+ *
+ * See <a href="https://docs.hedera.com/guides/docs/hedera-api/basic-types">Hedera Documentation</a>
+ */
+public final class RequestThrottle {
+    private final Map<RequestType, List<Usage>> usages = new EnumMap<>(RequestType.class);
+    private final List<BucketDefinition> bucketDefinitions = new ArrayList<>();
+    private final Map<AccountId, Bucket[]> nodeBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param definitions               the throttle definitions protobuf
+     * @param utilization               the fraction of the throttled rates to use
+     */
+    RequestThrottle(ThrottleDefinitions definitions, double utilization) {
+        if (utilization <= 0 || utilization > 1) {
+            throw new IllegalArgumentException("utilization must be greater than 0 and at most 1");
+        }
+
+        for (var bucketDefinition : definitions.getThrottleBucketsList()) {
+            addBucket(bucketDefinition, utilization);
+        }
+    }
+
+    /**
+     * Create a throttle from a protobuf, using the full throttled rates.
+     *
+     * @param definitions               the throttle definitions protobuf
+     * @return                          the throttle
+     */
+    static RequestThrottle fromProtobuf(ThrottleDefinitions definitions) {
+        return new RequestThrottle(definitions, 1);
+    }
+
+    /**
+     * Create a throttle from the contents of the throttle definitions file, using the full throttled rates.
+     *
+     * @param bytes                     the contents of the throttle definitions file
+     * @return                          the throttle
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    public static RequestThrottle fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
+        return fromBytes(bytes, 1);
+    }
+
+    /**
+     * Create a throttle from the contents of the throttle definitions file which only uses a fraction of the
+     * throttled rates, to leave room for other clients of the network.
+     *
+     * @param bytes                     the contents of the throttle definitions file
+     * @param utilization               the fraction of the throttled rates to use, greater than 0 and at most 1
+     * @return                          the throttle
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    public static RequestThrottle fromBytes(byte[] bytes, double utilization) throws InvalidProtocolBufferException {
+        return new RequestThrottle(ThrottleDefinitions.parseFrom(bytes), utilization);
+    }
+
+    private void addBucket(ThrottleBucket definition, double utilization) {
+        var costs = new EnumMap<RequestType, Long>(RequestType.class);
+        @Var long largestCost = 0;
+
+        for (ThrottleGroup group : definition.getThrottleGroupsList()) {
+            // A group with no capacity rejects its requests outright, which pacing cannot help with
+            if (group.getMilliOpsPerSec() == 0) {
+                continue;
+            }
+
+            var cost = (long) Math.ceil(1_000_000_000_000.0 / (group.getMilliOpsPerSec() * utilization));
+            largestCost = Math.max(largestCost, cost);
+
+            for (var operation : group.getOperationsList()) {
+                // Operations added to the network after this SDK was built cannot be requested through it
+                if (operation == HederaFunctionality.UNRECOGNIZED) {
+                    continue;
+                }
+
+                costs.merge(RequestType.valueOf(operation), cost, Math::max);
+            }
+        }
+
+        var bucket = new BucketDefinition(bucketDefinitions.size(), definition.getBurstPeriodMs() * 1_000_000, largestCost);
+        bucketDefinitions.add(bucket);
+
+        for (var entry : costs.entrySet()) {
+            usages.computeIfAbsent(entry.getKey(), type -> new ArrayList<>()).add(new Usage(bucket, entry.getValue()));
+        }
+    }
+
+    /**
+     * Extract whether requests of a type are throttled.
+     *
+     * @param requestType               the request type
+     * @return                          whether the request type is in any throttle bucket
+     */
+    public boolean isThrottled(RequestType requestType) {
+        return usages.containsKey(requestType);
+    }
+
+    /**
+     * Reserve room for a request in every bucket its type is in on the node it is sent to.
+     * <p>
+     * The room is always reserved, possibly in the future, so a caller that waits for the returned delay is
+     * guaranteed its place.
+     *
+     * @param nodeId                    the node the request is sent to
+     * @param nodeCount                 the number of nodes sharing the network's throttles
+     * @param requestType               the request type
+     * @return                          the time in nanoseconds to wait before sending the request
+     */
+    long reserve(AccountId nodeId, int nodeCount, RequestType requestType) {
+        var requestUsages = usages.get(requestType);
+
+        if (requestUsages == null) {
+            return 0;
+        }
+
+        var buckets = nodeBuckets.computeIfAbsent(nodeId, id -> newBuckets());
+        var share = Math.max(1, nodeCount);
+        @Var long delay = 0;
+
+        for (var usage : requestUsages) {
+            var definition = usage.bucket;
+
+            // The bucket must always be able to hold at least one request
+            var capacityNanos = Math.max(definition.burstNanos, definition.largestCostNanos * share);
+
+            delay = Math.max(delay, buckets[definition.index].reserve(usage.costNanos * share, capacityNanos));
+        }
+
+        return delay;
+    }
+
+    private Bucket[] newBuckets() {
+        var buckets = new Bucket[bucketDefinitions.size()];
+
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+
+        return buckets;
+    }
+
+    /**
+     * The cost of one request type in one bucket.
+     */
+    private static final class Usage {
+        final BucketDefinition bucket;
+        final long costNanos;
+
+        Usage(BucketDefinition bucket, long costNanos) {
+            this.bucket = bucket;
+            this.costNanos = costNanos;
+        }
+    }
+
+    /**
+     * A throttle bucket of the network, before it is split between the nodes.
+     */
+    private static final class BucketDefinition {
+        final int index;
+        final long burstNanos;
+        final long largestCostNanos;
+
+        BucketDefinition(int index, long burstNanos, long largestCostNanos) {
+            this.index = index;
+            this.burstNanos = burstNanos;
+            this.largestCostNanos = largestCostNanos;
+        }
+    }
+
+    /**
+     * A bucket of one node holding request time, which drains at one nanosecond per nanosecond.
+     */
+    private static final class Bucket {
+        private long usedNanos = 0;
+        private long lastNanos = System.nanoTime();
+
+        synchronized long reserve(long costNanos, long capacityNanos) {
+            var now = System.nanoTime();
+
+            usedNanos = Math.max(0, usedNanos - (now - lastNanos)) + costNanos;
+            lastNanos = now;
+
+            return Math.max(0, usedNanos - capacityNanos);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+
+/**
+ * Maps requests to their {@link RequestType}.
+ * <p>
+ * Kept apart from {@link RequestType}, which is generated from the protobufs.
+ */
+final class RequestTypeHelper {
+    /**
+     * Constructor.
+     */
+    private RequestTypeHelper() {
+    }
+
+    /**
+     * Extract the request type of a transaction body.
+     *
+     * @param dataCase                  the kind of transaction body
+     * @return                          the request type, or {@code NONE} if there is none
+     */
+    static RequestType fromDataCase(TransactionBody.DataCase dataCase) {
+        switch (dataCase) {
+            case CONTRACTCALL:
+                return RequestType.CONTRACT_CALL;
+            case CONTRACTCREATEINSTANCE:
+                return RequestType.CONTRACT_CREATE;
+            case CONTRACTUPDATEINSTANCE:
+                return RequestType.CONTRACT_UPDATE;
+            case CONTRACTDELETEINSTANCE:
+                return RequestType.CONTRACT_DELETE;
+            case ETHEREUMTRANSACTION:
+                return RequestType.ETHEREUM_TRANSACTION;
+            case CRYPTOADDLIVEHASH:
+                return RequestType.CRYPTO_ADD_LIVE_HASH;
+            case CRYPTOAPPROVEALLOWANCE:
+                return RequestType.CRYPTO_APPROVE_ALLOWANCE;
+            case CRYPTODELETEALLOWANCE:
+                return RequestType.CRYPTO_DELETE_ALLOWANCE;
+            case CRYPTOCREATEACCOUNT:
+                return RequestType.CRYPTO_CREATE;
+            case CRYPTODELETE:
+                return RequestType.CRYPTO_DELETE;
+            case CRYPTODELETELIVEHASH:
+                return RequestType.CRYPTO_DELETE_LIVE_HASH;
+            case CRYPTOTRANSFER:
+                return RequestType.CRYPTO_TRANSFER;
+            case CRYPTOUPDATEACCOUNT:
+                return RequestType.CRYPTO_UPDATE;
+            case FILEAPPEND:
+                return RequestType.FILE_APPEND;
+            case FILECREATE:
+                return RequestType.FILE_CREATE;
+            case FILEDELETE:
+                return RequestType.FILE_DELETE;
+            case FILEUPDATE:
+                return RequestType.FILE_UPDATE;
+            case SYSTEMDELETE:
+                return RequestType.SYSTEM_DELETE;
+            case SYSTEMUNDELETE:
+                return RequestType.SYSTEM_UNDELETE;
+            case FREEZE:
+                return RequestType.FREEZE;
+            case CONSENSUSCREATETOPIC:
+                return RequestType.CONSENSUS_CREATE_TOPIC;
+            case CONSENSUSUPDATETOPIC:
+                return RequestType.CONSENSUS_UPDATE_TOPIC;
+            case CONSENSUSDELETETOPIC:
+                return RequestType.CONSENSUS_DELETE_TOPIC;
+            case CONSENSUSSUBMITMESSAGE:
+                return RequestType.CONSENSUS_SUBMIT_MESSAGE;
+            case UNCHECKEDSUBMIT:
+                return RequestType.UNCHECKED_SUBMIT;
+            case TOKENCREATION:
+                return RequestType.TOKEN_CREATE;
+            case TOKENFREEZE:
+                return RequestType.TOKEN_FREEZE_ACCOUNT;
+            case TOKENUNFREEZE:
+                return RequestType.TOKEN_UNFREEZE_ACCOUNT;
+            case TOKENGRANTKYC:
+                return RequestType.TOKEN_GRANT_KYC_TO_ACCOUNT;
+            case TOKENREVOKEKYC:
+                return RequestType.TOKEN_REVOKE_KYC_FROM_ACCOUNT;
+            case TOKENDELETION:
+                return RequestType.TOKEN_DELETE;
+            case TOKENUPDATE:
+                return RequestType.TOKEN_UPDATE;
+            case TOKENMINT:
+                return RequestType.TOKEN_MINT;
+            case TOKENBURN:
+                return RequestType.TOKEN_BURN;
+            case TOKENWIPE:
+                return RequestType.TOKEN_ACCOUNT_WIPE;
+            case TOKENASSOCIATE:
+                return RequestType.TOKEN_ASSOCIATE_TO_ACCOUNT;
+            case TOKENDISSOCIATE:
+                return RequestType.TOKEN_DISSOCIATE_FROM_ACCOUNT;
+            case TOKEN_FEE_SCHEDULE_UPDATE:
+                return RequestType.TOKEN_FEE_SCHEDULE_UPDATE;
+            case TOKEN_PAUSE:
+                return RequestType.TOKEN_PAUSE;
+            case TOKEN_UNPAUSE:
+                return RequestType.TOKEN_UNPAUSE;
+            case SCHEDULECREATE:
+                return RequestType.SCHEDULE_CREATE;
+            case SCHEDULEDELETE:
+                return RequestType.SCHEDULE_DELETE;
+            case SCHEDULESIGN:
+                return RequestType.SCHEDULE_SIGN;
+            default:
+                return RequestType.NONE;
+        }
+    }
+
+    /**
+     * Extract the request type of a query.
+     *
+     * @param queryCase                 the kind of query
+     * @return                          the request type, or {@code NONE} if there is none
+     */
+    static RequestType fromQueryCase(Query.QueryCase queryCase) {
+        switch (queryCase) {
+            case GETBYKEY:
+                return RequestType.GET_BY_KEY;
+            case GETBYSOLIDITYID:
+                return RequestType.GET_BY_SOLIDITY_ID;
+            case CONTRACTCALLLOCAL:
+                return RequestType.CONTRACT_CALL_LOCAL;
+            case CONTRACTGETINFO:
+                return RequestType.CONTRACT_GET_INFO;
+            case CONTRACTGETBYTECODE:
+                return RequestType.CONTRACT_GET_BYTECODE;
+            case CONTRACTGETRECORDS:
+                return RequestType.CONTRACT_GET_RECORDS;
+            case CRYPTOGETACCOUNTBALANCE:
+                return RequestType.CRYPTO_GET_ACCOUNT_BALANCE;
+            case CRYPTOGETACCOUNTRECORDS:
+                return RequestType.CRYPTO_GET_ACCOUNT_RECORDS;
+            case CRYPTOGETINFO:
+                return RequestType.CRYPTO_GET_INFO;
+            case CRYPTOGETLIVEHASH:
+                return RequestType.CRYPTO_GET_LIVE_HASH;
+            case CRYPTOGETPROXYSTAKERS:
+                return RequestType.CRYPTO_GET_STAKERS;
+            case FILEGETCONTENTS:
+                return RequestType.FILE_GET_CONTENTS;
+            case FILEGETINFO:
+                return RequestType.FILE_GET_INFO;
+            case TRANSACTIONGETRECEIPT:
+                return RequestType.TRANSACTION_GET_RECEIPT;
+            case TRANSACTIONGETRECORD:
+                return RequestType.TRANSACTION_GET_RECORD;
+            case CONSENSUSGETTOPICINFO:
+                return RequestType.CONSENSUS_GET_TOPIC_INFO;
+            case NETWORKGETVERSIONINFO:
+                return RequestType.GET_VERSION_INFO;
+            case TOKENGETINFO:
+                return RequestType.TOKEN_GET_INFO;
+            case SCHEDULEGETINFO:
+                return RequestType.SCHEDULE_GET_INFO;
+            case TOKENGETACCOUNTNFTINFOS:
+                return RequestType.TOKEN_GET_ACCOUNT_NFT_INFOS;
+            case TOKENGETNFTINFO:
+                return RequestType.TOKEN_GET_NFT_INFO;
+            case TOKENGETNFTINFOS:
+                return RequestType.TOKEN_GET_NFT_INFOS;
+            case NETWORKGETEXECUTIONTIME:
+                return RequestType.NETWORK_GET_EXECUTION_TIME;
+            case ACCOUNTDETAILS:
+                return RequestType.GET_ACCOUNT_DETAILS;
+            default:
+                return RequestType.NONE;
+        }
+    }
+}
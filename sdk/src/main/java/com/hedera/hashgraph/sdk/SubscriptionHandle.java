@@ -32,6 +32,9 @@ public final class SubscriptionHandle {
     @Nullable
     private Runnable onUnsubscribe;
 
+    @Nullable
+    private TopicMessageChunkBuffer chunkBuffer;
+
     /**
      * Constructor.
      */
@@ -47,6 +50,43 @@ public final class SubscriptionHandle {
         this.onUnsubscribe = onUnsubscribe;
     }
 
+    /**
+     * Assign the buffer holding incomplete chunked messages.
+     *
+     * @param chunkBuffer               the chunk buffer
+     */
+    void setChunkBuffer(TopicMessageChunkBuffer chunkBuffer) {
+        this.chunkBuffer = chunkBuffer;
+    }
+
+    /**
+     * Extract the number of chunked messages which are still waiting for some of their chunks.
+     *
+     * @return                          the number of incomplete chunked messages
+     */
+    public int getPendingChunkGroups() {
+        return chunkBuffer != null ? chunkBuffer.getPendingGroups() : 0;
+    }
+
+    /**
+     * Extract the number of message bytes held for incomplete chunked messages.
+     *
+     * @return                          the number of pending bytes
+     */
+    public long getPendingChunkBytes() {
+        return chunkBuffer != null ? chunkBuffer.getPendingBytes() : 0;
+    }
+
+    /**
+     * Extract the number of incomplete chunked messages which were dropped, either because the subscription moved
+     * too far past them in consensus time or because the pending byte limit was exceeded.
+     *
+     * @return                          the number of dropped chunked messages
+     */
+    public long getDroppedChunkGroups() {
+        return chunkBuffer != null ? chunkBuffer.getDroppedGroups() : 0;
+    }
+
     /**
      * Call the callback.
      */
@@ -0,0 +1,145 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.function.Consumer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedules mirror node subscription reconnects for a single client.
+ *
+ * Reconnects wait on the shared delay timer instead of sleeping on a gRPC or executor thread, and at most
+ * {@code maxConcurrent} of them may be in progress at once so that a mirror node outage does not turn into a
+ * thundering herd of reconnects when it recovers. Reconnects above the limit are queued in arrival order.
+ */
+final class SubscriptionReconnectScheduler {
+    private final Executor executor;
+    private final Queue<Consumer<Runnable>> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile int maxConcurrent;
+
+    /**
+     * Constructor.
+     *
+     * @param executor                  the executor reconnects are run on
+     * @param maxConcurrent             the maximum number of reconnects in progress at once
+     */
+    SubscriptionReconnectScheduler(Executor executor, int maxConcurrent) {
+        this.executor = executor;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Extract the maximum number of reconnects in progress at once.
+     *
+     * @return                          the maximum number of concurrent reconnects
+     */
+    int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Assign the maximum number of reconnects in progress at once.
+     *
+     * @param maxConcurrent             the maximum number of concurrent reconnects
+     */
+    void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        drain();
+    }
+
+    /**
+     * Extract the number of reconnects currently in progress.
+     *
+     * @return                          the number of active reconnects
+     */
+    int getActive() {
+        return active.get();
+    }
+
+    /**
+     * Extract the number of reconnects whose delay has passed but are waiting for a free slot.
+     *
+     * @return                          the number of queued reconnects
+     */
+    int getWaiting() {
+        return waiting.size();
+    }
+
+    /**
+     * Run {@code reconnect} on the executor once {@code delayMillis} has passed and a reconnect slot is free.
+     *
+     * The reconnect is handed a release callback which it must run once the new stream is established or has failed.
+     * Running the release callback more than once has no further effect.
+     *
+     * @param delayMillis               the delay before reconnecting
+     * @param reconnect                 the reconnect to run
+     */
+    void schedule(long delayMillis, Consumer<Runnable> reconnect) {
+        Delayer.delayFor(delayMillis, executor).thenRun(() -> {
+            waiting.add(reconnect);
+            drain();
+        });
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            var current = active.get();
+
+            if (current >= maxConcurrent) {
+                return;
+            }
+
+            if (!active.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            var reconnect = waiting.poll();
+
+            if (reconnect == null) {
+                // Another thread took the last waiting reconnect between the check and the poll
+                active.decrementAndGet();
+                continue;
+            }
+
+            var released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    active.decrementAndGet();
+                    drain();
+                }
+            };
+
+            executor.execute(() -> {
+                try {
+                    reconnect.accept(release);
+                } catch (RuntimeException e) {
+                    release.run();
+                    throw e;
+                }
+            });
+        }
+    }
+}
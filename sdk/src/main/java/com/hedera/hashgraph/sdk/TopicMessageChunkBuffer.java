@@ -0,0 +1,213 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reassembles chunked topic messages for a single subscription.
+ *
+ * Chunk groups are removed as soon as they are complete. Incomplete groups are dropped once the subscription has
+ * advanced more than {@code maxAge} in consensus time past their first chunk, or, oldest first, when the chunks
+ * held by the buffer exceed {@code maxBytes}. Both limits keep long-lived subscriptions from growing without bound
+ * when chunks go missing.
+ */
+final class TopicMessageChunkBuffer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageChunkBuffer.class);
+
+    private final Duration maxAge;
+
+    private final long maxBytes;
+
+    /**
+     * Pending chunk groups in arrival order, which is also consensus order, so the eldest entry is always the first
+     * one to expire.
+     */
+    private final LinkedHashMap<TransactionID, PendingMessage> pendingMessages = new LinkedHashMap<>();
+
+    private volatile int pendingGroups = 0;
+
+    private volatile long pendingBytes = 0;
+
+    private volatile long droppedGroups = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxAge                    how far consensus time may advance before an incomplete group is dropped
+     * @param maxBytes                  the maximum number of message bytes held in incomplete groups
+     */
+    TopicMessageChunkBuffer(Duration maxAge, long maxBytes) {
+        this.maxAge = maxAge;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Add a chunk to its group.
+     *
+     * @param response                  a response which is part of a chunked message
+     * @return                          the complete message if this was the last missing chunk, otherwise null
+     */
+    @Nullable
+    synchronized TopicMessage add(ConsensusTopicResponse response) {
+        var chunkInfo = response.getChunkInfo();
+        var initialTransactionId = chunkInfo.getInitialTransactionID();
+
+        // An invalid chunk would start a group which can never complete
+        if (chunkInfo.getTotal() <= 0 || chunkInfo.getNumber() < 1 || chunkInfo.getNumber() > chunkInfo.getTotal()) {
+            LOGGER.warn("Ignoring invalid chunk {} of {} for topic message {}",
+                chunkInfo.getNumber(), chunkInfo.getTotal(), TransactionId.fromProtobuf(initialTransactionId));
+            return null;
+        }
+
+        var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+
+        @Var var pendingMessage = pendingMessages.get(initialTransactionId);
+        if (pendingMessage == null) {
+            pendingMessage = new PendingMessage(chunkInfo.getTotal(), consensusTimestamp);
+            pendingMessages.put(initialTransactionId, pendingMessage);
+        }
+
+        @Var TopicMessage message = null;
+
+        if (pendingMessage.add(response)) {
+            pendingBytes += response.getMessage().size();
+
+            if (pendingMessage.isComplete()) {
+                pendingMessages.remove(initialTransactionId);
+                pendingBytes -= pendingMessage.bytes;
+                message = TopicMessage.ofMany(pendingMessage.responses);
+            }
+        }
+
+        expire(consensusTimestamp);
+        pendingGroups = pendingMessages.size();
+
+        return message;
+    }
+
+    /**
+     * Drop incomplete groups which are too old or which push the buffer over its byte budget.
+     *
+     * @param now                       the consensus timestamp of the latest chunk
+     */
+    private void expire(Instant now) {
+        var oldestAllowed = now.minus(maxAge);
+        Iterator<Map.Entry<TransactionID, PendingMessage>> iterator = pendingMessages.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var pendingMessage = entry.getValue();
+
+            if (!pendingMessage.firstConsensusTimestamp.isBefore(oldestAllowed) && pendingBytes <= maxBytes) {
+                break;
+            }
+
+            iterator.remove();
+            pendingBytes -= pendingMessage.bytes;
+            droppedGroups += 1;
+
+            LOGGER.warn("Dropping incomplete chunked topic message {} with {} of {} chunks received",
+                TransactionId.fromProtobuf(entry.getKey()), pendingMessage.responses.size(), pendingMessage.total);
+        }
+    }
+
+    /**
+     * Extract the number of incomplete chunk groups.
+     *
+     * @return                          the number of incomplete chunk groups
+     */
+    int getPendingGroups() {
+        return pendingGroups;
+    }
+
+    /**
+     * Extract the number of message bytes held in incomplete chunk groups.
+     *
+     * @return                          the number of pending bytes
+     */
+    long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * Extract the number of incomplete chunk groups which were dropped because they expired or exceeded the budget.
+     *
+     * @return                          the number of dropped chunk groups
+     */
+    long getDroppedGroups() {
+        return droppedGroups;
+    }
+
+    /**
+     * The chunks received so far for one message.
+     */
+    private static final class PendingMessage {
+        private final int total;
+        private final Instant firstConsensusTimestamp;
+        private final boolean[] received;
+        private final List<ConsensusTopicResponse> responses;
+        private long bytes = 0;
+
+        PendingMessage(int total, Instant firstConsensusTimestamp) {
+            this.total = total;
+            this.firstConsensusTimestamp = firstConsensusTimestamp;
+            this.received = new boolean[total];
+            this.responses = new ArrayList<>(total);
+        }
+
+        /**
+         * Add a chunk, ignoring duplicates and chunk numbers outside of the group.
+         *
+         * @param response              the chunk
+         * @return                      whether the chunk was added
+         */
+        boolean add(ConsensusTopicResponse response) {
+            var index = response.getChunkInfo().getNumber() - 1;
+
+            if (index < 0 || index >= received.length || received[index]) {
+                return false;
+            }
+
+            received[index] = true;
+            responses.add(response);
+            bytes += response.getMessage().size();
+
+            return true;
+        }
+
+        boolean isComplete() {
+            return responses.size() == total;
+        }
+    }
+}
@@ -0,0 +1,402 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reactive Streams publisher for {@link TopicMessageQuery}.
+ *
+ * Uses gRPC manual inbound flow control: responses are only requested from the mirror node while the subscriber has
+ * outstanding demand, so a slow subscriber slows down the stream instead of growing buffers.
+ */
+final class TopicMessagePublisher implements Publisher<TopicMessage> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessagePublisher.class);
+
+    /**
+     * Maximum number of responses requested from the mirror node ahead of delivery. Keeps unbounded demand
+     * ({@code request(Long.MAX_VALUE)}) from turning into an unbounded gRPC request.
+     */
+    static final int MAX_PREFETCH = 256;
+
+    private final TopicMessageQuery query;
+    private final Client client;
+
+    /**
+     * Constructor.
+     *
+     * @param query                     the query to run for every subscriber
+     * @param client                    the configured client
+     */
+    TopicMessagePublisher(TopicMessageQuery query, Client client) {
+        this.query = query;
+        this.client = client;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super TopicMessage> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        subscriber.onSubscribe(new TopicMessageSubscription(subscriber));
+    }
+
+    /**
+     * A single subscriber's subscription to the mirror node.
+     * <p>
+     * Every signal to the subscriber is sent from {@link #drain()}, which only ever runs on one thread at a time, so
+     * signals never overlap. A message is only delivered after claiming one unit of demand; messages received
+     * without demand wait in {@code buffered}.
+     */
+    private final class TopicMessageSubscription implements Subscription {
+        private final Subscriber<? super TopicMessage> subscriber;
+        private final TopicMessageChunkBuffer pendingMessages = query.createChunkBuffer();
+
+        /**
+         * Messages requested by the subscriber and not yet delivered, guarded by {@code this}.
+         */
+        private long demand = 0;
+
+        /**
+         * Responses requested from the current gRPC call and not yet received, guarded by {@code this}.
+         */
+        private int inFlight = 0;
+
+        /**
+         * Messages received and not yet delivered, guarded by {@code this}.
+         */
+        private final Queue<TopicMessage> buffered = new ArrayDeque<>();
+
+        /**
+         * Number of times {@link #drain()} was asked to run while it was already running.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final AtomicLong counter = new AtomicLong();
+        private final AtomicReference<ConsensusTopicResponse> lastMessage = new AtomicReference<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        /**
+         * The error to end the subscription with, delivered by {@link #drain()}.
+         */
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /**
+         * Whether the mirror node completed the stream; delivered once the buffered messages are.
+         */
+        private volatile boolean completed = false;
+
+        @Nullable
+        private volatile ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+
+        @Nullable
+        private volatile ClientCallStreamObserver<ConsensusTopicQuery> requestStream;
+
+        TopicMessageSubscription(Subscriber<? super TopicMessage> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request must be greater than zero, got " + n));
+                return;
+            }
+
+            synchronized (this) {
+                // Add with saturation at Long.MAX_VALUE, which means unbounded demand
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+
+            if (started.compareAndSet(false, true)) {
+                connect(0, () -> {
+                });
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (done.compareAndSet(false, true)) {
+                var currentCall = call;
+                if (currentCall != null) {
+                    currentCall.cancel("unsubscribe", null);
+                }
+            }
+        }
+
+        /**
+         * Deliver buffered messages up to the demand, then any terminal signal, and top up the responses requested
+         * from the mirror node. Runs on one thread at a time; a call while it is running makes it loop again.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            @Var var missed = 1;
+
+            while (true) {
+                if (!deliver()) {
+                    // Terminated; wip is left raised so the loop never runs again
+                    return;
+                }
+
+                requestMore();
+
+                missed = wip.addAndGet(-missed);
+
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Deliver what can be delivered.
+         *
+         * @return                          whether the subscription is still active
+         */
+        private boolean deliver() {
+            while (true) {
+                if (done.get()) {
+                    return false;
+                }
+
+                @Nullable var failure = error.get();
+                if (failure != null) {
+                    terminate(failure);
+                    return false;
+                }
+
+                @Nullable TopicMessage message;
+
+                synchronized (this) {
+                    if (buffered.isEmpty()) {
+                        if (!completed) {
+                            return true;
+                        }
+
+                        message = null;
+                    } else if (demand == 0) {
+                        return true;
+                    } else {
+                        message = buffered.remove();
+
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                    }
+                }
+
+                if (message == null) {
+                    terminate(null);
+                    return false;
+                }
+
+                try {
+                    subscriber.onNext(message);
+                } catch (Throwable t) {
+                    // Subscribers must not throw; treat the subscription as cancelled
+                    LOGGER.error("Subscriber for topic {} threw from onNext, cancelling", query.getTopicId(), t);
+                    cancel();
+                    return false;
+                }
+            }
+        }
+
+        private void terminate(@Nullable Throwable failure) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (failure == null) {
+                subscriber.onComplete();
+                return;
+            }
+
+            var currentCall = call;
+            if (currentCall != null) {
+                currentCall.cancel("failed", failure);
+            }
+
+            subscriber.onError(failure);
+        }
+
+        /**
+         * Top up the responses requested from the mirror node to match the demand which is neither delivered nor
+         * already received.
+         */
+        private void requestMore() {
+            var stream = requestStream;
+            if (stream == null || done.get()) {
+                return;
+            }
+
+            int wanted;
+
+            synchronized (this) {
+                var needed = Math.min(demand - buffered.size(), MAX_PREFETCH);
+
+                wanted = (int) Math.max(0, needed - inFlight);
+                inFlight += wanted;
+            }
+
+            if (wanted > 0) {
+                stream.request(wanted);
+            }
+        }
+
+        /**
+         * Account for a response from the mirror node.
+         *
+         * @param message                   the message it completed, if any
+         */
+        private synchronized void onResponse(@Nullable TopicMessage message) {
+            inFlight--;
+
+            if (message != null) {
+                buffered.add(message);
+            }
+        }
+
+        private void connect(int attempt, Runnable onConnected) {
+            if (done.get() || error.get() != null) {
+                onConnected.run();
+                drain();
+                return;
+            }
+
+            ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> newCall;
+            try {
+                newCall = client.mirrorNetwork.getNextMirrorNode().getChannel()
+                    .newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                onConnected.run();
+                fail(e);
+                return;
+            } catch (RuntimeException e) {
+                onConnected.run();
+                fail(e);
+                return;
+            }
+
+            call = newCall;
+            requestStream = null;
+
+            synchronized (this) {
+                inFlight = 0;
+            }
+
+            var request = query.buildRequest(counter.get(), lastMessage.get());
+
+            ClientCalls.asyncServerStreamingCall(newCall, request, new ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse>() {
+                @Override
+                public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> stream) {
+                    // Nothing is pulled from the mirror node until the subscriber asks for it
+                    stream.disableAutoRequestWithInitial(0);
+                    stream.setOnReadyHandler(onConnected);
+                    requestStream = stream;
+                }
+
+                @Override
+                public void onNext(ConsensusTopicResponse response) {
+                    onConnected.run();
+                    counter.incrementAndGet();
+                    lastMessage.set(response);
+
+                    @Nullable TopicMessage message;
+                    if (!response.hasChunkInfo() || response.getChunkInfo().getTotal() == 1) {
+                        message = TopicMessage.ofSingle(response);
+                    } else {
+                        message = pendingMessages.add(response);
+                    }
+
+                    onResponse(message);
+                    drain();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    onConnected.run();
+
+                    if (done.get() || error.get() != null) {
+                        drain();
+                        return;
+                    }
+
+                    if (!query.shouldRetry(attempt, t)) {
+                        fail(t);
+                        return;
+                    }
+
+                    var delay = query.getRetryDelay(attempt);
+                    LOGGER.warn("Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
+                        query.getTopicId(), attempt, delay, t.getMessage());
+
+                    client.subscriptionReconnects.schedule(delay, release -> connect(attempt + 1, release));
+                }
+
+                @Override
+                public void onCompleted() {
+                    onConnected.run();
+                    completed = true;
+                    drain();
+                }
+            });
+
+            drain();
+        }
+
+        /**
+         * End the subscription with an error, which {@link #drain()} delivers so it never overlaps an
+         * {@code onNext}.
+         *
+         * @param t                         the error
+         */
+        private void fail(Throwable t) {
+            error.compareAndSet(null, t);
+            drain();
+        }
+    }
+}
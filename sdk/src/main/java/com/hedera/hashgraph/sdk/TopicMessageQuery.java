@@ -19,9 +19,7 @@
  */
 package com.hedera.hashgraph.sdk;
 
-import com.google.errorprone.annotations.Var;
 import com.hedera.hashgraph.sdk.proto.Timestamp;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -29,19 +27,22 @@ import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.ClientCalls;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import java8.util.function.BiConsumer;
 import java8.util.function.Consumer;
 import java8.util.function.Predicate;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -54,12 +55,17 @@ public final class TopicMessageQuery {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageQuery.class);
 
+    static final Duration DEFAULT_MAX_PENDING_CHUNK_AGE = Duration.ofMinutes(10L);
+    static final long DEFAULT_MAX_PENDING_CHUNK_BYTES = 16L * 1024L * 1024L;
+
     private final ConsensusTopicQuery.Builder builder;
     private Runnable completionHandler = this::onComplete;
     private BiConsumer<Throwable, TopicMessage> errorHandler = this::onError;
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
     private Predicate<Throwable> retryHandler = this::shouldRetry;
+    private Duration maxPendingChunkAge = DEFAULT_MAX_PENDING_CHUNK_AGE;
+    private long maxPendingChunkBytes = DEFAULT_MAX_PENDING_CHUNK_BYTES;
 
     /**
      * Constructor.
@@ -179,6 +185,37 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Assign how far, in consensus time, the subscription may advance past the first chunk of a chunked message
+     * before the incomplete message is dropped.
+     *
+     * @param maxPendingChunkAge        the maximum age of an incomplete chunked message
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkAge(Duration maxPendingChunkAge) {
+        Objects.requireNonNull(maxPendingChunkAge, "maxPendingChunkAge must not be null");
+        if (maxPendingChunkAge.isNegative()) {
+            throw new IllegalArgumentException("maxPendingChunkAge must be a positive duration");
+        }
+        this.maxPendingChunkAge = maxPendingChunkAge;
+        return this;
+    }
+
+    /**
+     * Assign the maximum number of message bytes held for incomplete chunked messages. When the limit is exceeded
+     * the oldest incomplete messages are dropped first.
+     *
+     * @param maxPendingChunkBytes      the maximum number of pending bytes
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkBytes(long maxPendingChunkBytes) {
+        if (maxPendingChunkBytes < 0) {
+            throw new IllegalArgumentException("maxPendingChunkBytes must be positive");
+        }
+        this.maxPendingChunkBytes = maxPendingChunkBytes;
+        return this;
+    }
+
     private void onComplete() {
         var topicId = TopicId.fromProtobuf(builder.getTopicID());
         LOGGER.info("Subscription to topic {} complete", topicId);
@@ -231,10 +268,12 @@ public final class TopicMessageQuery {
     // TODO: Refactor into a base class when we add more mirror query types
     public SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
+        var pendingMessages = createChunkBuffer();
+        subscriptionHandle.setChunkBuffer(pendingMessages);
 
         try {
-            makeStreamingCall(client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages);
+            makeStreamingCall(client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages, () -> {
+            });
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -242,6 +281,94 @@ public final class TopicMessageQuery {
         return subscriptionHandle;
     }
 
+    /**
+     * Create a <a href="https://www.reactive-streams.org/">Reactive Streams</a> publisher for the topic.
+     *
+     * Every subscriber gets its own subscription to the mirror node. Messages are only pulled from the mirror node
+     * as the subscriber requests them, so a slow subscriber applies backpressure all the way to the server instead
+     * of buffering without bound. Retries resume from the last received message, like {@link #subscribe}.
+     *
+     * The completion and error handlers of this query are not used; the subscriber's {@code onComplete} and
+     * {@code onError} are signalled instead.
+     *
+     * @param client                    the configured client
+     * @return                          the publisher of topic messages
+     */
+    public Publisher<TopicMessage> asPublisher(Client client) {
+        return new TopicMessagePublisher(this, client);
+    }
+
+    /**
+     * Build the request for the given attempt. When resuming after some messages were already received the start
+     * time is moved past the last message and the limit is reduced accordingly.
+     *
+     * @param received                  the number of responses already received
+     * @param lastMessage               the last response received, if any
+     * @return                          the request
+     */
+    ConsensusTopicQuery buildRequest(long received, @Nullable ConsensusTopicResponse lastMessage) {
+        if (lastMessage == null) {
+            return builder.build();
+        }
+
+        var newBuilder = builder.clone();
+
+        if (builder.getLimit() > 0) {
+            newBuilder.setLimit(builder.getLimit() - received);
+        }
+
+        var lastStartTime = lastMessage.getConsensusTimestamp();
+        var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
+        newBuilder.setConsensusStartTime(nextStartTime);
+
+        return newBuilder.build();
+    }
+
+    /**
+     * Should the subscription be retried after the given attempt failed?
+     *
+     * @param attempt                   the attempt which failed
+     * @param throwable                 the failure
+     * @return                          whether to retry
+     */
+    boolean shouldRetry(int attempt, Throwable throwable) {
+        return attempt < maxAttempts && retryHandler.test(throwable);
+    }
+
+    /**
+     * Extract the delay before the next attempt.
+     *
+     * The exponential backoff is jittered between half and all of its value so that subscriptions which failed
+     * together do not all reconnect together.
+     *
+     * @param attempt                   the attempt which failed
+     * @return                          the delay in milliseconds
+     */
+    long getRetryDelay(int attempt) {
+        var backoff = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
+        var half = backoff / 2;
+
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    /**
+     * Create an empty chunk reassembly buffer using the configured limits.
+     *
+     * @return                          the chunk buffer
+     */
+    TopicMessageChunkBuffer createChunkBuffer() {
+        return new TopicMessageChunkBuffer(maxPendingChunkAge, maxPendingChunkBytes);
+    }
+
+    /**
+     * Extract the topic id, for logging.
+     *
+     * @return                          the topic id
+     */
+    TopicId getTopicId() {
+        return TopicId.fromProtobuf(builder.getTopicID());
+    }
+
     private void makeStreamingCall(
         Client client,
         SubscriptionHandle subscriptionHandle,
@@ -249,7 +376,8 @@ public final class TopicMessageQuery {
         int attempt,
         AtomicLong counter,
         AtomicReference<ConsensusTopicResponse> lastMessage,
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages
+        TopicMessageChunkBuffer pendingMessages,
+        Runnable onConnected
     ) throws InterruptedException {
         // TODO: check status of channel before using it?
         ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
@@ -258,27 +386,21 @@ public final class TopicMessageQuery {
 
         subscriptionHandle.setOnUnsubscribe(() -> {
             call.cancel("unsubscribe", null);
+            onConnected.run();
         });
 
-        @Var
-        var newBuilder = builder;
-
         // Update the start time and limit on retry
-        if (lastMessage.get() != null) {
-            newBuilder = builder.clone();
+        var request = buildRequest(counter.get(), lastMessage.get());
 
-            if (builder.getLimit() > 0) {
-                newBuilder.setLimit(builder.getLimit() - counter.get());
+        ClientCalls.asyncServerStreamingCall(call, request, new ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> requestStream) {
+                requestStream.setOnReadyHandler(onConnected);
             }
 
-            var lastStartTime = lastMessage.get().getConsensusTimestamp();
-            var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
-            newBuilder.setConsensusStartTime(nextStartTime);
-        }
-
-        ClientCalls.asyncServerStreamingCall(call, newBuilder.build(), new StreamObserver<>() {
             @Override
             public void onNext(ConsensusTopicResponse consensusTopicResponse) {
+                onConnected.run();
                 counter.incrementAndGet();
                 lastMessage.set(consensusTopicResponse);
 
@@ -295,24 +417,10 @@ public final class TopicMessageQuery {
                     return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
-
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
-                }
-
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
-
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
-
-                // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    var message = TopicMessage.ofMany(chunks);
+                // add our response to its pending chunk group, if the group is now complete, emit
+                var message = pendingMessages.add(consensusTopicResponse);
 
+                if (message != null) {
                     try {
                         onNext.accept(message);
                     } catch (Throwable t) {
@@ -323,33 +431,44 @@ public final class TopicMessageQuery {
 
             @Override
             public void onError(Throwable t) {
-                if (attempt >= maxAttempts || !retryHandler.test(t)) {
+                onConnected.run();
+
+                if (!shouldRetry(attempt, t)) {
                     errorHandler.accept(t, null);
                     return;
                 }
 
-                var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-                var topicId = TopicId.fromProtobuf(builder.getTopicID());
+                var delay = getRetryDelay(attempt);
+                var topicId = getTopicId();
                 LOGGER.warn("Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
                     topicId, attempt, delay, t.getMessage());
                 call.cancel("unsubscribed", null);
 
-                // Cannot use `CompletableFuture<U>` here since this future is never polled
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                // Unsubscribing while waiting must stop the reconnect from happening
+                var cancelled = new AtomicBoolean();
+                subscriptionHandle.setOnUnsubscribe(() -> cancelled.set(true));
 
-                try {
-                    makeStreamingCall(client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+                // Wait on the client's reconnect scheduler rather than sleeping on this gRPC thread. The reconnect
+                // runs as a fresh task, so the stack does not grow with the number of attempts.
+                client.subscriptionReconnects.schedule(delay, release -> {
+                    if (cancelled.get()) {
+                        release.run();
+                        return;
+                    }
+
+                    try {
+                        makeStreamingCall(client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages, release);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        release.run();
+                        errorHandler.accept(e, null);
+                    }
+                });
             }
 
             @Override
             public void onCompleted() {
+                onConnected.run();
                 completionHandler.run();
             }
         });
@@ -21,12 +21,18 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
+import com.hedera.hashgraph.sdk.proto.AccountID;
 import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.TransactionList;
 import java8.util.concurrent.CompletableFuture;
 import java8.util.function.Function;
@@ -34,7 +40,12 @@ import org.bouncycastle.crypto.digests.SHA384Digest;
 import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,6 +56,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Base class for all transactions that may be built and submitted to Hedera.
@@ -77,12 +90,16 @@ public abstract class Transaction<T extends Transaction<T>>
     protected List<com.hedera.hashgraph.sdk.proto.SignedTransaction.Builder> innerSignedTransactions = Collections.emptyList();
     protected List<SignatureMap.Builder> sigPairLists = Collections.emptyList();
     protected LockableList<TransactionId> transactionIds = new LockableList<>();
-    // publicKeys and signers are parallel arrays.
-    // If the signer associated with a public key is null, that means that the private key
+    // publicKeys, signers and asyncSigners are parallel arrays.
+    // If both signers associated with a public key are null, that means that the private key
     // associated with that public key has already contributed a signature to sigPairListBuilders, but
     // the signer is not available (likely because this came from fromBytes())
     protected List<PublicKey> publicKeys = new ArrayList<>();
     protected List<Function<byte[], byte[]>> signers = new ArrayList<>();
+    protected List<Function<byte[], CompletableFuture<byte[]>>> asyncSigners = new ArrayList<>();
+    // When set, signatures for every (node, signer) pair are computed in parallel on this executor
+    @Nullable
+    private Executor signingExecutor = null;
     protected Hbar defaultMaxTransactionFee = new Hbar(2);
     // For SDK Transactions that require multiple protobuf transaction ID's this variable keeps track of the current
     // execution group.
@@ -158,6 +175,7 @@ public abstract class Transaction<T extends Transaction<T>>
                     for (var sigPair : transaction.getSigMap().getSigPairList()) {
                         publicKeys.add(PublicKey.fromBytes(sigPair.getPubKeyPrefix().toByteArray()));
                         signers.add(null);
+                        asyncSigners.add(null);
                     }
                 }
             }
@@ -168,19 +186,12 @@ public abstract class Transaction<T extends Transaction<T>>
 
         // Verify that transaction bodies match
         for (@Var int i = 0; i < txCount; i++) {
-            @Var TransactionBody firstTxBody = null;
-            for (@Var int j = 0; j < nodeCount; j++) {
-                int k = i*nodeCount + j;
-                var txBody = TransactionBody.parseFrom(innerSignedTransactions.get(k).getBodyBytes());
-                if (firstTxBody == null) {
-                    firstTxBody = txBody;
-                } else {
-                    requireProtoMatches(
-                        firstTxBody,
-                        txBody,
-                        new HashSet<>(Arrays.asList("NodeAccountID")),
-                        "TransactionBody"
-                    );
+            var firstBodyBytes = innerSignedTransactions.get(i * nodeCount).getBodyBytes();
+            var firstMaskedBytes = withoutNodeAccountId(firstBodyBytes);
+            for (@Var int j = 1; j < nodeCount; j++) {
+                var bodyBytes = innerSignedTransactions.get(i * nodeCount + j).getBodyBytes();
+                if (!firstMaskedBytes.equals(withoutNodeAccountId(bodyBytes))) {
+                    requireBodiesMatch(firstBodyBytes, bodyBytes);
                 }
             }
         }
@@ -205,6 +216,42 @@ public abstract class Transaction<T extends Transaction<T>>
      * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
      */
     public static Transaction<?> fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
+        // Parsing without aliasing copies every field out, so the caller's array is never retained
+        return fromByteString(UnsafeByteOperations.unsafeWrap(bytes));
+    }
+
+    /**
+     * Create the correct transaction from the remaining bytes of a buffer, without copying them into an array
+     * first.
+     * <p>
+     * The buffer's position is advanced to its limit. The returned transaction does not reference the buffer, so
+     * it can be reused afterwards.
+     *
+     * @param buffer                    the buffer holding the serialized transaction
+     * @return                          the new transaction
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    public static Transaction<?> fromByteBuffer(ByteBuffer buffer) throws InvalidProtocolBufferException {
+        var transaction = fromByteString(UnsafeByteOperations.unsafeWrap(buffer));
+        buffer.position(buffer.limit());
+        return transaction;
+    }
+
+    /**
+     * Create the correct transaction from a stream holding exactly one serialized transaction.
+     * <p>
+     * The stream is read until it is exhausted but is not closed.
+     *
+     * @param input                     the stream holding the serialized transaction
+     * @return                          the new transaction
+     * @throws IOException                          when the stream cannot be read
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    public static Transaction<?> fromInputStream(InputStream input) throws IOException {
+        return fromByteString(ByteString.readFrom(input));
+    }
+
+    private static Transaction<?> fromByteString(ByteString bytes) throws InvalidProtocolBufferException {
         var txs = new LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>>();
         @Var TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
 
@@ -213,9 +260,9 @@ public abstract class Transaction<T extends Transaction<T>>
         if (list.getTransactionListList().isEmpty()) {
             var transaction = com.hedera.hashgraph.sdk.proto.Transaction.parseFrom(bytes).toBuilder();
 
-            TransactionBody txBody;
+            BodyHeader txBody;
             if (transaction.getSignedTransactionBytes().isEmpty()) {
-                txBody = TransactionBody.parseFrom(transaction.getBodyBytes());
+                txBody = BodyHeader.read(transaction.getBodyBytes());
 
                 transaction.setSignedTransactionBytes(SignedTransaction.newBuilder()
                         .setBodyBytes(transaction.getBodyBytes())
@@ -225,29 +272,27 @@ public abstract class Transaction<T extends Transaction<T>>
                     .clearBodyBytes()
                     .clearSigMap();
             } else {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+                txBody = BodyHeader.read(readSignedBodyBytes(transaction.getSignedTransactionBytes()));
             }
 
-            dataCase = txBody.getDataCase();
+            dataCase = txBody.dataCase;
 
-            var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-            var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
+            var account = AccountId.fromProtobuf(txBody.nodeAccountId);
+            var transactionId = TransactionId.fromProtobuf(txBody.transactionId);
 
             var linked = new LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>();
             linked.put(account, transaction.build());
             txs.put(transactionId, linked);
         } else {
             for (var transaction : list.getTransactionListList()) {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                var txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+                var txBody = BodyHeader.read(readSignedBodyBytes(transaction.getSignedTransactionBytes()));
 
                 if (dataCase.getNumber() == TransactionBody.DataCase.DATA_NOT_SET.getNumber()) {
-                    dataCase = txBody.getDataCase();
+                    dataCase = txBody.dataCase;
                 }
 
-                var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-                var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
+                var account = AccountId.fromProtobuf(txBody.nodeAccountId);
+                var transactionId = TransactionId.fromProtobuf(txBody.transactionId);
 
                 var linked = txs.containsKey(transactionId) ?
                     Objects.requireNonNull(txs.get(transactionId)) :
@@ -519,6 +564,165 @@ public abstract class Transaction<T extends Transaction<T>>
         }
     }
 
+    /**
+     * Extract the body bytes of a serialized signed transaction without parsing or copying its signatures.
+     *
+     * @param signedTransactionBytes    the serialized signed transaction
+     * @return                          the serialized transaction body
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    private static ByteString readSignedBodyBytes(ByteString signedTransactionBytes) throws InvalidProtocolBufferException {
+        var input = signedTransactionBytes.newCodedInput();
+        // The bytes belong to an immutable message, so the body can be a view of them
+        input.enableAliasing(true);
+        @Var ByteString bodyBytes = ByteString.EMPTY;
+
+        try {
+            while (true) {
+                var tag = input.readTag();
+
+                if (tag == 0) {
+                    break;
+                }
+
+                if (WireFormat.getTagFieldNumber(tag) == SignedTransaction.BODYBYTES_FIELD_NUMBER &&
+                    WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED
+                ) {
+                    bodyBytes = input.readBytes();
+                } else {
+                    input.skipField(tag);
+                }
+            }
+        } catch (InvalidProtocolBufferException error) {
+            throw error;
+        } catch (IOException error) {
+            throw new InvalidProtocolBufferException(error);
+        }
+
+        return bodyBytes;
+    }
+
+    /**
+     * The fields of a transaction body that {@link #fromBytes(byte[])} needs to group the transactions in a list.
+     * <p>
+     * Reading only these avoids parsing every per-node body in full; the constructor parses the one body it keeps.
+     */
+    private static final class BodyHeader {
+        final TransactionID transactionId;
+        final AccountID nodeAccountId;
+        final TransactionBody.DataCase dataCase;
+
+        private BodyHeader(TransactionID transactionId, AccountID nodeAccountId, TransactionBody.DataCase dataCase) {
+            this.transactionId = transactionId;
+            this.nodeAccountId = nodeAccountId;
+            this.dataCase = dataCase;
+        }
+
+        static BodyHeader read(ByteString bodyBytes) throws InvalidProtocolBufferException {
+            var input = bodyBytes.newCodedInput();
+            var registry = ExtensionRegistryLite.getEmptyRegistry();
+            var transactionId = TransactionID.newBuilder();
+            var nodeAccountId = AccountID.newBuilder();
+            @Var TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
+
+            try {
+                while (true) {
+                    var tag = input.readTag();
+
+                    if (tag == 0) {
+                        break;
+                    }
+
+                    var fieldNumber = WireFormat.getTagFieldNumber(tag);
+
+                    if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        input.skipField(tag);
+                    } else if (fieldNumber == TransactionBody.TRANSACTIONID_FIELD_NUMBER) {
+                        input.readMessage(transactionId, registry);
+                    } else if (fieldNumber == TransactionBody.NODEACCOUNTID_FIELD_NUMBER) {
+                        input.readMessage(nodeAccountId, registry);
+                    } else {
+                        var fieldDataCase = TransactionBody.DataCase.forNumber(fieldNumber);
+                        if (fieldDataCase != null) {
+                            dataCase = fieldDataCase;
+                        }
+
+                        input.skipField(tag);
+                    }
+                }
+            } catch (InvalidProtocolBufferException error) {
+                throw error;
+            } catch (IOException error) {
+                throw new InvalidProtocolBufferException(error);
+            }
+
+            return new BodyHeader(transactionId.build(), nodeAccountId.build(), dataCase);
+        }
+    }
+
+    /**
+     * Strip the node account ID field from the serialized bytes of a transaction body without parsing it.
+     * <p>
+     * The per-node bodies of a transaction only differ in this field, so in the common case they compare equal
+     * byte for byte once it is removed.
+     *
+     * @param bodyBytes                 the serialized transaction body
+     * @return                          the serialized body without its node account ID
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    static ByteString withoutNodeAccountId(ByteString bodyBytes) throws InvalidProtocolBufferException {
+        var input = bodyBytes.newCodedInput();
+        @Var ByteString masked = ByteString.EMPTY;
+        @Var int keepFrom = 0;
+
+        try {
+            while (true) {
+                var fieldStart = input.getTotalBytesRead();
+                var tag = input.readTag();
+
+                if (tag == 0) {
+                    break;
+                }
+
+                input.skipField(tag);
+
+                if (WireFormat.getTagFieldNumber(tag) == TransactionBody.NODEACCOUNTID_FIELD_NUMBER) {
+                    masked = masked.concat(bodyBytes.substring(keepFrom, fieldStart));
+                    keepFrom = input.getTotalBytesRead();
+                }
+            }
+        } catch (InvalidProtocolBufferException error) {
+            throw error;
+        } catch (IOException error) {
+            throw new InvalidProtocolBufferException(error);
+        }
+
+        return keepFrom == 0 ? bodyBytes : masked.concat(bodyBytes.substring(keepFrom));
+    }
+
+    /**
+     * Slow path for per-node bodies whose bytes differ once the node account ID is removed.
+     * <p>
+     * Another encoder may have serialized equal bodies differently, so compare the parsed messages before
+     * reporting which field did not match.
+     *
+     * @param bodyBytesA                the first serialized transaction body
+     * @param bodyBytesB                the second serialized transaction body
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    private static void requireBodiesMatch(ByteString bodyBytesA, ByteString bodyBytesB) throws InvalidProtocolBufferException {
+        var bodyA = TransactionBody.parseFrom(bodyBytesA).toBuilder().clearNodeAccountID().build();
+        var bodyB = TransactionBody.parseFrom(bodyBytesB).toBuilder().clearNodeAccountID().build();
+
+        if (!bodyA.equals(bodyB)) {
+            requireProtoMatches(bodyA, bodyB, new HashSet<>(Arrays.asList("NodeAccountID")), "TransactionBody");
+
+            throw new IllegalArgumentException(
+                "fromBytes() failed because TransactionBody protobuf messages in the TransactionList did not match"
+            );
+        }
+    }
+
     private static void throwProtoMatchException(String fieldName, String aWas, String bWas) {
         throw new IllegalArgumentException(
             "fromBytes() failed because " + fieldName +
@@ -775,19 +979,83 @@ public abstract class Transaction<T extends Transaction<T>>
      * @return                          the byte array representation
      */
     public byte[] toBytes() {
+        var bytes = new byte[getSerializedSize()];
+        var output = CodedOutputStream.newInstance(bytes);
+
+        try {
+            writeTransactionList(output);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        output.checkNoSpaceLeft();
+
+        return bytes;
+    }
+
+    /**
+     * Extract the number of bytes that {@link #toBytes()} and the {@code writeTo} methods produce.
+     *
+     * @return                          the serialized size in bytes
+     */
+    public int getSerializedSize() {
         if (!this.isFrozen()) {
             throw new IllegalStateException("transaction must have been frozen before conversion to bytes will be stable, try calling `freeze`");
         }
 
         buildAllTransactions();
 
-        var list = TransactionList.newBuilder();
+        @Var int size = 0;
 
         for (var transaction : outerTransactions) {
-            list.addTransactionList(transaction);
+            size += CodedOutputStream.computeMessageSize(TransactionList.TRANSACTION_LIST_FIELD_NUMBER, transaction);
+        }
+
+        return size;
+    }
+
+    /**
+     * Write the same bytes as {@link #toBytes()} to a stream, without building them in an intermediate array.
+     * <p>
+     * The stream is flushed of the written bytes but is not closed.
+     *
+     * @param stream                    the stream to write to
+     * @throws IOException                          when the stream cannot be written
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        var output = CodedOutputStream.newInstance(stream, Math.min(getSerializedSize(), 4096));
+
+        writeTransactionList(output);
+        output.flush();
+    }
+
+    /**
+     * Write the same bytes as {@link #toBytes()} into a buffer, starting at its position.
+     * <p>
+     * The buffer's position is advanced past the written bytes.
+     *
+     * @param buffer                    the buffer to write to
+     * @throws BufferOverflowException              when fewer than {@link #getSerializedSize()} bytes remain
+     */
+    public void writeTo(ByteBuffer buffer) {
+        if (buffer.remaining() < getSerializedSize()) {
+            throw new BufferOverflowException();
+        }
+
+        var output = CodedOutputStream.newInstance(buffer);
+
+        try {
+            writeTransactionList(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
+    }
 
-        return list.build().toByteArray();
+    private void writeTransactionList(CodedOutputStream output) throws IOException {
+        for (var transaction : outerTransactions) {
+            output.writeMessage(TransactionList.TRANSACTION_LIST_FIELD_NUMBER, transaction);
+        }
     }
 
     /**
@@ -925,6 +1193,66 @@ public abstract class Transaction<T extends Transaction<T>>
         }
         publicKeys.add(publicKey);
         signers.add(transactionSigner);
+        asyncSigners.add(null);
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Sign the transaction with a signer which produces its signatures asynchronously, e.g. one backed by an HSM or
+     * a remote key management service.
+     * <p>
+     * Signatures from asynchronous signers are requested for every node at once, so no thread is blocked waiting for
+     * each of them in turn.
+     *
+     * @param publicKey                 the public key
+     * @param transactionSigner         the asynchronous signer
+     * @return {@code this}
+     */
+    public T signWithAsync(PublicKey publicKey, Function<byte[], CompletableFuture<byte[]>> transactionSigner) {
+        if (!isFrozen()) {
+            throw new IllegalStateException("Signing requires transaction to be frozen");
+        }
+
+        if (keyAlreadySigned(publicKey)) {
+            // noinspection unchecked
+            return (T) this;
+        }
+
+        for (int i = 0; i < outerTransactions.size(); i++) {
+            outerTransactions.set(i, null);
+        }
+        publicKeys.add(publicKey);
+        signers.add(null);
+        asyncSigners.add(transactionSigner);
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Extract the executor signatures are computed on.
+     *
+     * @return                          the signing executor, or null when signing serially
+     */
+    @Nullable
+    public final Executor getSigningExecutor() {
+        return signingExecutor;
+    }
+
+    /**
+     * Compute the signatures of this transaction in parallel on the given executor.
+     * <p>
+     * A frozen transaction has a separate body for every node (and every chunk), and each body is signed by every
+     * signer. By default these signatures are computed one after another on the calling thread; with a signing
+     * executor every (body, signer) pair is computed as its own task.
+     *
+     * @param signingExecutor           the executor, or null to sign serially
+     * @return {@code this}
+     */
+    public final T setSigningExecutor(@Nullable Executor signingExecutor) {
+        this.signingExecutor = signingExecutor;
 
         // noinspection unchecked
         return (T) this;
@@ -981,6 +1309,7 @@ public abstract class Transaction<T extends Transaction<T>>
         }
         publicKeys.add(publicKey);
         signers.add(null);
+        asyncSigners.add(null);
         sigPairLists.get(0).addSigPair(publicKey.toSignaturePairProtobuf(signature));
 
         // noinspection unchecked
@@ -1206,6 +1535,10 @@ public abstract class Transaction<T extends Transaction<T>>
         transactionIds.setLocked(true);
         nodeAccountIds.setLocked(true);
 
+        if (isSigningConcurrently()) {
+            awaitSignatures(signTransactionsAsync(0, innerSignedTransactions.size()));
+        }
+
         for (var i = 0; i < innerSignedTransactions.size(); ++i) {
             buildTransaction(i);
         }
@@ -1254,6 +1587,11 @@ public abstract class Transaction<T extends Transaction<T>>
      * @param index                     the index of the transaction to sign
      */
     void signTransaction(int index) {
+        if (isSigningConcurrently()) {
+            awaitSignatures(signTransactionsAsync(index, index + 1));
+            return;
+        }
+
         var bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
         var thisSigPairList = sigPairLists.get(index).getSigPairList();
 
@@ -1273,6 +1611,112 @@ public abstract class Transaction<T extends Transaction<T>>
         }
     }
 
+    /**
+     * Should signatures be computed concurrently rather than one after another?
+     *
+     * @return                          whether there is a signing executor or an asynchronous signer
+     */
+    private boolean isSigningConcurrently() {
+        return signingExecutor != null || hasAsyncSigners();
+    }
+
+    /**
+     * Has an asynchronous signer been added?
+     *
+     * @return                          whether there is an asynchronous signer
+     */
+    private boolean hasAsyncSigners() {
+        for (var asyncSigner : asyncSigners) {
+            if (asyncSigner != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sign the transactions in {@code [fromIndex, toIndex)} with every signer which has not signed them yet. Each
+     * (transaction, signer) pair is signed concurrently; the signatures are added in signer order once all of them
+     * are available, so the result is the same as signing serially.
+     *
+     * @param fromIndex                 the first transaction to sign
+     * @param toIndex                   one past the last transaction to sign
+     * @return                          future which completes once the signatures have been added
+     */
+    CompletableFuture<Void> signTransactionsAsync(int fromIndex, int toIndex) {
+        var signerCount = publicKeys.size();
+        var signatures = new ArrayList<CompletableFuture<byte[]>>((toIndex - fromIndex) * signerCount);
+        var pending = new ArrayList<CompletableFuture<byte[]>>();
+
+        for (var index = fromIndex; index < toIndex; index++) {
+            var bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
+            var thisSigPairList = sigPairLists.get(index).getSigPairList();
+
+            for (var i = 0; i < signerCount; i++) {
+                var signer = signers.get(i);
+                var asyncSigner = asyncSigners.get(i);
+
+                if ((signer == null && asyncSigner == null) ||
+                    publicKeyIsInSigPairList(ByteString.copyFrom(publicKeys.get(i).toBytesRaw()), thisSigPairList)) {
+                    signatures.add(null);
+                    continue;
+                }
+
+                var signature = asyncSigner != null ?
+                    asyncSigner.apply(bodyBytes) :
+                    signOn(Objects.requireNonNull(signer), bodyBytes);
+
+                signatures.add(signature);
+                pending.add(signature);
+            }
+        }
+
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            var iterator = signatures.iterator();
+
+            for (var index = fromIndex; index < toIndex; index++) {
+                for (var i = 0; i < signerCount; i++) {
+                    var signature = iterator.next();
+
+                    if (signature != null) {
+                        sigPairLists
+                            .get(index)
+                            .addSigPair(publicKeys.get(i).toSignaturePairProtobuf(signature.join()));
+                    }
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<byte[]> signOn(Function<byte[], byte[]> signer, byte[] bodyBytes) {
+        var executor = signingExecutor;
+
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(signer.apply(bodyBytes));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        return CompletableFuture.supplyAsync(() -> signer.apply(bodyBytes), executor);
+    }
+
+    private static void awaitSignatures(CompletableFuture<Void> signatures) {
+        try {
+            signatures.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw e;
+        }
+    }
+
     /**
      * Called in {@link #freezeWith(Client)} just before the transaction
      * body is built. The intent is for the derived class to assign
@@ -1294,6 +1738,11 @@ public abstract class Transaction<T extends Transaction<T>>
         return outerTransactions.get(index);
     }
 
+    @Override
+    RequestType getRequestType(com.hedera.hashgraph.sdk.proto.Transaction request) {
+        return frozenBodyBuilder != null ? RequestTypeHelper.fromDataCase(frozenBodyBuilder.getDataCase()) : RequestType.NONE;
+    }
+
     @Override
     TransactionResponse mapResponse(
         com.hedera.hashgraph.sdk.proto.TransactionResponse transactionResponse,
@@ -1345,6 +1794,12 @@ public abstract class Transaction<T extends Transaction<T>>
     @Override
     CompletableFuture<Void> onExecuteAsync(Client client) {
         onExecute(client);
+
+        if (hasAsyncSigners()) {
+            // Collect every signature up front so asynchronous signers never block the request
+            return signTransactionsAsync(0, innerSignedTransactions.size());
+        }
+
         return CompletableFuture.completedFuture(null);
     }
 
@@ -25,6 +25,7 @@ import org.bouncycastle.util.encoders.Hex;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -77,10 +78,26 @@ public final class TransactionResponse implements WithGetReceipt, WithGetRecord
      * @throws ReceiptStatusException       when there is an issue with the receipt
      */
     public TransactionReceipt getReceipt(Client client) throws TimeoutException, PrecheckStatusException, ReceiptStatusException {
-        var receipt = new TransactionReceiptQuery()
-                .setTransactionId(transactionId)
-                .setNodeAccountIds(Collections.singletonList(nodeId))
-                .execute(client);
+        TransactionReceipt receipt;
+
+        try {
+            receipt = getReceiptAsync(client).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof TimeoutException) {
+                throw (TimeoutException) cause;
+            } else if (cause instanceof PrecheckStatusException) {
+                throw (PrecheckStatusException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
 
         if (receipt.status != Status.SUCCESS) {
             throw new ReceiptStatusException(transactionId, receipt);
@@ -95,12 +112,16 @@ public final class TransactionResponse implements WithGetReceipt, WithGetRecord
             .setNodeAccountIds(Collections.singletonList(nodeId));
     }
 
+    /**
+     * Wait for the transaction receipt. The receipt is polled by the client's shared receipt poller, so waiting for
+     * many receipts at once does not run a separate retry loop for each of them.
+     *
+     * @param client                    the configured client
+     * @return                          future for the transaction receipt
+     */
     @Override
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client) {
-        return new TransactionReceiptQuery()
-            .setTransactionId(transactionId)
-            .setNodeAccountIds(Collections.singletonList(nodeId))
-            .executeAsync(client);
+        return client.receiptPoller.poll(transactionId, nodeId);
     }
 
     /**
@@ -0,0 +1,244 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Verifies that transactions are signed by a key, which may be a {@link KeyList} with a threshold.
+ * <p>
+ * Each transaction's signatures are read in a single pass, matching every signature pair against every public key
+ * of the key at once. Bodies and signatures are copied into buffers which are reused across signature pairs and
+ * transactions, so a verifier should be reused when checking many transactions; it is not thread safe.
+ * <p>
+ * A public key is satisfied when the transaction holds a signer for it, which signs every body on execution, or
+ * when every body of the transaction carries a valid signature from it. Signatures added with
+ * {@link Transaction#addSignature(PublicKey, byte[])} or read with {@link Transaction#fromBytes(byte[])} are
+ * checked.
+ */
+public final class TransactionSignatureVerifier {
+    private final HashMap<ByteString, Signer> signersByPrefix = new HashMap<>();
+    private final IdentityHashMap<PublicKey, Signer> signersByKey = new IdentityHashMap<>();
+
+    private byte[] body = new byte[1024];
+    private byte[] signature = new byte[64];
+
+    /**
+     * Constructor.
+     */
+    public TransactionSignatureVerifier() {
+    }
+
+    /**
+     * Is the transaction signed by the key.
+     *
+     * @param key                       the key, a {@link PublicKey} or a {@link KeyList}
+     * @param transaction               the transaction
+     * @return                          is the transaction signed by the key
+     */
+    public boolean verify(Key key, Transaction<?> transaction) {
+        prepare(key);
+        verifySigners(transaction);
+        return isSatisfied(key);
+    }
+
+    /**
+     * Check which of many transactions are signed by the key.
+     *
+     * @param key                       the key, a {@link PublicKey} or a {@link KeyList}
+     * @param transactions              the transactions
+     * @return                          whether each transaction is signed by the key, in the same order
+     */
+    public List<Boolean> verifyAll(Key key, List<? extends Transaction<?>> transactions) {
+        prepare(key);
+
+        var results = new ArrayList<Boolean>(transactions.size());
+
+        for (var transaction : transactions) {
+            verifySigners(transaction);
+            results.add(isSatisfied(key));
+        }
+
+        return results;
+    }
+
+    /**
+     * Index the public keys of the key by the prefix their signature pairs carry.
+     *
+     * @param key                       the key
+     */
+    private void prepare(Key key) {
+        signersByPrefix.clear();
+        signersByKey.clear();
+        addSigners(key);
+    }
+
+    private void addSigners(Key key) {
+        if (key instanceof PublicKey) {
+            var publicKey = (PublicKey) key;
+            var prefix = ByteString.copyFrom(publicKey.toBytesRaw());
+            @Var var signer = signersByPrefix.get(prefix);
+
+            if (signer == null) {
+                signer = new Signer(publicKey);
+                signersByPrefix.put(prefix, signer);
+            }
+
+            signersByKey.put(publicKey, signer);
+        } else if (key instanceof KeyList) {
+            for (var child : (KeyList) key) {
+                addSigners(child);
+            }
+        }
+    }
+
+    private void verifySigners(Transaction<?> transaction) {
+        if (!transaction.isFrozen()) {
+            transaction.freeze();
+        }
+
+        for (var signer : signersByPrefix.values()) {
+            signer.pending = false;
+            signer.failed = false;
+        }
+
+        // keys without a signer have already contributed their signatures to the signature maps
+        for (var i = 0; i < transaction.publicKeys.size(); i++) {
+            if (transaction.signers.get(i) == null && transaction.asyncSigners.get(i) == null) {
+                continue;
+            }
+
+            for (var signer : signersByPrefix.values()) {
+                if (signer.key.equals(transaction.publicKeys.get(i))) {
+                    signer.pending = true;
+                }
+            }
+        }
+
+        for (var index = 0; index < transaction.innerSignedTransactions.size(); index++) {
+            var signedTransaction = transaction.innerSignedTransactions.get(index);
+            @Var var bodyLength = -1;
+
+            for (var signer : signersByPrefix.values()) {
+                signer.found = false;
+            }
+
+            for (var sigPair : transaction.sigPairLists.get(index).getSigPairList()) {
+                var signer = signersByPrefix.get(sigPair.getPubKeyPrefix());
+
+                if (signer == null || signer.pending || signer.failed) {
+                    continue;
+                }
+
+                signer.found = true;
+
+                if (bodyLength < 0) {
+                    bodyLength = copyBody(signedTransaction.getBodyBytes());
+                }
+
+                var signatureBytes = signer.key.extractSignatureFromProtobuf(sigPair);
+                var signatureLength = copySignature(signatureBytes);
+
+                if (!signer.key.verify(body, bodyLength, signature, signatureLength)) {
+                    signer.failed = true;
+                }
+            }
+
+            for (var signer : signersByPrefix.values()) {
+                if (!signer.found && !signer.pending) {
+                    signer.failed = true;
+                }
+            }
+        }
+    }
+
+    private int copyBody(ByteString bodyBytes) {
+        if (body.length < bodyBytes.size()) {
+            body = new byte[Math.max(bodyBytes.size(), body.length * 2)];
+        }
+
+        bodyBytes.copyTo(body, 0);
+        return bodyBytes.size();
+    }
+
+    private int copySignature(ByteString signatureBytes) {
+        if (signature.length < signatureBytes.size()) {
+            signature = new byte[signatureBytes.size()];
+        }
+
+        signatureBytes.copyTo(signature, 0);
+        return signatureBytes.size();
+    }
+
+    private boolean isSatisfied(Key key) {
+        if (key instanceof PublicKey) {
+            var signer = signersByKey.get(key);
+            return signer != null && (signer.pending || !signer.failed);
+        } else if (key instanceof KeyList) {
+            var keyList = (KeyList) key;
+            var threshold = keyList.getThreshold();
+            var required = threshold != null ? threshold : keyList.size();
+            @Var var satisfied = 0;
+
+            for (var child : keyList) {
+                if (isSatisfied(child)) {
+                    satisfied++;
+                }
+            }
+
+            return !keyList.isEmpty() && satisfied >= required;
+        }
+
+        // keys such as contract IDs can't sign
+        return false;
+    }
+
+    /**
+     * The state of one public key while reading the signatures of a transaction.
+     */
+    private static final class Signer {
+        final PublicKey key;
+
+        /**
+         * The transaction will be signed by this key on execution.
+         */
+        boolean pending;
+
+        /**
+         * A body was missing a signature from this key, or carried an invalid one.
+         */
+        boolean failed;
+
+        /**
+         * The current body carries a signature from this key.
+         */
+        boolean found;
+
+        Signer(PublicKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.CryptoGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.ResponseType;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccountInfoFlowTest {
+    private static final byte[] MESSAGE = "hello".getBytes(StandardCharsets.UTF_8);
+
+    private final PrivateKey key1 = PrivateKey.generateED25519();
+    private final PrivateKey key2 = PrivateKey.generateED25519();
+    private final PrivateKey key3 = PrivateKey.generateECDSA();
+
+    @Test
+    void verifiesPublicKeys() {
+        assertThat(AccountInfoFlow.verify(key1.getPublicKey(), MESSAGE, List.of(key1.sign(MESSAGE)))).isTrue();
+        assertThat(AccountInfoFlow.verify(key1.getPublicKey(), MESSAGE, List.of(key2.sign(MESSAGE)))).isFalse();
+    }
+
+    @Test
+    void verifiesKeyListsWithEveryKey() {
+        var keyList = KeyList.of(key1.getPublicKey(), key2.getPublicKey());
+
+        assertThat(AccountInfoFlow.verify(keyList, MESSAGE, List.of(key1.sign(MESSAGE), key2.sign(MESSAGE)))).isTrue();
+        assertThat(AccountInfoFlow.verify(keyList, MESSAGE, List.of(key1.sign(MESSAGE)))).isFalse();
+        assertThat(AccountInfoFlow.verify(new KeyList(), MESSAGE, List.of(key1.sign(MESSAGE)))).isFalse();
+    }
+
+    @Test
+    void verifiesThresholdKeys() {
+        var keyList = KeyList.withThreshold(2);
+        keyList.add(key1.getPublicKey());
+        keyList.add(key2.getPublicKey());
+        keyList.add(key3.getPublicKey());
+
+        assertThat(AccountInfoFlow.verify(keyList, MESSAGE, List.of(key1.sign(MESSAGE), key3.sign(MESSAGE)))).isTrue();
+        assertThat(AccountInfoFlow.verify(keyList, MESSAGE, List.of(key2.sign(MESSAGE)))).isFalse();
+    }
+
+    @Test
+    void neverVerifiesContractKeys() {
+        assertThat(AccountInfoFlow.verify(new ContractId(5), MESSAGE, List.of(key1.sign(MESSAGE)))).isFalse();
+    }
+
+    @Test
+    void verifiesManySignaturesWithOneQuery() throws Exception {
+        var cost = Response.newBuilder()
+            .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setCost(5)))
+            .build();
+        var info = Response.newBuilder()
+            .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                .setAccountInfo(CryptoGetInfoResponse.AccountInfo.newBuilder()
+                    .setAccountID(AccountID.newBuilder().setAccountNum(5))
+                    .setKey(key1.getPublicKey().toProtobufKey())))
+            .build();
+
+        try (var mocker = Mocker.withResponses(List.of(List.of(cost, info)))) {
+            mocker.client.setAccountKeyCacheTtl(Duration.ofMinutes(1));
+
+            var accountId = new AccountId(5);
+            var valid = AccountInfoFlow.verifySignatures(mocker.client, List.of(
+                new AccountSignature(accountId, MESSAGE, key1.sign(MESSAGE)),
+                new AccountSignature(accountId, MESSAGE, key2.sign(MESSAGE)),
+                new AccountSignature(accountId, "other".getBytes(StandardCharsets.UTF_8), key1.sign(MESSAGE))
+            ));
+
+            assertThat(valid).containsExactly(true, false, false);
+
+            // the key is remembered, so no more responses are needed
+            assertThat(AccountInfoFlow.verifySignature(mocker.client, accountId, MESSAGE, key1.sign(MESSAGE))).isTrue();
+        }
+    }
+
+    @Test
+    void failedLookupsOnlyInvalidateTheirOwnSignatures() throws Exception {
+        // Account 6 has been deleted; the lookups run concurrently, so answer by account rather than by order
+        Function<Object, Object> answer = o -> {
+            var query = ((Query) o).getCryptoGetInfo();
+            var header = ResponseHeader.newBuilder();
+
+            if (query.getAccountID().getAccountNum() == 6) {
+                header.setNodeTransactionPrecheckCode(ResponseCodeEnum.ACCOUNT_DELETED);
+            } else if (query.getHeader().getResponseType() == ResponseType.COST_ANSWER) {
+                header.setCost(5);
+            }
+
+            var response = CryptoGetInfoResponse.newBuilder().setHeader(header);
+
+            if (query.getHeader().getResponseType() == ResponseType.ANSWER_ONLY) {
+                response.setAccountInfo(CryptoGetInfoResponse.AccountInfo.newBuilder()
+                    .setAccountID(query.getAccountID())
+                    .setKey(key1.getPublicKey().toProtobufKey()));
+            }
+
+            return Response.newBuilder().setCryptoGetInfo(response).build();
+        };
+
+        try (var mocker = Mocker.withResponses(List.of(List.of(answer, answer, answer)))) {
+            var valid = AccountInfoFlow.verifySignatures(mocker.client, List.of(
+                new AccountSignature(new AccountId(5), MESSAGE, key1.sign(MESSAGE)),
+                new AccountSignature(new AccountId(6), MESSAGE, key1.sign(MESSAGE)),
+                new AccountSignature(new AccountId(6), MESSAGE, key2.sign(MESSAGE))
+            ));
+
+            assertThat(valid).containsExactly(true, false, false);
+        }
+    }
+
+    @Test
+    void timedOutLookupsAreNotInvalidSignatures() throws Exception {
+        var deadlineExceeded = io.grpc.Status.DEADLINE_EXCEEDED.asRuntimeException();
+
+        try (var mocker = Mocker.withResponses(List.of(List.<Object>of(deadlineExceeded)))) {
+            assertThatThrownBy(() -> AccountInfoFlow.verifySignatures(mocker.client, List.of(
+                new AccountSignature(new AccountId(5), MESSAGE, key1.sign(MESSAGE))
+            ))).isInstanceOf(StatusRuntimeException.class);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountKeyCacheTest {
+    private static final AccountId ACCOUNT_ID = new AccountId(5);
+    private static final Key KEY = PrivateKey.generateED25519().getPublicKey();
+
+    @Test
+    void sharesOneQueryBetweenLookups() {
+        var cache = new AccountKeyCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        var queries = new AtomicInteger();
+        var pending = new CompletableFuture<Key>();
+
+        var first = cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return pending;
+        });
+        var second = cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        pending.complete(KEY);
+
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo(KEY);
+        assertThat(second.join()).isEqualTo(KEY);
+    }
+
+    @Test
+    void queriesAgainOnceExpired() throws InterruptedException {
+        var cache = new AccountKeyCache();
+        cache.setTtl(Duration.ofMillis(50));
+
+        var queries = new AtomicInteger();
+
+        cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        Thread.sleep(100);
+
+        cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void queriesAgainAfterFailureOrInvalidation() {
+        var cache = new AccountKeyCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        var queries = new AtomicInteger();
+
+        cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException());
+        });
+        cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        cache.invalidate(ACCOUNT_ID);
+
+        cache.get(ACCOUNT_ID, () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        assertThat(queries.get()).isEqualTo(3);
+    }
+
+    @Test
+    void dropsTheLeastRecentlyUsedAccount() {
+        var cache = new AccountKeyCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        var queries = new AtomicInteger();
+
+        for (var i = 0; i <= AccountKeyCache.MAX_ENTRIES; i++) {
+            cache.get(new AccountId(i), () -> {
+                queries.incrementAndGet();
+                return CompletableFuture.completedFuture(KEY);
+            });
+        }
+
+        // account 0 was the least recently used
+        cache.get(new AccountId(0), () -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(KEY);
+        });
+
+        assertThat(queries.get()).isEqualTo(AccountKeyCache.MAX_ENTRIES + 2);
+    }
+}
@@ -0,0 +1,106 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkTransactionSubmitterTest {
+    @Test
+    @Timeout(10)
+    void submitsEveryTransactionAcrossNodes() throws Exception {
+        var received = new AtomicInteger();
+        Function<Object, Object> respond = request -> {
+            received.incrementAndGet();
+            return TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(0).build();
+        };
+
+        var responses = List.of(
+            Collections.<Object>nCopies(10, respond),
+            Collections.<Object>nCopies(10, respond)
+        );
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var submitter = mocker.client.createBulkTransactionSubmitter(1);
+            var transactions = new ArrayList<TransferTransaction>();
+
+            for (var i = 0; i < 8; i++) {
+                transactions.add(new TransferTransaction()
+                    .addHbarTransfer(new AccountId(1800), Hbar.fromTinybars(-i - 1))
+                    .addHbarTransfer(new AccountId(1801), Hbar.fromTinybars(i + 1)));
+            }
+
+            var futures = submitter.submitAll(transactions);
+
+            for (var i = 0; i < futures.size(); i++) {
+                var response = futures.get(i).get();
+                assertThat(response.transactionId).isEqualTo(transactions.get(i).getTransactionId());
+            }
+
+            assertThat(received.get()).isEqualTo(8);
+            assertThat(submitter.getQueued()).isEqualTo(0);
+            assertThat(submitter.getInFlightPerNode().values()).containsOnly(0);
+            assertThat(submitter.getCompletedPerNode().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(8);
+            assertThat(submitter.getThroughputPerNode().keySet()).isEqualTo(submitter.getCompletedPerNode().keySet());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void failsTransactionsWhoseNodesAreNotInTheNetwork() throws Exception {
+        var responses = List.of(List.<Object>of(
+            TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(0).build()
+        ));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var submitter = mocker.client.createBulkTransactionSubmitter(1);
+            var removed = new TransferTransaction()
+                .setNodeAccountIds(Collections.singletonList(new AccountId(99)))
+                .addHbarTransfer(new AccountId(1800), Hbar.fromTinybars(-1))
+                .addHbarTransfer(new AccountId(1801), Hbar.fromTinybars(1));
+            var routable = new TransferTransaction()
+                .addHbarTransfer(new AccountId(1800), Hbar.fromTinybars(-1))
+                .addHbarTransfer(new AccountId(1801), Hbar.fromTinybars(1));
+
+            var failed = submitter.submit(removed);
+
+            assertThatThrownBy(failed::get).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(submitter.submit(routable).get().transactionId).isEqualTo(routable.getTransactionId());
+            assertThat(submitter.getQueued()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void maxInFlightPerNodeMustBePositive() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            assertThatThrownBy(() -> mocker.client.createBulkTransactionSubmitter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientMetricsTest {
+    private static Response balanceResponse(ResponseCodeEnum status) {
+        return Response.newBuilder()
+            .setCryptogetAccountBalance(
+                CryptoGetAccountBalanceResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(status).build())
+                    .setAccountID(AccountID.newBuilder().setAccountNum(10).build())
+                    .setBalance(100)
+                    .build()
+            ).build();
+    }
+
+    @Test
+    void reportsAttemptsAndRequests() throws Exception {
+        var metrics = new RecordingMetrics();
+        List<Object> responses = List.of(
+            balanceResponse(ResponseCodeEnum.BUSY),
+            balanceResponse(ResponseCodeEnum.OK)
+        );
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            mocker.client.setMetrics(metrics);
+
+            new AccountBalanceQuery().setAccountId(new AccountId(10)).execute(mocker.client);
+        }
+
+        assertThat(metrics.started).containsExactly(AccountBalanceQuery.class);
+        assertThat(metrics.completed).containsExactly(AccountBalanceQuery.class);
+        assertThat(metrics.completedErrors).containsExactly("none");
+        assertThat(metrics.attemptStatuses).containsExactly(Status.BUSY, Status.OK);
+    }
+
+    @Test
+    void reportsFailedRequests() throws Exception {
+        var metrics = new RecordingMetrics();
+        List<Object> responses = List.of(balanceResponse(ResponseCodeEnum.INVALID_ACCOUNT_ID));
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            mocker.client.setMetrics(metrics);
+
+            try {
+                new AccountBalanceQuery().setAccountId(new AccountId(10)).execute(mocker.client);
+            } catch (PrecheckStatusException | TimeoutException ignored) {
+                // expected
+            }
+        }
+
+        assertThat(metrics.completedErrors).containsExactly(PrecheckStatusException.class.getSimpleName());
+        assertThat(metrics.attemptStatuses).containsExactly(Status.INVALID_ACCOUNT_ID);
+    }
+
+    @Test
+    void defaultsToNoop() throws TimeoutException {
+        try (var client = Client.forNetwork(Collections.emptyMap())) {
+            assertThat(client.getMetrics()).isSameAs(ClientMetrics.NOOP);
+        }
+    }
+
+    private static final class RecordingMetrics implements ClientMetrics {
+        final List<Class<?>> started = new CopyOnWriteArrayList<>();
+        final List<Class<?>> completed = new CopyOnWriteArrayList<>();
+        final List<String> completedErrors = new CopyOnWriteArrayList<>();
+        final List<Status> attemptStatuses = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRequestStarted(Class<?> requestType) {
+            started.add(requestType);
+        }
+
+        @Override
+        public void onRequestCompleted(Class<?> requestType, long latencyNanos, @Nullable Throwable error) {
+            completed.add(requestType);
+            completedErrors.add(error == null ? "none" : error.getClass().getSimpleName());
+        }
+
+        @Override
+        public void onAttemptCompleted(Class<?> requestType, AccountId nodeAccountId, int attempt, long latencyNanos, Status status) {
+            attemptStatuses.add(status);
+        }
+    }
+}
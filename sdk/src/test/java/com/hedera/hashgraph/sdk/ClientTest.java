@@ -36,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +49,24 @@ class ClientTest {
         Client.forMainnet().close();
     }
 
+    @Test
+    @DisplayName("Client uses a caller-supplied executor and leaves it running")
+    void forNetworkWithExecutor() throws TimeoutException {
+        var executor = Executors.newCachedThreadPool();
+
+        try {
+            var client = Client.forNetwork(Map.of("127.0.0.1:50211", new AccountId(3)), executor);
+
+            assertThat(client.executor).isSameAs(executor);
+
+            client.close();
+
+            assertThat(executor.isShutdown()).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 
     @Test
     @DisplayName("Client.setMaxQueryPayment() negative")
@@ -107,6 +126,16 @@ class ClientTest {
         Client.forNetwork(Map.of()).setMinBackoff(Duration.ofMillis(minBackoff)).close();
     }
 
+    @Test
+    @DisplayName("Client.setConcurrencyLimitEnabled() turns the limit on")
+    void setConcurrencyLimitEnabled() throws TimeoutException {
+        var client = Client.forTestnet();
+        assertThat(client.isConcurrencyLimitEnabled()).isFalse();
+        client.setConcurrencyLimitEnabled(true);
+        assertThat(client.isConcurrencyLimitEnabled()).isTrue();
+        client.close();
+    }
+
     @Test
     @DisplayName("Client.setMaxTransactionFee() negative")
     void setMaxTransactionFeeNegative() throws TimeoutException {
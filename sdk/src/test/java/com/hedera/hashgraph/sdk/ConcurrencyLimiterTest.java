@@ -0,0 +1,173 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrencyLimiterTest {
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final String METHOD = "proto.CryptoService/cryptoTransfer";
+
+    @Test
+    void queuesRequestsOverTheLimit() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            assertThat(limiter.acquire().isDone()).isTrue();
+        }
+
+        var queued = limiter.acquire();
+
+        assertThat(queued.isDone()).isFalse();
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        limiter.onIgnored();
+
+        assertThat(queued.isDone()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void cancelledWaitersGiveUpTheirPlace() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            limiter.acquire();
+        }
+
+        var cancelled = limiter.acquire();
+        var waiting = limiter.acquire();
+
+        cancelled.cancel(false);
+
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        limiter.onIgnored();
+
+        assertThat(waiting.isDone()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    void busyResponsesShrinkTheLimit() {
+        var limiter = new ConcurrencyLimiter();
+
+        limiter.acquire();
+        limiter.onDropped(0);
+
+        assertThat(limiter.getLimit()).isEqualTo((int) (ConcurrencyLimiter.INITIAL_LIMIT * ConcurrencyLimiter.BACKOFF_RATIO));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.onDropped(0);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(ConcurrencyLimiter.MIN_LIMIT);
+    }
+
+    @Test
+    void quickResponsesGrowTheLimitWhileItIsUsed() {
+        var limiter = new ConcurrencyLimiter();
+
+        // Keep the limit saturated so it is allowed to grow
+        for (int round = 0; round < 50; round++) {
+            var limit = limiter.getLimit();
+
+            for (int i = 0; i < limit; i++) {
+                limiter.acquire();
+            }
+
+            for (int i = 0; i < limit; i++) {
+                limiter.onSuccess(METHOD, LATENCY);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(ConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    void idleLimitDoesNotGrow() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire();
+            limiter.onSuccess(METHOD, LATENCY);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    void slowResponsesShrinkTheLimit() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.onSuccess(METHOD, LATENCY);
+        }
+
+        limiter.acquire();
+        limiter.onSuccess(METHOD, LATENCY * 10);
+
+        assertThat(limiter.getLimit()).isLessThan(ConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    void burstOfSlowResponsesShrinksTheLimitOnce() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.onSuccess(METHOD, LATENCY);
+        }
+
+        // Every request was in flight together, e.g. during a GC pause on the node
+        for (int i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            limiter.acquire();
+        }
+
+        for (int i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            limiter.onSuccess(METHOD, LATENCY * 10);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo((int) (ConcurrencyLimiter.INITIAL_LIMIT * ConcurrencyLimiter.BACKOFF_RATIO));
+    }
+
+    @Test
+    void slowMethodsDoNotLookLikeCongestion() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire();
+            limiter.onSuccess(METHOD, LATENCY);
+        }
+
+        // A different method is compared against its own latency, not the transfers'
+        limiter.acquire();
+        limiter.onSuccess("proto.SmartContractService/contractCallMethod", LATENCY * 10);
+
+        assertThat(limiter.getLimit()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+    }
+}
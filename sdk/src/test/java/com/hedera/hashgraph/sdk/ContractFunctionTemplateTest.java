@@ -0,0 +1,168 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ContractFunctionTemplateTest {
+    private static final String ADDRESS = "1122334455667788990011223344556677889900";
+
+    @Test
+    @DisplayName("encodes value types like ContractFunctionParameters")
+    void valueTypes() {
+        var template = new ContractFunctionTemplate(
+            "foo", "uint8", "int8", "uint32", "int32", "uint64", "int64", "uint256", "int256", "int", "bool", "address", "bytes32");
+
+        var encoded = template.encode(
+            (byte) 0x1, (byte) -0x2, 0x3, -0x4, -1L, -0x5L, BigInteger.valueOf(0x6), BigInteger.valueOf(-0x7), -8L, true,
+            ADDRESS, new byte[]{1, 2, 3});
+
+        var expected = new ContractFunctionParameters()
+            .addUint8((byte) 0x1)
+            .addInt8((byte) -0x2)
+            .addUint32(0x3)
+            .addInt32(-0x4)
+            .addUint64(-1L)
+            .addInt64(-0x5)
+            .addUint256(BigInteger.valueOf(0x6))
+            .addInt256(BigInteger.valueOf(-0x7))
+            .addInt256(BigInteger.valueOf(-8))
+            .addBool(true)
+            .addAddress(ADDRESS)
+            .addBytes32(new byte[]{1, 2, 3})
+            .toBytes("foo")
+            .toByteArray();
+
+        assertThat(template.getSignature())
+            .isEqualTo("foo(uint8,int8,uint32,int32,uint64,int64,uint256,int256,int256,bool,address,bytes32)");
+        assertThat(Hex.toHexString(encoded)).isEqualTo(Hex.toHexString(expected));
+    }
+
+    @Test
+    @DisplayName("encodes dynamic types like ContractFunctionParameters")
+    void dynamicTypes() {
+        var template = new ContractFunctionTemplate(
+            "bar", "string", "uint32", "bytes", "string[]", "int64[]", "bytes[]", "address[]", "uint256[]", "bytes32[]");
+
+        var encoded = template.encode(
+            "Hello, world!",
+            7,
+            new byte[40],
+            List.of("one", "", "three"),
+            new long[]{-1, 2, 3},
+            new byte[][]{new byte[]{1}, new byte[33]},
+            new String[]{ADDRESS, "0x" + ADDRESS},
+            List.of(BigInteger.ONE, BigInteger.TEN),
+            new byte[][]{new byte[]{4, 5}});
+
+        var expected = new ContractFunctionParameters()
+            .addString("Hello, world!")
+            .addUint32(7)
+            .addBytes(new byte[40])
+            .addStringArray(new String[]{"one", "", "three"})
+            .addInt64Array(new long[]{-1, 2, 3})
+            .addBytesArray(new byte[][]{new byte[]{1}, new byte[33]})
+            .addAddressArray(new String[]{ADDRESS, "0x" + ADDRESS})
+            .addUint256Array(new BigInteger[]{BigInteger.ONE, BigInteger.TEN})
+            .addBytes32Array(new byte[][]{new byte[]{4, 5}})
+            .toBytes("bar")
+            .toByteArray();
+
+        assertThat(Hex.toHexString(encoded)).isEqualTo(Hex.toHexString(expected));
+    }
+
+    @Test
+    @DisplayName("encodes a function with no parameters as its selector")
+    void noParameters() {
+        var template = new ContractFunctionTemplate("getMessage");
+
+        assertThat(Hex.toHexString(template.encode())).isEqualTo("ce6d41de");
+        assertThat(template.getSelector()).isEqualTo(new ContractFunctionSelector("getMessage").finish());
+    }
+
+    @Test
+    @DisplayName("can be used from ContractCallQuery and ContractExecuteTransaction")
+    void setFunction() {
+        var template = new ContractFunctionTemplate("setMessage", "string");
+        var expected = new ContractFunctionParameters().addString("hi").toBytes("setMessage");
+
+        assertThat(new ContractCallQuery().setFunction(template, "hi").getFunctionParameters()).isEqualTo(expected);
+        assertThat(new ContractExecuteTransaction().setFunction(template, "hi").getFunctionParameters()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("rejects unsupported types and mismatched values")
+    void errors() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ContractFunctionTemplate("foo", "uint7"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ContractFunctionTemplate("foo", "bytes33"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ContractFunctionTemplate("foo", "string[][]"));
+
+        var template = new ContractFunctionTemplate("foo", "uint64", "bytes4");
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> template.encode(1L));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> template.encode("1", new byte[4]));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> template.encode(1L, new byte[5]));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new ContractFunctionTemplate("foo", "uint256").encode(BigInteger.valueOf(-1)));
+    }
+
+    @Test
+    @DisplayName("rejects integers which do not fit their type")
+    void outOfRange() {
+        var uint8 = new ContractFunctionTemplate("foo", "uint8");
+        var int8 = new ContractFunctionTemplate("foo", "int8");
+        var uint32 = new ContractFunctionTemplate("foo", "uint32");
+        var int64 = new ContractFunctionTemplate("foo", "int64");
+        var uint64 = new ContractFunctionTemplate("foo", "uint64");
+        var uint256 = new ContractFunctionTemplate("foo", "uint256");
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> uint8.encode(300));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> uint8.encode(-1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> int8.encode(128));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> int8.encode(-129L));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> uint32.encode(-1L));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> uint32.encode(1L << 32));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> uint64.encode(-1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> int64.encode(BigInteger.ONE.shiftLeft(63)));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> uint64.encode(BigInteger.ONE.shiftLeft(64)));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> uint256.encode(-1L));
+
+        // the limits themselves fit, and a Java integer as wide as an unsigned type is read as unsigned
+        assertThat(uint8.encode(255)).isEqualTo(uint8.encode((byte) -1));
+        assertThat(int8.encode(-128)).isEqualTo(int8.encode((byte) -128));
+        assertThat(uint32.encode(0xFFFF_FFFFL)).isEqualTo(uint32.encode(-1));
+        assertThat(uint64.encode(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE))).isEqualTo(uint64.encode(-1L));
+        assertThat(uint256.encode(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE))).hasSize(4 + 32);
+    }
+}
@@ -140,4 +140,21 @@ public class ECDSAPublicKeyTest {
 
         assertThat(key.isED25519()).isFalse();
     }
+
+    @Test
+    @DisplayName("public key verifies repeatedly and rejects malformed signatures")
+    void verifyReusesKeyState() {
+        var privateKey = PrivateKey.generateECDSA();
+        var publicKey = privateKey.getPublicKey();
+        byte[] message = {1, 2, 3};
+        byte[] signature = privateKey.sign(message);
+
+        for (var i = 0; i < 3; i++) {
+            assertThat(publicKey.verify(message, signature)).isTrue();
+        }
+
+        assertThat(privateKey.sign(message)).containsExactly(signature);
+        assertThat(publicKey.verify(new byte[]{1, 2, 4}, signature)).isFalse();
+        assertThat(publicKey.verify(message, new byte[63])).isFalse();
+    }
 }
@@ -23,6 +23,10 @@ import com.hedera.hashgraph.sdk.proto.QueryHeader;
 import com.hedera.hashgraph.sdk.proto.Response;
 import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
 import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
 import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
 import java8.util.concurrent.CompletableFuture;
@@ -40,6 +44,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,6 +62,9 @@ class ExecutableTest {
         network = mock(Network.class);
         client.network = network;
 
+        when(network.getMetrics()).thenReturn(ClientMetrics.NOOP);
+        when(network.getLatencyWindow(anyString())).thenReturn(new LatencyWindow());
+
         node3 = mock(Node.class);
         node4 = mock(Node.class);
         node5 = mock(Node.class);
@@ -64,6 +72,9 @@ class ExecutableTest {
         when(node3.getAccountId()).thenReturn(new AccountId(3));
         when(node4.getAccountId()).thenReturn(new AccountId(4));
         when(node5.getAccountId()).thenReturn(new AccountId(5));
+        when(node3.getConcurrencyLimiter()).thenReturn(new ConcurrencyLimiter());
+        when(node4.getConcurrencyLimiter()).thenReturn(new ConcurrencyLimiter());
+        when(node5.getConcurrencyLimiter()).thenReturn(new ConcurrencyLimiter());
         when(network.getNode(new AccountId(3))).thenReturn(node3);
         when(network.getNode(new AccountId(4))).thenReturn(node4);
         when(network.getNode(new AccountId(5))).thenReturn(node5);
@@ -336,6 +347,65 @@ class ExecutableTest {
         assertThat(resp.nodeId).isEqualTo(new AccountId(3));
     }
 
+    @Test
+    void delayStopsAtTheRequestTimeout() {
+        when(node3.isHealthy()).thenReturn(false);
+        when(node4.isHealthy()).thenReturn(false);
+        when(node5.isHealthy()).thenReturn(false);
+
+        when(node3.getRemainingTimeForBackoff()).thenReturn(10000L);
+        when(node4.getRemainingTimeForBackoff()).thenReturn(10000L);
+        when(node5.getRemainingTimeForBackoff()).thenReturn(10000L);
+
+        when(node3.channelFailedToConnect()).thenReturn(false);
+        when(node4.channelFailedToConnect()).thenReturn(false);
+        when(node5.channelFailedToConnect()).thenReturn(false);
+
+        var tx = new DummyTransaction() {
+            @Override
+            Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.TransactionResponse response) {
+                return Status.BUSY;
+            }
+        };
+        tx.setNodeAccountIds(nodeAccountIds);
+        tx.setMaxAttempts(1000);
+
+        var txResp = com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+            .setNodeTransactionPrecheckCode(ResponseCodeEnum.BUSY)
+            .build();
+        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+
+        var start = System.nanoTime();
+
+        // The node backs off for 10 s, but the wait ends when the request times out
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> tx.execute(client, Duration.ofMillis(200)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+    }
+
+    @Test
+    void channelReadinessIsSeenWhenTheStateChanges() {
+        var node = new Node(new AccountId(3), "in-process:test", client.executor);
+        var channel = new FakeChannel();
+        node.channel = channel;
+
+        var failed = node.channelFailedToConnectAsync();
+
+        assertThat(failed.isDone()).isFalse();
+
+        channel.setState(ConnectivityState.TRANSIENT_FAILURE);
+        channel.setState(ConnectivityState.CONNECTING);
+
+        assertThat(failed.isDone()).isFalse();
+
+        channel.setState(ConnectivityState.READY);
+
+        // Completed by the state change callback itself, not by a later poll of the channel state
+        assertThat(failed.isDone()).isTrue();
+        assertThat(failed.join()).isFalse();
+        assertThat(channel.stateReads.get()).isEqualTo(4);
+        assertThat(node.channelFailedToConnect()).isFalse();
+    }
+
     @Test
     void executeExhaustRetries() {
         AtomicInteger i = new AtomicInteger();
@@ -479,6 +549,77 @@ class ExecutableTest {
         assertThat(tx.shouldRetry(Status.ACCOUNT_DELETED, null)).isEqualTo(ExecutionState.RequestError);
     }
 
+    /**
+     * A channel whose state only changes when the test says so.
+     */
+    static class FakeChannel extends ManagedChannel {
+        final AtomicInteger stateReads = new AtomicInteger();
+        private volatile ConnectivityState state = ConnectivityState.IDLE;
+
+        @Nullable
+        private volatile Runnable onStateChanged;
+
+        void setState(ConnectivityState state) {
+            this.state = state;
+
+            var callback = onStateChanged;
+            onStateChanged = null;
+
+            if (callback != null) {
+                callback.run();
+            }
+        }
+
+        @Override
+        public ConnectivityState getState(boolean requestConnection) {
+            stateReads.incrementAndGet();
+            return state;
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+            onStateChanged = callback;
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return this;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        @Override
+        public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> methodDescriptor,
+            CallOptions callOptions
+        ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String authority() {
+            return "fake";
+        }
+    }
+
     static class DummyTransaction<T extends Transaction<T>>
         extends Executable<T, com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse, com.hedera.hashgraph.sdk.TransactionResponse> {
 
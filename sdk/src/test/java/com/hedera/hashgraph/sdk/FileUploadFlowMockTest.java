@@ -0,0 +1,153 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsResponse;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class FileUploadFlowMockTest {
+    static final byte[] CONTENTS = new byte[1500];
+
+    static {
+        for (var i = 0; i < CONTENTS.length; i++) {
+            CONTENTS[i] = (byte) i;
+        }
+    }
+
+    private static Function<Object, Object> expectTransaction(TransactionBody.DataCase dataCase, ByteString contents) {
+        return o -> {
+            var signedTransaction = SignedTransaction.parseFrom(((Transaction) o).getSignedTransactionBytes());
+            var transactionBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+            assertThat(transactionBody.getDataCase()).isEqualByComparingTo(dataCase);
+
+            if (dataCase == TransactionBody.DataCase.FILECREATE) {
+                assertThat(transactionBody.getFileCreate().getContents()).isEqualTo(contents);
+            } else {
+                assertThat(transactionBody.getFileAppend().getFileID().getFileNum()).isEqualTo(1);
+                assertThat(transactionBody.getFileAppend().getContents()).isEqualTo(contents);
+            }
+
+            return TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(0).build();
+        };
+    }
+
+    private static Response receipt() {
+        return Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setReceipt(TransactionReceipt.newBuilder()
+                    .setStatusValue(ResponseCodeEnum.SUCCESS_VALUE)
+                    .setFileID(FileID.newBuilder().setFileNum(1))))
+            .build();
+    }
+
+    private static Response fileContents(ByteString contents) {
+        return Response.newBuilder()
+            .setFileGetContents(FileGetContentsResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setCost(0))
+                .setFileContents(FileGetContentsResponse.FileContents.newBuilder()
+                    .setFileID(FileID.newBuilder().setFileNum(1))
+                    .setContents(contents)))
+            .build();
+    }
+
+    private static List<List<Object>> uploadResponses(ByteString storedContents) {
+        var contents = ByteString.copyFrom(CONTENTS);
+
+        return List.of(List.of(
+            expectTransaction(TransactionBody.DataCase.FILECREATE, contents.substring(0, 1024)),
+            receipt(),
+            expectTransaction(TransactionBody.DataCase.FILEAPPEND, contents.substring(1024)),
+            receipt(),
+            fileContents(ByteString.EMPTY),
+            fileContents(storedContents)
+        ));
+    }
+
+    @Test
+    void uploadsStreamInChunks() throws Exception {
+        try (var mocker = Mocker.withResponses(uploadResponses(ByteString.copyFrom(CONTENTS)))) {
+            var fileId = new FileUploadFlow()
+                .setContents(new ByteArrayInputStream(CONTENTS))
+                .setChunkSize(1024)
+                .execute(mocker.client);
+
+            assertThat(fileId).isEqualTo(new FileId(1));
+        }
+    }
+
+    @Test
+    void uploadsFileInChunksAsync(@TempDir Path dir) throws Exception {
+        var file = Files.write(dir.resolve("contents.bin"), CONTENTS).toFile();
+
+        try (var mocker = Mocker.withResponses(uploadResponses(ByteString.copyFrom(CONTENTS)))) {
+            var fileId = new FileUploadFlow()
+                .setContents(file)
+                .setChunkSize(1024)
+                .executeAsync(mocker.client)
+                .get();
+
+            assertThat(fileId).isEqualTo(new FileId(1));
+        }
+    }
+
+    @Test
+    void failsWhenContentsDoNotMatch() throws Exception {
+        var corrupted = CONTENTS.clone();
+        corrupted[1400] ^= 1;
+
+        try (var mocker = Mocker.withResponses(uploadResponses(ByteString.copyFrom(corrupted)))) {
+            var flow = new FileUploadFlow()
+                .setContents(new ByteArrayInputStream(CONTENTS))
+                .setChunkSize(1024);
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> flow.execute(mocker.client))
+                .withMessageContaining("do not match");
+        }
+    }
+
+    @Test
+    void requiresContents() throws Exception {
+        try (var client = Client.forTestnet()) {
+            assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> new FileUploadFlow().execute(client));
+        }
+    }
+}
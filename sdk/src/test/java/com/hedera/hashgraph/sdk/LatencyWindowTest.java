@@ -0,0 +1,65 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyWindowTest {
+    @Test
+    void reportsNothingWithoutEnoughSamples() {
+        var window = new LatencyWindow();
+
+        for (int i = 1; i < LatencyWindow.MIN_SAMPLES; i++) {
+            window.record(i);
+        }
+
+        assertThat(window.getPercentileNanos(50)).isEqualTo(-1);
+    }
+
+    @Test
+    void reportsPercentiles() {
+        var window = new LatencyWindow();
+
+        for (int i = 100; i >= 1; i--) {
+            window.record(i);
+        }
+
+        assertThat(window.getPercentileNanos(50)).isEqualTo(50);
+        assertThat(window.getPercentileNanos(95)).isEqualTo(95);
+        assertThat(window.getPercentileNanos(100)).isEqualTo(100);
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentSamples() {
+        var window = new LatencyWindow();
+
+        for (int i = 0; i < LatencyWindow.SIZE; i++) {
+            window.record(1_000);
+        }
+
+        for (int i = 0; i < LatencyWindow.SIZE; i++) {
+            window.record(10);
+        }
+
+        assertThat(window.getPercentileNanos(100)).isEqualTo(10);
+    }
+}
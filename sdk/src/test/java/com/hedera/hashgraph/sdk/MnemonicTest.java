@@ -24,7 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -321,4 +323,44 @@ public class MnemonicTest {
         PrivateKey key = mnemonic.toPrivateKey();
         assertThat(key.toString()).isEqualTo(MNEMONIC_PRIVATE_KEY);
     }
+
+    @Test
+    @DisplayName("Legacy and BIP-39 mnemonics can be used alternately")
+    void alternateWordLists() throws Exception {
+        for (var i = 0; i < 3; i++) {
+            assertThat(Mnemonic.fromString(MNEMONIC_LEGACY_STRING).toLegacyPrivateKey().legacyDerive(0).toString()).isEqualTo(
+                "302e020100300506032b657004220420fae0002d2716ea3a60c9cd05ee3c4bb88723b196341b68a02d20975f9d049dc6"
+            );
+            assertThat(Mnemonic.fromString(MNEMONIC_STRING).toPrivateKey().toString()).isEqualTo(MNEMONIC_PRIVATE_KEY);
+        }
+    }
+
+    @Test
+    @DisplayName("Mnemonic.toPrivateKeys() recovers the same keys as toPrivateKey()")
+    void toPrivateKeys() throws Exception {
+        var mnemonics = new ArrayList<Mnemonic>();
+        for (var i = 0; i < 8; i++) {
+            mnemonics.add(i == 3 ? Mnemonic.fromString(MNEMONIC_STRING) : Mnemonic.generate24());
+        }
+
+        var keys = Mnemonic.toPrivateKeys(mnemonics, "");
+
+        assertThat(keys).hasSize(mnemonics.size());
+        for (var i = 0; i < mnemonics.size(); i++) {
+            assertThat(keys.get(i).toString()).isEqualTo(mnemonics.get(i).toPrivateKey().toString());
+        }
+        assertThat(keys.get(3).toString()).isEqualTo(MNEMONIC_PRIVATE_KEY);
+    }
+
+    @Test
+    @DisplayName("Mnemonic.toPrivateKeys() throws when a mnemonic can't be recovered")
+    void toPrivateKeysBadMnemonic() throws Exception {
+        var mnemonics = List.of(
+            Mnemonic.fromString(MNEMONIC_STRING),
+            Mnemonic.fromString(MNEMONIC_LEGACY_STRING.replaceFirst("jolly", "kidnap"))
+        );
+
+        assertThatExceptionOfType(BadMnemonicException.class)
+            .isThrownBy(() -> Mnemonic.toPrivateKeys(mnemonics, "", Runnable::run));
+    }
 }
@@ -31,6 +31,7 @@ import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.SmartContractServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
 import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
@@ -46,10 +47,14 @@ import org.threeten.bp.Duration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MockingTest {
     @Test
@@ -480,6 +485,120 @@ public class MockingTest {
         Assertions.assertEquals(2, service.buffer.queryRequestsReceived.size());
     }
 
+    @ParameterizedTest(name = "[{0}] executeAll with an in-flight window submits chunks in order")
+    @CsvSource({
+        "sync",
+        "async"
+    })
+    void executeAllWithInFlightWindowSubmitsChunksInOrder(String sync) throws Exception {
+        var submitted = new CopyOnWriteArrayList<ByteString>();
+
+        Function<Object, Object> respond = request -> {
+            if (request instanceof Transaction) {
+                var signedTransaction = SignedTransaction.parseFrom(((Transaction) request).getSignedTransactionBytes());
+                submitted.add(TransactionBody.parseFrom(signedTransaction.getBodyBytes()).getFileAppend().getContents());
+                return TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(0).build();
+            }
+
+            return Response.newBuilder()
+                .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                    .setReceipt(TransactionReceipt.newBuilder().setStatusValue(ResponseCodeEnum.SUCCESS_VALUE))
+                ).build();
+        };
+
+        var responses = List.of(Collections.<Object>nCopies(8, respond));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transaction = new FileAppendTransaction()
+                .setFileId(FileId.fromString("0.0.1000"))
+                .setContents("aaaabbbbccccdddd")
+                .setChunkSize(4)
+                .setMaxInFlightChunks(3);
+
+            var transactionResponses = sync.equals("sync")
+                ? transaction.executeAll(mocker.client)
+                : transaction.executeAllAsync(mocker.client).get();
+
+            Assertions.assertEquals(4, transactionResponses.size());
+        }
+
+        Assertions.assertEquals(List.of(
+            ByteString.copyFromUtf8("aaaa"),
+            ByteString.copyFromUtf8("bbbb"),
+            ByteString.copyFromUtf8("cccc"),
+            ByteString.copyFromUtf8("dddd")
+        ), submitted);
+    }
+
+    @ParameterizedTest(name = "[{0}] executeAll waits for pending chunks before submitting to another node")
+    @CsvSource({
+        "sync",
+        "async"
+    })
+    void executeAllWaitsForPendingChunksBeforeChangingNode(String sync) throws Exception {
+        // accepted chunks and successful receipts, in the order the nodes saw them
+        var events = new CopyOnWriteArrayList<String>();
+        var busySent = new AtomicBoolean();
+        var receiptQueries = new AtomicInteger();
+
+        var responses = new ArrayList<List<Object>>();
+
+        for (var node = 0; node < 2; node++) {
+            var nodeName = "node" + node;
+
+            Function<Object, Object> respond = request -> {
+                if (request instanceof Transaction) {
+                    var signedTransaction = SignedTransaction.parseFrom(((Transaction) request).getSignedTransactionBytes());
+                    var contents = TransactionBody.parseFrom(signedTransaction.getBodyBytes()).getFileAppend().getContents().toStringUtf8();
+
+                    // the node which accepted the first two chunks is busy when the third arrives
+                    if (contents.equals("cccc") && !busySent.getAndSet(true)) {
+                        return TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(ResponseCodeEnum.BUSY_VALUE).build();
+                    }
+
+                    events.add(contents + "@" + nodeName);
+                    return TransactionResponse.newBuilder().setNodeTransactionPrecheckCodeValue(0).build();
+                }
+
+                // keep the first receipts pending for a while
+                var status = receiptQueries.incrementAndGet() <= 2 ? ResponseCodeEnum.UNKNOWN : ResponseCodeEnum.SUCCESS;
+
+                if (status == ResponseCodeEnum.SUCCESS) {
+                    events.add("receipt");
+                }
+
+                return Response.newBuilder()
+                    .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setReceipt(TransactionReceipt.newBuilder().setStatus(status))
+                    ).build();
+            };
+
+            responses.add(Collections.nCopies(16, respond));
+        }
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transaction = new FileAppendTransaction()
+                .setFileId(FileId.fromString("0.0.1000"))
+                .setContents("aaaabbbbccccdddd")
+                .setChunkSize(4)
+                .setMaxInFlightChunks(3);
+
+            var transactionResponses = sync.equals("sync")
+                ? transaction.executeAll(mocker.client)
+                : transaction.executeAllAsync(mocker.client).get();
+
+            Assertions.assertEquals(4, transactionResponses.size());
+        }
+
+        var firstNode = events.get(0).substring(5);
+        var moved = events.stream().filter(event -> event.startsWith("cccc@")).findFirst().get();
+        var movedIndex = events.indexOf(moved);
+
+        Assertions.assertNotEquals(firstNode, moved.substring(5));
+        // both chunks pending on the first node reached consensus before the third went to the other node
+        Assertions.assertTrue(events.subList(0, movedIndex).stream().filter("receipt"::equals).count() >= 2);
+    }
+
     private static class TestCryptoService extends CryptoServiceGrpc.CryptoServiceImplBase implements TestService {
         public Buffer buffer = new Buffer();
 
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 
 public class NetworkTest {
     @Test
@@ -67,4 +69,65 @@ public class NetworkTest {
         Collections.sort(network);
         Assertions.assertThat(network.toArray()).isEqualTo(new Node[]{node6, node4, node3, node5});
     }
+
+    private static Network createNetwork() {
+        var map = new HashMap<String, AccountId>();
+        map.put("localhost:50211", new AccountId(3));
+        map.put("localhost:50212", new AccountId(3));
+        map.put("localhost:50213", new AccountId(4));
+        map.put("localhost:50214", new AccountId(5));
+        map.put("localhost:50215", new AccountId(6));
+
+        return Network.forNetwork(Client.createExecutor(), map);
+    }
+
+    @Test
+    void getNumberOfMostHealthyNodesReturnsDistinctKeys() throws InterruptedException {
+        var network = createNetwork();
+
+        for (var i = 0; i < 100; i++) {
+            var nodes = network.getNumberOfMostHealthyNodes(3);
+            var accountIds = new HashSet<AccountId>();
+            for (var node : nodes) {
+                accountIds.add(node.getAccountId());
+            }
+
+            Assertions.assertThat(nodes).hasSize(3);
+            Assertions.assertThat(accountIds).hasSize(3);
+        }
+    }
+
+    @Test
+    void getNodePrefersFasterNodes() {
+        var network = createNetwork();
+        var fast = network.network.get(new AccountId(4)).get(0);
+
+        for (var node : network.nodes) {
+            // 1 ms for the fast node, 100 ms for all others
+            node.recordSuccess(node == fast ? 1_000_000 : 100_000_000);
+        }
+
+        var fastCount = 0;
+        for (var i = 0; i < 1000; i++) {
+            if (network.getNode(null) == fast) {
+                fastCount++;
+            }
+        }
+
+        // The fast node's weight is ~12 times larger than the other four nodes combined
+        Assertions.assertThat(fastCount).isGreaterThan(800);
+    }
+
+    @Test
+    void increaseBackoffRemovesNodeFromHealthyNodes() {
+        var network = createNetwork();
+        var unhealthy = network.network.get(new AccountId(5)).get(0);
+
+        network.increaseBackoff(unhealthy);
+
+        Assertions.assertThat(network.healthyNodes.get()).doesNotContain(unhealthy);
+        for (var i = 0; i < 100; i++) {
+            Assertions.assertThat(network.getNode(null)).isNotSameAs(unhealthy);
+        }
+    }
 }
@@ -0,0 +1,207 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ExchangeRateSet;
+import com.hedera.hashgraph.sdk.proto.FileGetContentsResponse;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TimestampSeconds;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCostCacheTest {
+    private static final ByteString KEY = ByteString.copyFromUtf8("query");
+
+    private static ExchangeRates exchangeRates(int hbars, int cents) throws Exception {
+        var rate = com.hedera.hashgraph.sdk.proto.ExchangeRate.newBuilder()
+            .setHbarEquiv(hbars)
+            .setCentEquiv(cents)
+            .setExpirationTime(TimestampSeconds.newBuilder().setSeconds(Instant.now().getEpochSecond() + 3600));
+
+        return ExchangeRates.fromBytes(ExchangeRateSet.newBuilder()
+            .setCurrentRate(rate)
+            .setNextRate(rate)
+            .build()
+            .toByteArray());
+    }
+
+    private static FeeSchedules feeSchedules() {
+        var nodeData = new FeeComponents()
+            .setMin(0)
+            .setMax(1_000_000_000_000L)
+            .setConstant(10_000_000)
+            .setTransactionBandwidthByte(1_000)
+            .setResponseMemoryByte(2_000);
+
+        return new FeeSchedules().setCurrent(new FeeSchedule()
+            .addTransactionFeeSchedule(new TransactionFeeSchedule()
+                .setRequestType(RequestType.FILE_GET_CONTENTS)
+                .setFeeData(new FeeData().setNodeData(nodeData))));
+    }
+
+    @Test
+    void remembersCostsUntilTheyExpire() throws Exception {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMillis(50));
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+
+        cache.put(KEY, Hbar.fromTinybars(42), 100);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isEqualTo(Hbar.fromTinybars(42));
+
+        Thread.sleep(100);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+    }
+
+    @Test
+    void forgetsCostsWhenInvalidated() {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        cache.put(KEY, Hbar.fromTinybars(42), 100);
+        cache.invalidate(KEY);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+
+        cache.put(KEY, Hbar.fromTinybars(42), 100);
+        cache.invalidateAll();
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+    }
+
+    @Test
+    void forgetsCostsWhenTheExchangeRateChanges() throws Exception {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        cache.put(KEY, Hbar.fromTinybars(42), 100);
+        cache.setExchangeRates(exchangeRates(1, 12));
+
+        // no fee schedules, so nothing to estimate from
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+    }
+
+    @Test
+    void estimatesFromFeeSchedules() throws Exception {
+        var cache = new QueryCostCache();
+        cache.setFeeSchedules(feeSchedules());
+        cache.setExchangeRates(exchangeRates(1, 12));
+
+        // 10_000 + 100 * 1 + 50 * 2 tinycents at 12 tinycents to the tinybar, rounded up
+        assertThat(cache.estimate(RequestType.FILE_GET_CONTENTS, 100, 50)).isEqualTo(850);
+        assertThat(cache.estimate(RequestType.CRYPTO_GET_INFO, 100, 50)).isEqualTo(0);
+    }
+
+    @Test
+    void estimatesWithTheLastResponseSize() throws Exception {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+        cache.setFeeSchedules(feeSchedules());
+        cache.setExchangeRates(exchangeRates(1, 12));
+
+        cache.put(KEY, Hbar.fromTinybars(1), 6_000);
+        cache.invalidate(KEY);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS))
+            .isEqualTo(Hbar.fromTinybars(cache.estimate(
+                RequestType.FILE_GET_CONTENTS,
+                KEY.size() + QueryCostCache.QUERY_HEADER_SIZE,
+                6_000
+            )));
+    }
+
+    @Test
+    void doesNotEstimateBeforeTheFirstAnswer() throws Exception {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+        cache.setFeeSchedules(feeSchedules());
+        cache.setExchangeRates(exchangeRates(1, 12));
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNull();
+
+        cache.putResponseSize(KEY, 6_000);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isNotNull();
+    }
+
+    @Test
+    void responseSizesDoNotReplaceRememberedCosts() {
+        var cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        cache.put(KEY, Hbar.fromTinybars(42), 100);
+        cache.putResponseSize(KEY, 6_000);
+
+        assertThat(cache.getCost(KEY, RequestType.FILE_GET_CONTENTS)).isEqualTo(Hbar.fromTinybars(42));
+    }
+
+    private static Function<Object, Object> contentsPaidWith(long tinybars, String contents) {
+        return o -> {
+            var payment = ((Query) o).getFileGetContents().getHeader().getPayment();
+            var signedTransaction = SignedTransaction.parseFrom(payment.getSignedTransactionBytes());
+            var transfers = TransactionBody.parseFrom(signedTransaction.getBodyBytes())
+                .getCryptoTransfer().getTransfers().getAccountAmountsList();
+
+            assertThat(transfers).anyMatch(transfer -> transfer.getAmount() == tinybars);
+
+            return Response.newBuilder()
+                .setFileGetContents(FileGetContentsResponse.newBuilder()
+                    .setFileContents(FileGetContentsResponse.FileContents.newBuilder()
+                        .setContents(ByteString.copyFromUtf8(contents))))
+                .build();
+        };
+    }
+
+    @Test
+    void skipsTheCostQueryWhileTheCostIsRemembered() throws Exception {
+        var cost = Response.newBuilder()
+            .setFileGetContents(FileGetContentsResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setCost(5)))
+            .build();
+
+        List<Object> responses = List.of(
+            cost,
+            contentsPaidWith(5, "first"),
+            contentsPaidWith(5, "second")
+        );
+
+        try (var mocker = Mocker.withResponses(List.of(responses))) {
+            mocker.client.setQueryCostCacheTtl(Duration.ofMinutes(1));
+
+            var first = new FileContentsQuery().setFileId(new FileId(1)).execute(mocker.client);
+            var second = new FileContentsQuery().setFileId(new FileId(1)).execute(mocker.client);
+
+            assertThat(first.toStringUtf8()).isEqualTo("first");
+            assertThat(second.toStringUtf8()).isEqualTo("second");
+        }
+    }
+}
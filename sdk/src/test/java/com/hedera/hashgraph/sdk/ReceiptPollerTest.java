@@ -0,0 +1,126 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.threeten.bp.Instant;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReceiptPollerTest {
+    private static final AccountId NODE_ID = new AccountId(3);
+
+    private static Response receipt(ResponseCodeEnum precheck, ResponseCodeEnum status) {
+        return Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheck))
+                .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().setStatus(status)))
+            .build();
+    }
+
+    @Test
+    @Timeout(5)
+    void coalescesRequestsForTheSameTransaction() throws Exception {
+        var responses = List.of(List.<Object>of(receipt(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS)));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transactionId = TransactionId.generate(new AccountId(1800));
+            var first = mocker.client.receiptPoller.poll(transactionId, NODE_ID);
+            var second = mocker.client.receiptPoller.poll(transactionId, NODE_ID);
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.get().status).isEqualTo(Status.SUCCESS);
+            assertThat(mocker.client.receiptPoller.getPending()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void pollsEachNodeSeparately() throws Exception {
+        var responses = List.of(
+            List.<Object>of(receipt(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS)),
+            List.<Object>of(receipt(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS))
+        );
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transactionId = TransactionId.generate(new AccountId(1800));
+            var first = mocker.client.receiptPoller.poll(transactionId, NODE_ID);
+            var second = mocker.client.receiptPoller.poll(transactionId, new AccountId(4));
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(first.get().status).isEqualTo(Status.SUCCESS);
+            assertThat(second.get().status).isEqualTo(Status.SUCCESS);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void pollsAgainUntilTheReceiptIsAvailable() throws Exception {
+        var responses = List.of(List.<Object>of(
+            receipt(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN),
+            receipt(ResponseCodeEnum.OK, ResponseCodeEnum.UNKNOWN),
+            receipt(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS)
+        ));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transactionId = TransactionId.generate(new AccountId(1800));
+            var response = new TransactionResponse(NODE_ID, transactionId, new byte[0], null);
+
+            assertThat(response.getReceipt(mocker.client).status).isEqualTo(Status.SUCCESS);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void returnsReceiptsOfTransactionsWhichReachedConsensusLate() throws Exception {
+        var responses = List.of(List.<Object>of(receipt(ResponseCodeEnum.OK, ResponseCodeEnum.SUCCESS)));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transactionId = TransactionId.withValidStart(new AccountId(1800), Instant.now().minusSeconds(300));
+
+            assertThat(mocker.client.receiptPoller.poll(transactionId, NODE_ID).get().status).isEqualTo(Status.SUCCESS);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void dropsTransactionsWhichNeverReachedConsensus() throws Exception {
+        var responses = List.of(List.<Object>of(receipt(ResponseCodeEnum.RECEIPT_NOT_FOUND, ResponseCodeEnum.UNKNOWN)));
+
+        try (var mocker = Mocker.withResponses(responses)) {
+            var transactionId = TransactionId.withValidStart(new AccountId(1800), Instant.now().minusSeconds(3600));
+
+            assertThatThrownBy(() -> mocker.client.receiptPoller.poll(transactionId, NODE_ID).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+            assertThat(mocker.client.receiptPoller.getPending()).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.HederaFunctionality;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class RequestThrottleTest {
+    private static final AccountId NODE = new AccountId(3);
+
+    private static final ThrottleDefinitions DEFINITIONS = ThrottleDefinitions.newBuilder()
+        .addThrottleBuckets(ThrottleBucket.newBuilder()
+            .setName("ThroughputLimits")
+            .setBurstPeriodMs(1_000)
+            .addThrottleGroups(ThrottleGroup.newBuilder()
+                .addOperations(HederaFunctionality.CryptoTransfer)
+                .addOperations(HederaFunctionality.ConsensusSubmitMessage)
+                .setMilliOpsPerSec(10_000))
+            .addThrottleGroups(ThrottleGroup.newBuilder()
+                .addOperations(HederaFunctionality.TokenMint)
+                .setMilliOpsPerSec(2_000)))
+        .build();
+
+    @Test
+    void allowsABurstThenPaces() {
+        var throttle = RequestThrottle.fromProtobuf(DEFINITIONS);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttle.reserve(NODE, 1, RequestType.CRYPTO_TRANSFER)).isZero();
+        }
+
+        // The 11th transfer has to wait for a tenth of the bucket to drain
+        assertThat(throttle.reserve(NODE, 1, RequestType.CONSENSUS_SUBMIT_MESSAGE))
+            .isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void groupsShareTheirBucket() {
+        var throttle = RequestThrottle.fromProtobuf(DEFINITIONS);
+
+        // Each mint takes half of the bucket
+        assertThat(throttle.reserve(NODE, 1, RequestType.TOKEN_MINT)).isZero();
+        assertThat(throttle.reserve(NODE, 1, RequestType.TOKEN_MINT)).isZero();
+        assertThat(throttle.reserve(NODE, 1, RequestType.CRYPTO_TRANSFER)).isPositive();
+    }
+
+    @Test
+    void utilizationScalesTheRates() throws Exception {
+        var throttle = RequestThrottle.fromBytes(DEFINITIONS.toByteArray(), 0.5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(throttle.reserve(NODE, 1, RequestType.CRYPTO_TRANSFER)).isZero();
+        }
+
+        assertThat(throttle.reserve(NODE, 1, RequestType.CRYPTO_TRANSFER)).isPositive();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> RequestThrottle.fromBytes(DEFINITIONS.toByteArray(), 0));
+    }
+
+    @Test
+    void eachNodeTakesItsShareOfTheRate() {
+        var throttle = RequestThrottle.fromProtobuf(DEFINITIONS);
+        var otherNode = new AccountId(4);
+
+        // With two nodes each one only accepts half of the network's transfers
+        for (int i = 0; i < 5; i++) {
+            assertThat(throttle.reserve(NODE, 2, RequestType.CRYPTO_TRANSFER)).isZero();
+        }
+
+        assertThat(throttle.reserve(NODE, 2, RequestType.CRYPTO_TRANSFER)).isPositive();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(throttle.reserve(otherNode, 2, RequestType.CRYPTO_TRANSFER)).isZero();
+        }
+    }
+
+    @Test
+    void unthrottledRequestsAreNotDelayed() {
+        var throttle = RequestThrottle.fromProtobuf(DEFINITIONS);
+
+        assertThat(throttle.isThrottled(RequestType.CRYPTO_TRANSFER)).isTrue();
+        assertThat(throttle.isThrottled(RequestType.CRYPTO_GET_ACCOUNT_BALANCE)).isFalse();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(throttle.reserve(NODE, 1, RequestType.CRYPTO_GET_ACCOUNT_BALANCE)).isZero();
+        }
+    }
+
+    @Test
+    void requestTypesMatchTheirFunctionality() {
+        assertThat(RequestTypeHelper.fromDataCase(TransactionBody.DataCase.CRYPTOTRANSFER)).isEqualTo(RequestType.CRYPTO_TRANSFER);
+        assertThat(RequestTypeHelper.fromDataCase(TransactionBody.DataCase.TOKENASSOCIATE)).isEqualTo(RequestType.TOKEN_ASSOCIATE_TO_ACCOUNT);
+        assertThat(RequestTypeHelper.fromQueryCase(com.hedera.hashgraph.sdk.proto.Query.QueryCase.TRANSACTIONGETRECEIPT))
+            .isEqualTo(RequestType.TRANSACTION_GET_RECEIPT);
+        assertThat(RequestTypeHelper.fromDataCase(TransactionBody.DataCase.DATA_NOT_SET)).isEqualTo(RequestType.NONE);
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionReconnectSchedulerTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @Timeout(5)
+    void limitsConcurrentReconnects() throws InterruptedException {
+        var scheduler = new SubscriptionReconnectScheduler(executor, 1);
+        List<Runnable> releases = new CopyOnWriteArrayList<>();
+        var firstStarted = new CountDownLatch(1);
+        var secondStarted = new CountDownLatch(1);
+
+        scheduler.schedule(0, release -> {
+            releases.add(release);
+            firstStarted.countDown();
+        });
+        assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        scheduler.schedule(0, release -> {
+            releases.add(release);
+            secondStarted.countDown();
+        });
+
+        // The second reconnect must wait for the first to release its slot
+        assertThat(secondStarted.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(scheduler.getActive()).isEqualTo(1);
+        assertThat(scheduler.getWaiting()).isEqualTo(1);
+
+        releases.get(0).run();
+        // Releasing twice must not free a second slot
+        releases.get(0).run();
+
+        assertThat(secondStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.getActive()).isEqualTo(1);
+        assertThat(scheduler.getWaiting()).isEqualTo(0);
+
+        releases.get(1).run();
+        assertThat(scheduler.getActive()).isEqualTo(0);
+    }
+
+    @Test
+    @Timeout(5)
+    void raisingLimitStartsWaitingReconnects() throws InterruptedException {
+        var scheduler = new SubscriptionReconnectScheduler(executor, 1);
+        var started = new CountDownLatch(2);
+
+        scheduler.schedule(0, release -> started.countDown());
+        scheduler.schedule(0, release -> started.countDown());
+
+        assertThat(started.await(300, TimeUnit.MILLISECONDS)).isFalse();
+
+        scheduler.setMaxConcurrent(2);
+
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
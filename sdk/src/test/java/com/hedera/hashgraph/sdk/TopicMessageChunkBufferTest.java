@@ -0,0 +1,124 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicMessageChunkBufferTest {
+    private static final long START_SECONDS = 1_600_000_000L;
+
+    @Test
+    void completeGroupIsEmittedAndEvicted() {
+        var buffer = new TopicMessageChunkBuffer(Duration.ofMinutes(10), 1024);
+
+        assertThat(buffer.add(chunk(1, 1, 2, 0))).isNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(1);
+        assertThat(buffer.getPendingBytes()).isEqualTo(4);
+
+        var message = buffer.add(chunk(1, 2, 2, 1));
+        assertThat(message).isNotNull();
+        assertThat(message.contents).hasSize(8);
+        assertThat(buffer.getPendingGroups()).isEqualTo(0);
+        assertThat(buffer.getPendingBytes()).isEqualTo(0);
+        assertThat(buffer.getDroppedGroups()).isEqualTo(0);
+    }
+
+    @Test
+    void duplicateChunkDoesNotCompleteGroup() {
+        var buffer = new TopicMessageChunkBuffer(Duration.ofMinutes(10), 1024);
+
+        assertThat(buffer.add(chunk(1, 1, 2, 0))).isNull();
+        assertThat(buffer.add(chunk(1, 1, 2, 1))).isNull();
+        assertThat(buffer.getPendingBytes()).isEqualTo(4);
+        assertThat(buffer.add(chunk(1, 2, 2, 2))).isNotNull();
+    }
+
+    @Test
+    void invalidChunksDoNotStartGroups() {
+        var buffer = new TopicMessageChunkBuffer(Duration.ofMinutes(10), 1024);
+
+        assertThat(buffer.add(chunk(1, 1, 0, 0))).isNull();
+        assertThat(buffer.add(chunk(2, 0, 2, 1))).isNull();
+        assertThat(buffer.add(chunk(3, 3, 2, 2))).isNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(0);
+        assertThat(buffer.getPendingBytes()).isEqualTo(0);
+    }
+
+    @Test
+    void incompleteGroupExpiresByConsensusTime() {
+        var buffer = new TopicMessageChunkBuffer(Duration.ofSeconds(30), 1024);
+
+        assertThat(buffer.add(chunk(1, 1, 2, 0))).isNull();
+        assertThat(buffer.add(chunk(2, 1, 2, 10))).isNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(2);
+
+        // 31 seconds after the first chunk of group 1, but only 21 after group 2
+        assertThat(buffer.add(chunk(3, 1, 2, 31))).isNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(2);
+        assertThat(buffer.getDroppedGroups()).isEqualTo(1);
+
+        // group 2 is still inside the window and can complete
+        assertThat(buffer.add(chunk(2, 2, 2, 32))).isNotNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(1);
+        assertThat(buffer.getPendingBytes()).isEqualTo(4);
+    }
+
+    @Test
+    void oldestGroupsAreDroppedWhenOverBudget() {
+        var buffer = new TopicMessageChunkBuffer(Duration.ofMinutes(10), 8);
+
+        assertThat(buffer.add(chunk(1, 1, 3, 0))).isNull();
+        assertThat(buffer.add(chunk(2, 1, 3, 1))).isNull();
+        assertThat(buffer.getPendingBytes()).isEqualTo(8);
+
+        assertThat(buffer.add(chunk(3, 1, 3, 2))).isNull();
+        assertThat(buffer.getPendingGroups()).isEqualTo(2);
+        assertThat(buffer.getPendingBytes()).isEqualTo(8);
+        assertThat(buffer.getDroppedGroups()).isEqualTo(1);
+    }
+
+    private static ConsensusTopicResponse chunk(long group, int number, int total, long secondsAfterStart) {
+        var chunkInfo = ConsensusMessageChunkInfo.newBuilder()
+            .setInitialTransactionID(TransactionID.newBuilder()
+                .setAccountID(AccountID.newBuilder().setAccountNum(3).build())
+                .setTransactionValidStart(Timestamp.newBuilder().setSeconds(START_SECONDS + group).build())
+                .build())
+            .setNumber(number)
+            .setTotal(total)
+            .build();
+
+        return ConsensusTopicResponse.newBuilder()
+            .setChunkInfo(chunkInfo)
+            .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(START_SECONDS + secondsAfterStart).build())
+            .setSequenceNumber(secondsAfterStart + 1)
+            .setMessage(ByteString.copyFrom(new byte[]{1, 2, 3, 4}))
+            .setRunningHash(ByteString.copyFrom(new byte[]{5}))
+            .build();
+    }
+}
@@ -48,6 +48,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
@@ -59,6 +61,8 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -199,6 +203,120 @@ class TopicMessageQueryTest {
         assertThat(received).hasSize(2).extracting(t -> t.sequenceNumber).containsExactly(1L, 2L);
     }
 
+    @Test
+    @Timeout(3)
+    void asPublisherRespectsDemand() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        var subscription = new AtomicReference<Subscription>();
+        topicMessageQuery.asPublisher(client).subscribe(new Subscriber<TopicMessage>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(TopicMessage topicMessage) {
+                received.add(topicMessage);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                complete.set(true);
+            }
+        });
+
+        Uninterruptibles.sleepUninterruptibly(500, TimeUnit.MILLISECONDS);
+
+        assertThat(errors).isEmpty();
+        assertThat(complete).isFalse();
+        assertThat(received).hasSize(1).extracting(t -> t.sequenceNumber).containsExactly(1L);
+
+        subscription.get().request(2);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        while (!complete.get() && errors.isEmpty() && stopwatch.elapsed(TimeUnit.SECONDS) < 2) {
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(errors).isEmpty();
+        assertThat(complete).isTrue();
+        assertThat(received).hasSize(3).extracting(t -> t.sequenceNumber).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @Timeout(10)
+    void asPublisherNeverDeliversBeyondDemandWhenRequestedFromAnotherThread() throws Exception {
+        var total = 200;
+
+        consensusServiceStub.requests.add(request().build());
+        for (var i = 1; i <= total; i++) {
+            consensusServiceStub.responses.add(response(i));
+        }
+
+        var requested = new AtomicLong();
+        var delivered = new AtomicLong();
+        var overDelivered = new AtomicBoolean();
+        var subscription = new AtomicReference<Subscription>();
+
+        topicMessageQuery.asPublisher(client).subscribe(new Subscriber<TopicMessage>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                requested.incrementAndGet();
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(TopicMessage topicMessage) {
+                if (delivered.incrementAndGet() > requested.get()) {
+                    overDelivered.set(true);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                complete.set(true);
+            }
+        });
+
+        // Demand arrives from a second thread while the stream is delivering on the gRPC thread
+        var requester = new Thread(() -> {
+            while (requested.get() < total) {
+                requested.incrementAndGet();
+                subscription.get().request(1);
+                Thread.yield();
+            }
+        });
+        requester.start();
+        requester.join();
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        while (!complete.get() && errors.isEmpty() && stopwatch.elapsed(TimeUnit.SECONDS) < 5) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(errors).isEmpty();
+        assertThat(overDelivered).isFalse();
+        assertThat(delivered.get()).isEqualTo(total);
+        assertThat(complete).isTrue();
+    }
+
     @Test
     @Timeout(3)
     void subscribeChunked() {
@@ -0,0 +1,109 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionSignatureVerifierTest {
+    private final PrivateKey key1 = PrivateKey.generateED25519();
+    private final PrivateKey key2 = PrivateKey.generateED25519();
+    private final PrivateKey key3 = PrivateKey.generateED25519();
+
+    private static TransferTransaction transaction() {
+        return new TransferTransaction()
+            .setNodeAccountIds(List.of(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.generate(new AccountId(1001)))
+            .freeze();
+    }
+
+    /**
+     * Sign the transaction and read it back from bytes, so the signatures must be checked rather than trusting
+     * the signers.
+     */
+    private static Transaction<?> signedBy(PrivateKey... keys) throws Exception {
+        var transaction = transaction();
+
+        for (var key : keys) {
+            transaction.sign(key);
+        }
+
+        return Transaction.fromBytes(transaction.toBytes());
+    }
+
+    @Test
+    void verifiesEveryNodeBody() throws Exception {
+        var transaction = signedBy(key1);
+        var verifier = new TransactionSignatureVerifier();
+
+        assertThat(verifier.verify(key1.getPublicKey(), transaction)).isTrue();
+        assertThat(verifier.verify(key2.getPublicKey(), transaction)).isFalse();
+        assertThat(key1.getPublicKey().verifyTransaction(transaction)).isTrue();
+    }
+
+    @Test
+    void trustsPendingSigners() {
+        var transaction = transaction().sign(key1);
+
+        assertThat(new TransactionSignatureVerifier().verify(key1.getPublicKey(), transaction)).isTrue();
+    }
+
+    @Test
+    void rejectsSignaturesOverOtherBodies() {
+        var forged = new TransferTransaction()
+            .setNodeAccountIds(List.of(new AccountId(3)))
+            .setTransactionId(TransactionId.generate(new AccountId(1001)))
+            .freeze()
+            .addSignature(key1.getPublicKey(), key1.sign(new byte[]{1, 2, 3}));
+
+        assertThat(new TransactionSignatureVerifier().verify(key1.getPublicKey(), forged)).isFalse();
+        assertThat(key1.getPublicKey().verifyTransaction(forged)).isFalse();
+    }
+
+    @Test
+    void verifiesKeyListsInOnePass() throws Exception {
+        var transaction = signedBy(key1, key3);
+
+        var all = KeyList.of(key1.getPublicKey(), key2.getPublicKey(), key3.getPublicKey());
+        var twoOfThree = KeyList.withThreshold(2);
+        twoOfThree.addAll(all);
+        var nested = KeyList.of(key1.getPublicKey(), KeyList.of(key3.getPublicKey()));
+
+        var verifier = new TransactionSignatureVerifier();
+
+        assertThat(verifier.verify(all, transaction)).isFalse();
+        assertThat(verifier.verify(twoOfThree, transaction)).isTrue();
+        assertThat(verifier.verify(nested, transaction)).isTrue();
+        assertThat(verifier.verify(new KeyList(), transaction)).isFalse();
+    }
+
+    @Test
+    void verifiesManyTransactions() throws Exception {
+        var signed = signedBy(key1);
+        var unsigned = signedBy(key2);
+
+        var results = new TransactionSignatureVerifier().verifyAll(key1.getPublicKey(), List.of(signed, unsigned, signed));
+
+        assertThat(results).containsExactly(true, false, true);
+    }
+}
@@ -0,0 +1,104 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSigningTest {
+    private static final PrivateKey FIRST_KEY = PrivateKey.fromString(
+        "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final PrivateKey SECOND_KEY = PrivateKey.fromString(
+        "302e020100300506032b65700422042099b8587e5abccf6999b0d42b88c581c45284290450487ce90095561c85af11e4");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    private static TransferTransaction spawnTestTransaction() {
+        return new TransferTransaction()
+            .setNodeAccountIds(List.of(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(5006), Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(new AccountId(5006), Hbar.fromTinybars(-100))
+            .addHbarTransfer(new AccountId(5007), Hbar.fromTinybars(100))
+            .freeze();
+    }
+
+    @Test
+    void parallelSigningMatchesSerialSigning() {
+        var serial = spawnTestTransaction()
+            .sign(FIRST_KEY)
+            .sign(SECOND_KEY)
+            .toBytes();
+
+        var parallel = spawnTestTransaction()
+            .setSigningExecutor(executor)
+            .sign(FIRST_KEY)
+            .sign(SECOND_KEY)
+            .toBytes();
+
+        assertThat(parallel).isEqualTo(serial);
+    }
+
+    @Test
+    void asyncSignerMatchesSyncSigner() {
+        var sync = spawnTestTransaction()
+            .sign(FIRST_KEY)
+            .sign(SECOND_KEY)
+            .toBytes();
+
+        var async = spawnTestTransaction()
+            .sign(FIRST_KEY)
+            .signWithAsync(SECOND_KEY.getPublicKey(),
+                bytes -> CompletableFuture.supplyAsync(() -> SECOND_KEY.sign(bytes), executor))
+            .toBytes();
+
+        assertThat(async).isEqualTo(sync);
+    }
+
+    @Test
+    void asyncSignerFailureIsReported() {
+        var transaction = spawnTestTransaction()
+            .signWithAsync(FIRST_KEY.getPublicKey(),
+                bytes -> CompletableFuture.failedFuture(new IllegalStateException("signer unavailable")));
+
+        assertThatThrownBy(transaction::toBytes)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("signer unavailable");
+    }
+}
@@ -20,10 +20,26 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TransactionTest {
     @Test
@@ -35,4 +51,100 @@ public class TransactionTest {
         assertEquals(transaction.getHbarTransfers().get(new AccountId(476260)), new Hbar(1).negated());
         assertEquals(transaction.getHbarTransfers().get(new AccountId(476267)), new Hbar(1));
     }
+
+    @Test
+    void withoutNodeAccountIdMasksOnlyTheNodeAccountId() throws InvalidProtocolBufferException {
+        var body = TransactionBody.newBuilder()
+            .setTransactionID(TransactionId.withValidStart(new AccountId(5), Instant.ofEpochSecond(1)).toProtobuf())
+            .setMemo("memo");
+
+        var bodyA = body.setNodeAccountID(new AccountId(3).toProtobuf()).build().toByteString();
+        var bodyB = body.setNodeAccountID(new AccountId(4).toProtobuf()).build().toByteString();
+        var bodyC = body.setMemo("other").build().toByteString();
+
+        assertNotEquals(bodyA, bodyB);
+        assertEquals(Transaction.withoutNodeAccountId(bodyA), Transaction.withoutNodeAccountId(bodyB));
+        assertNotEquals(Transaction.withoutNodeAccountId(bodyA), Transaction.withoutNodeAccountId(bodyC));
+        assertEquals(
+            TransactionBody.parseFrom(Transaction.withoutNodeAccountId(bodyA)),
+            TransactionBody.parseFrom(bodyA).toBuilder().clearNodeAccountID().build()
+        );
+    }
+
+    @Test
+    void transactionFromBytesRejectsMismatchedNodeBodies() throws InvalidProtocolBufferException {
+        var transactionId = TransactionId.withValidStart(new AccountId(5), Instant.ofEpochSecond(1));
+        var list = TransactionList.newBuilder();
+
+        for (var node = 3; node <= 4; node++) {
+            var body = TransactionBody.newBuilder()
+                .setTransactionID(transactionId.toProtobuf())
+                .setNodeAccountID(new AccountId(node).toProtobuf())
+                .setMemo("memo " + node)
+                .setCryptoTransfer(CryptoTransferTransactionBody.getDefaultInstance());
+
+            list.addTransactionList(com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
+                .setSignedTransactionBytes(SignedTransaction.newBuilder()
+                    .setBodyBytes(body.build().toByteString())
+                    .build()
+                    .toByteString()));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Transaction.fromBytes(list.build().toByteArray()));
+    }
+
+    @Test
+    void transactionFromBytesAcceptsMultiNodeTransactions() throws InvalidProtocolBufferException {
+        var transaction = new TransferTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4), new AccountId(5)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(5), Instant.ofEpochSecond(1)))
+            .setTransactionMemo("memo")
+            .addHbarTransfer(new AccountId(5), new Hbar(1).negated())
+            .addHbarTransfer(new AccountId(6), new Hbar(1))
+            .freeze();
+
+        var decoded = Transaction.fromBytes(transaction.toBytes());
+
+        assertEquals(transaction.getNodeAccountIds(), decoded.getNodeAccountIds());
+        assertEquals("memo", decoded.getTransactionMemo());
+    }
+
+    @Test
+    void transactionWritesAndReadsBuffersAndStreams() throws IOException {
+        var transaction = new TransferTransaction()
+            .setNodeAccountIds(Arrays.asList(new AccountId(3), new AccountId(4)))
+            .setTransactionId(TransactionId.withValidStart(new AccountId(5), Instant.ofEpochSecond(1)))
+            .addHbarTransfer(new AccountId(5), new Hbar(1).negated())
+            .addHbarTransfer(new AccountId(6), new Hbar(1))
+            .freeze()
+            .sign(PrivateKey.generateED25519());
+
+        var bytes = transaction.toBytes();
+
+        var list = TransactionList.newBuilder();
+        for (var outer : transaction.outerTransactions) {
+            list.addTransactionList(outer);
+        }
+        assertArrayEquals(list.build().toByteArray(), bytes);
+        assertEquals(bytes.length, transaction.getSerializedSize());
+
+        var buffer = ByteBuffer.allocate(bytes.length + 2);
+        buffer.put((byte) 1);
+        transaction.writeTo(buffer);
+        assertEquals(bytes.length + 1, buffer.position());
+        assertThrows(BufferOverflowException.class, () -> transaction.writeTo(buffer));
+
+        buffer.flip().position(1);
+        var fromBuffer = Transaction.fromByteBuffer(buffer);
+        assertFalse(buffer.hasRemaining());
+        assertArrayEquals(bytes, fromBuffer.toBytes());
+
+        var stream = new ByteArrayOutputStream();
+        transaction.writeTo(stream);
+        assertArrayEquals(bytes, stream.toByteArray());
+
+        var fromStream = Transaction.fromInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        assertArrayEquals(bytes, fromStream.toBytes());
+        assertEquals(transaction.getNodeAccountIds(), fromStream.getNodeAccountIds());
+    }
 }